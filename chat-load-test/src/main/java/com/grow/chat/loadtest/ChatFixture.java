@@ -0,0 +1,63 @@
+package com.grow.chat.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용 채팅방/멤버 준비 (REST)
+ *
+ * 실행마다 새 studyId/memberId 구간을 써서 이전 실행 데이터와 겹치지 않게 한다.
+ * 클라이언트 i 는 memberId(i) 로 rooms 개 채팅방 중 i % rooms 번째 방에 입장한다.
+ */
+@Slf4j
+public class ChatFixture {
+
+    private final List<Long> roomIds;
+    private final long memberIdBase;
+
+    private ChatFixture(List<Long> roomIds, long memberIdBase) {
+        this.roomIds = roomIds;
+        this.memberIdBase = memberIdBase;
+    }
+
+    public static ChatFixture create(String target, int rooms, int clients) {
+        RestClient restClient = RestClient.create(target);
+        long base = System.currentTimeMillis() * 1000;
+
+        List<Long> roomIds = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            JsonNode room = restClient.post()
+                    .uri("/api/chat/rooms?studyId={studyId}&roomName={roomName}", base + i, "load-test-" + i)
+                    .retrieve()
+                    .body(JsonNode.class);
+            roomIds.add(room.get("id").asLong());
+        }
+
+        ChatFixture fixture = new ChatFixture(roomIds, base);
+        for (int i = 0; i < clients; i++) {
+            restClient.post()
+                    .uri("/api/chat/rooms/{chatRoomId}/join?memberId={memberId}", fixture.roomOf(i), fixture.memberOf(i))
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+
+        log.info("부하 테스트 데이터 준비 완료: rooms={}, clients={}, memberIdBase={}", rooms, clients, base);
+        return fixture;
+    }
+
+    public long roomOf(int clientIndex) {
+        return roomIds.get(clientIndex % roomIds.size());
+    }
+
+    public long memberOf(int clientIndex) {
+        return memberIdBase + clientIndex;
+    }
+
+    public List<Long> roomIds() {
+        return roomIds;
+    }
+}
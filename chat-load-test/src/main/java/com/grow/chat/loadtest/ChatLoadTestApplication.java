@@ -0,0 +1,20 @@
+package com.grow.chat.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+/**
+ * chat-service 부하 테스트 도구
+ *
+ * 다수의 STOMP over WebSocket 클라이언트로 chat-service 에 부하를 주고
+ * 발행 → 수신 지연 백분위, 노드별 초당 메시지 수, 연결당 메모리를 JSON 리포트로 남긴다.
+ */
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class ChatLoadTestApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(ChatLoadTestApplication.class, args)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.grow.chat.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 채팅 메시지 수신 기록 - 발행 → 수신 지연(마이크로초 HdrHistogram)과 노드별 수신 건수
+ * 클라이언트 수신 스레드들이 동시에 기록하므로 HdrHistogram Recorder 를 사용한다.
+ */
+public class DeliveryRecorder {
+
+    private final Recorder recorder = new Recorder(3);
+    private final AtomicLongArray deliveriesPerNode;
+
+    public DeliveryRecorder(int nodes) {
+        this.deliveriesPerNode = new AtomicLongArray(nodes);
+    }
+
+    public void record(int targetIndex, long latencyNanos) {
+        recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        deliveriesPerNode.incrementAndGet(targetIndex);
+    }
+
+    /**
+     * 지금까지의 기록을 버리고 새 구간을 시작한다.
+     */
+    public void reset() {
+        recorder.reset();
+        for (int i = 0; i < deliveriesPerNode.length(); i++) {
+            deliveriesPerNode.set(i, 0);
+        }
+    }
+
+    /**
+     * 마지막 reset 이후 구간의 지연 분포
+     */
+    public Histogram interval() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long deliveries(int targetIndex) {
+        return deliveriesPerNode.get(targetIndex);
+    }
+}
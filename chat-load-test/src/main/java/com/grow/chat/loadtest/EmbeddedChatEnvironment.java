@@ -0,0 +1,152 @@
+package com.grow.chat.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 실행 모드 - Redis/PostgreSQL/Kafka 컨테이너를 띄우고 chat-service jar 를 자식 프로세스로 실행한다.
+ *
+ * 별도 인프라 없이 로컬/CI 에서 같은 조건으로 반복 측정할 때 사용한다. (Docker 필요, Eureka 등록은 끈다)
+ * embedded.nodes 개 프로세스를 service-port 부터 포트를 1씩 늘려 띄우고, 같은 Redis/PostgreSQL/Kafka 를 공유한다.
+ * 서비스 로그는 report-dir/chat-service-{노드 번호}.log 에 남긴다.
+ */
+@Slf4j
+public class EmbeddedChatEnvironment implements AutoCloseable {
+
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+    private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+    private final KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("apache/kafka:3.8.0"));
+
+    private final List<Process> services = new ArrayList<>();
+
+    private LoadTestProperties.Embedded embedded;
+    private Path reportDir;
+
+    /**
+     * @return 노드 대상 주소 목록
+     */
+    public List<String> start(LoadTestProperties.Embedded embedded, Path reportDir) throws Exception {
+        File jar = new File(embedded.serviceJar());
+        if (!jar.isFile()) {
+            throw new IllegalArgumentException("chat-service jar 가 없습니다. 먼저 chat-service 에서 bootJar 를 실행하세요: " + jar.getAbsolutePath());
+        }
+        this.embedded = embedded;
+        this.reportDir = reportDir;
+
+        log.info("컨테이너 시작: redis, postgres, kafka");
+        redis.start();
+        postgres.start();
+        kafka.start();
+
+        return startServices(List.of());
+    }
+
+    /**
+     * 컨테이너는 그대로 두고 chat-service 만 추가 인자로 다시 띄운다. (예: --chat.pubsub.channel-mode=global)
+     */
+    public List<String> restart(List<String> extraArgs) throws Exception {
+        stopServices();
+        return startServices(extraArgs);
+    }
+
+    private List<String> startServices(List<String> extraArgs) throws Exception {
+        Files.createDirectories(reportDir);
+        int nodes = Math.max(1, embedded.nodes());
+        List<String> targets = new ArrayList<>(nodes);
+
+        for (int node = 0; node < nodes; node++) {
+            int port = embedded.servicePort() + node;
+            List<String> command = new ArrayList<>(List.of(
+                    ProcessHandle.current().info().command().orElse("java"),
+                    "-jar", new File(embedded.serviceJar()).getAbsolutePath(),
+                    "--server.port=" + port,
+                    "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                    "--spring.datasource.username=" + postgres.getUsername(),
+                    "--spring.datasource.password=" + postgres.getPassword(),
+                    "--spring.jpa.show-sql=false",
+                    "--spring.data.redis.host=" + redis.getHost(),
+                    "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                    "--spring.kafka.bootstrap-servers=" + kafka.getBootstrapServers(),
+                    "--eureka.client.enabled=false"));
+            command.addAll(extraArgs);
+
+            File serviceLog = reportDir.resolve("chat-service-" + node + ".log").toFile();
+            services.add(new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(serviceLog))
+                    .start());
+            targets.add("http://localhost:" + port);
+        }
+
+        for (int node = 0; node < nodes; node++) {
+            awaitHealthy(services.get(node), targets.get(node), embedded.startupTimeoutSeconds());
+        }
+        log.info("chat-service 기동 완료: targets={}, args={}", targets, extraArgs);
+        return targets;
+    }
+
+    public String jdbcUrl() {
+        return postgres.getJdbcUrl();
+    }
+
+    public String jdbcUsername() {
+        return postgres.getUsername();
+    }
+
+    public String jdbcPassword() {
+        return postgres.getPassword();
+    }
+
+    private static void awaitHealthy(Process service, String target, int timeoutSeconds) throws InterruptedException {
+        RestClient restClient = RestClient.create(target);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        while (System.nanoTime() < deadline) {
+            if (!service.isAlive()) {
+                throw new IllegalStateException("chat-service 프로세스가 종료되었습니다. exitCode=" + service.exitValue());
+            }
+            try {
+                restClient.get().uri("/actuator/health").retrieve().toBodilessEntity();
+                return;
+            } catch (Exception e) {
+                Thread.sleep(1000);
+            }
+        }
+        throw new IllegalStateException("chat-service 기동 대기 시간 초과: " + timeoutSeconds + "s");
+    }
+
+    private void stopServices() {
+        for (Process service : services) {
+            service.destroy();
+            try {
+                if (!service.waitFor(30, TimeUnit.SECONDS)) {
+                    service.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                service.destroyForcibly();
+            }
+        }
+        services.clear();
+    }
+
+    @Override
+    public void close() {
+        stopServices();
+        kafka.stop();
+        postgres.stop();
+        redis.stop();
+    }
+}
@@ -0,0 +1,220 @@
+package com.grow.chat.loadtest;
+
+import com.grow.chat.loadtest.scenario.LatencySummary;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이력 조회 시나리오용 대량 메시지 적재 + 깊이별 키셋/OFFSET 벤치마크 (PostgreSQL 직접 접속)
+ *
+ * 준비된 채팅방들에 messages 건을 고르게 나눠 generate_series 로 INSERT 한다. (chunk 단위 커밋)
+ * 본문은 검색 벤치마크(SearchBenchmark)용으로 일련번호와 짧은 한국어 문장 5종 중 하나를 섞는다.
+ * created_at 은 span-days 전부터 현재까지 ID 순서대로 증가시켜 월 파티션 프루닝 조건도 실제와 같게 만든다.
+ *
+ * 적재 후 ANALYZE 하고, 채팅방 하나의 depth-percents 깊이(0 = 최신, 100 = 마지막 페이지)마다 같은 페이지를
+ * 키셋(서비스와 같은 id < beforeId AND created_at <= 커서 시각 + 여유)과 OFFSET 으로 benchmark-iterations 번씩 번갈아 읽어
+ * 지연 분포를 리포트(historyDepths)에 남긴다. 깊이별 EXPLAIN (ANALYZE, BUFFERS) 은 report-dir/history-explain.txt 에 기록한다.
+ */
+@Slf4j
+public final class HistorySeeder {
+
+    private static final long CHUNK_SIZE = 1_000_000;
+    // ChatMessageService.CURSOR_TIME_SLACK 과 같게
+    private static final long CURSOR_SLACK_MINUTES = 5;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_messages (chat_room_id, sender_id, sender_nickname, content, message_type, created_at)
+            SELECT rooms[1 + (g % cardinality(rooms))], 0, 'load-test',
+                   'load-test history ' || g || ' ' || (ARRAY['오늘 스터디 시작합니다', '회의 일정 공유드려요',
+                       '질문 있습니다', '과제 제출 완료', '공지 확인 부탁해요'])[1 + (g % 5)], 'CHAT',
+                   LOCALTIMESTAMP - make_interval(secs => (? - g) * ?)
+            FROM generate_series(?::bigint, ?::bigint) g, (SELECT ?::bigint[] AS rooms) r
+            """;
+
+    private static final String CURSOR_SQL = """
+            SELECT id, created_at FROM chat_messages WHERE chat_room_id = ? ORDER BY id DESC OFFSET ? LIMIT 1
+            """;
+
+    private static final String KEYSET_SQL = """
+            SELECT id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at
+            FROM chat_messages
+            WHERE chat_room_id = ? AND id < ? AND created_at <= ?
+            ORDER BY id DESC
+            LIMIT ?
+            """;
+
+    private static final String OFFSET_SQL = """
+            SELECT id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at
+            FROM chat_messages
+            WHERE chat_room_id = ?
+            ORDER BY id DESC
+            OFFSET ? LIMIT ?
+            """;
+
+    private HistorySeeder() {
+    }
+
+    /**
+     * @return 깊이별 키셋/OFFSET 조회 지연
+     */
+    public static List<LoadTestReport.HistoryDepthRow> seed(LoadTestProperties.Seed seed, String jdbcUrl,
+                                                           String username, String password, List<Long> roomIds,
+                                                           int pageSize, Path reportDir) throws Exception {
+        long total = seed.messages();
+        double stepSeconds = seed.spanDays() * 86400.0 / total;
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            connection.setAutoCommit(false);
+            Array rooms = connection.createArrayOf("bigint", roomIds.toArray());
+
+            long startedAt = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                for (long from = 1; from <= total; from += CHUNK_SIZE) {
+                    long to = Math.min(from + CHUNK_SIZE - 1, total);
+                    insert.setLong(1, total);
+                    insert.setDouble(2, stepSeconds);
+                    insert.setLong(3, from);
+                    insert.setLong(4, to);
+                    insert.setArray(5, rooms);
+                    insert.executeUpdate();
+                    connection.commit();
+                    log.info("이력 메시지 적재: {}/{}", to, total);
+                }
+            }
+            log.info("이력 메시지 적재 완료: {}건, {}s", total, (System.nanoTime() - startedAt) / 1_000_000_000);
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE chat_messages");
+            }
+
+            return benchmarkDepths(connection, seed, roomIds.get(0), pageSize, reportDir);
+        }
+    }
+
+    /**
+     * 채팅방 하나의 깊이별로 같은 페이지를 키셋/OFFSET 으로 읽어 지연과 실행 계획을 기록
+     */
+    private static List<LoadTestReport.HistoryDepthRow> benchmarkDepths(Connection connection, LoadTestProperties.Seed seed,
+                                                                        long chatRoomId, int pageSize,
+                                                                        Path reportDir) throws Exception {
+        long roomMessages;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT count(*) FROM chat_messages WHERE chat_room_id = ?")) {
+            statement.setLong(1, chatRoomId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                roomMessages = resultSet.getLong(1);
+            }
+        }
+        int limit = pageSize + 1;
+        if (roomMessages <= limit) {
+            log.warn("깊이별 벤치마크 생략 - 채팅방 메시지가 한 페이지 이하입니다: chatRoomId={}, count={}", chatRoomId, roomMessages);
+            return List.of();
+        }
+
+        List<LoadTestReport.HistoryDepthRow> rows = new ArrayList<>();
+        List<String> plans = new ArrayList<>();
+        for (int percent : seed.depthPercents()) {
+            // 커서 = depth 번째 메시지, 다음 페이지를 두 방식으로 읽는다 (100% 는 마지막 페이지)
+            long depth = Math.min(roomMessages * percent / 100, roomMessages - limit - 1);
+            long beforeId;
+            Timestamp createdAtTo;
+            try (PreparedStatement statement = connection.prepareStatement(CURSOR_SQL)) {
+                statement.setLong(1, chatRoomId);
+                statement.setLong(2, depth);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    beforeId = resultSet.getLong(1);
+                    createdAtTo = Timestamp.valueOf(resultSet.getTimestamp(2).toLocalDateTime()
+                            .plusMinutes(CURSOR_SLACK_MINUTES));
+                }
+            }
+
+            try (PreparedStatement keyset = connection.prepareStatement(KEYSET_SQL);
+                 PreparedStatement offset = connection.prepareStatement(OFFSET_SQL)) {
+                keyset.setLong(1, chatRoomId);
+                keyset.setLong(2, beforeId);
+                keyset.setTimestamp(3, createdAtTo);
+                keyset.setInt(4, limit);
+                offset.setLong(1, chatRoomId);
+                offset.setLong(2, depth + 1);
+                offset.setInt(3, limit);
+
+                // 첫 실행(버퍼 적재)은 제외하고, 한쪽이 캐시를 덥혀 주지 않도록 번갈아 실행
+                drain(keyset);
+                drain(offset);
+                Histogram keysetMicros = new Histogram(3);
+                Histogram offsetMicros = new Histogram(3);
+                for (int i = 0; i < seed.benchmarkIterations(); i++) {
+                    keysetMicros.recordValue(timeMicros(keyset));
+                    offsetMicros.recordValue(timeMicros(offset));
+                }
+
+                LoadTestReport.HistoryDepthRow row = new LoadTestReport.HistoryDepthRow(percent, depth, beforeId,
+                        LatencySummary.fromMicros(keysetMicros), LatencySummary.fromMicros(offsetMicros));
+                rows.add(row);
+                log.info("이력 깊이 {}% (offset {}): keyset p99={}ms, offset p99={}ms",
+                        percent, depth, row.keyset().p99(), row.offset().p99());
+            }
+
+            plans.add("# depth " + percent + "% keyset: chatRoomId=" + chatRoomId + ", beforeId=" + beforeId
+                    + ", createdAtTo=" + createdAtTo + ", limit=" + limit);
+            plans.addAll(explain(connection, KEYSET_SQL, chatRoomId, beforeId, createdAtTo, limit));
+            plans.add("");
+            plans.add("# depth " + percent + "% offset: chatRoomId=" + chatRoomId + ", offset=" + (depth + 1) + ", limit=" + limit);
+            plans.addAll(explain(connection, OFFSET_SQL, chatRoomId, depth + 1, limit));
+            plans.add("");
+        }
+
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve("history-explain.txt");
+        Files.write(file, plans);
+        log.info("이력 조회 실행 계획 기록: {}", file);
+        return rows;
+    }
+
+    private static long timeMicros(PreparedStatement statement) throws SQLException {
+        long start = System.nanoTime();
+        drain(statement);
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    }
+
+    // 결과를 끝까지 읽어야 전송 비용까지 포함된다
+    private static void drain(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getString(5);
+            }
+        }
+    }
+
+    private static List<String> explain(Connection connection, String sql, Object... params) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+}
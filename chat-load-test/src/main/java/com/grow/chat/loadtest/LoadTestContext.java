@@ -0,0 +1,15 @@
+package com.grow.chat.loadtest;
+
+import java.util.List;
+
+/**
+ * 시나리오 실행에 필요한 공용 상태 - 설정, 대상 노드, 준비된 채팅방/멤버, 연결된 클라이언트
+ */
+public record LoadTestContext(
+        LoadTestProperties properties,
+        List<String> targets,
+        ChatFixture fixture,
+        List<StompLoadClient> clients,
+        DeliveryRecorder deliveryRecorder
+) {
+}
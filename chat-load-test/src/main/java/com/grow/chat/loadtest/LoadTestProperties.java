@@ -0,0 +1,66 @@
+package com.grow.chat.loadtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * @param brokerMode 대상 chat-service 의 chat.broker.mode (simple | relay) - 구독 목적지 구분자가 다르다 (simple "/", relay ".")
+ */
+@ConfigurationProperties("loadtest")
+public record LoadTestProperties(
+        List<String> targets,
+        String brokerMode,
+        List<String> scenarios,
+        int clients,
+        int rooms,
+        int connectRatePerSecond,
+        Send send,
+        JoinLeave joinLeave,
+        History history,
+        RoomSweep roomSweep,
+        String reportDir,
+        Embedded embedded
+) {
+
+    public record Send(int durationSeconds, double messagesPerSecondPerClient) {
+    }
+
+    public record JoinLeave(int cycles, long timeoutMs) {
+    }
+
+    public record History(int requests, int concurrency, int pageSize, int pagesPerRequest, Seed seed, Search search) {
+    }
+
+    /**
+     * 이력 메시지 대량 적재 - messages 가 0 이면 적재하지 않는다. (내장 모드는 jdbc 설정 대신 컨테이너 사용)
+     *
+     * @param depthPercents       적재 후 키셋/OFFSET 을 비교할 채팅방 내 깊이(%) - 0 은 최신, 100 은 마지막 페이지
+     * @param benchmarkIterations 깊이마다 두 방식을 각각 실행할 횟수
+     */
+    public record Seed(long messages, int spanDays, String jdbcUrl, String username, String password,
+                       List<Integer> depthPercents, int benchmarkIterations) {
+    }
+
+    /**
+     * 검색 벤치마크 - history.seed 적재 후 검색어마다 첫 페이지 지연을 잰다
+     *
+     * @param schemaFile  내장 모드에서 적재 전에 적용할 검색 색인 스크립트 (chat-service db/chat_messages_search.sql)
+     * @param targetP99Ms 검색어 × 범위별 p99 목표 - 넘으면 리포트 withinTarget=false
+     */
+    public record Search(boolean enabled, List<String> queries, int iterations, double targetP99Ms, String schemaFile) {
+    }
+
+    /**
+     * 채팅방 수 스윕 - channel-modes(global | room) 별로 room-counts 채팅방에 같은 클라이언트를 나눠 send 를 돌리며
+     * 노드별 CPU 를 sample-interval-ms 마다 읽는다. 외부 대상은 배포된 모드 하나만 지정한다. (내장 모드는 모드마다 재기동)
+     */
+    public record RoomSweep(boolean enabled, List<Integer> roomCounts, List<String> channelModes, long sampleIntervalMs) {
+    }
+
+    /**
+     * @param nodes 같은 컨테이너를 쓰는 chat-service 프로세스 수 (service-port 부터 1씩 증가) - 노드 간 팬아웃 측정용
+     */
+    public record Embedded(boolean enabled, String serviceJar, int servicePort, int nodes, int startupTimeoutSeconds) {
+    }
+}
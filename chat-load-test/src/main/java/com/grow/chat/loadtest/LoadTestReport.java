@@ -0,0 +1,88 @@
+package com.grow.chat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.grow.chat.loadtest.scenario.LatencySummary;
+import com.grow.chat.loadtest.scenario.ScenarioResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 부하 테스트 결과 리포트 - report-dir 에 chat-load-{시각}.json 과 latest.json 으로 남긴다.
+ * 실행 간 비교(회귀 확인)는 같은 설정의 리포트끼리 latency/throughput 을 비교한다.
+ * history.search 를 켰으면 검색어 × 범위별 첫 페이지 지연(search)이, room-sweep 을 실행했으면 채널 모드 × 채팅방 수 × 노드별 CPU 행(roomSweep)이 함께 들어간다.
+ */
+public record LoadTestReport(
+        Instant startedAt,
+        Instant finishedAt,
+        LoadTestProperties config,
+        List<NodeReport> nodes,
+        List<ScenarioResult> scenarios,
+        List<HistoryDepthRow> historyDepths,
+        List<SearchRow> search,
+        List<RoomSweepRow> roomSweep
+) {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneId.systemDefault());
+
+    /**
+     * @param connections          이 노드에 연결된 클라이언트 수 (연결 실패 제외)
+     * @param bytesPerConnection   (연결 후 힙 - 연결 전 힙) / connections, 조회 실패 시 -1
+     */
+    public record NodeReport(String target, int connections, long heapBefore, long heapAfter, long bytesPerConnection) {
+    }
+
+    /**
+     * 채팅방 한 곳의 같은 깊이 페이지를 키셋/OFFSET 으로 읽은 지연 (history.seed 적재 후)
+     *
+     * @param depthPercent 채팅방 내 깊이(%) - 0 은 최신, 100 은 마지막 페이지
+     * @param depth        커서 앞 메시지 수 (OFFSET 은 depth + 1)
+     */
+    public record HistoryDepthRow(int depthPercent, long depth, long beforeId, LatencySummary keyset, LatencySummary offset) {
+    }
+
+    /**
+     * 검색어 하나를 채팅방 rooms 곳 범위에서 검색한 첫 페이지 지연 (history.seed 적재 후)
+     *
+     * @param tsquery     서비스와 같은 규칙으로 만든 tsquery
+     * @param hits        첫 페이지 결과 수 (page-size + 1 이하)
+     * @param withinTarget p99 가 history.search.target-p99-ms 이하인지
+     */
+    public record SearchRow(String query, String tsquery, int rooms, int hits, LatencySummary latency,
+                            boolean withinTarget) {
+    }
+
+    /**
+     * room-sweep 한 단계의 노드 한 개 (CPU 사용률은 0~1, 조회 실패 시 -1)
+     *
+     * @param channelMode             chat.pubsub.channel-mode (global: 단일 채널, room: 채팅방별 채널)
+     * @param processCpuAverage       send 구간 동안 process.cpu.usage 평균
+     * @param pubSubReceivedPerSecond 노드가 받은 초당 Redis Pub/Sub 메시지 수 (chat.pubsub.received 증가량)
+     * @param deliveriesPerSecond     노드에 연결된 클라이언트가 받은 초당 메시지 수
+     */
+    public record RoomSweepRow(String channelMode, int rooms, String target, int connections,
+                               double processCpuAverage, double processCpuMax, double systemCpuAverage,
+                               double pubSubReceivedPerSecond, double deliveriesPerSecond, double p99) {
+    }
+
+    public Path write(Path directory) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve("chat-load-" + FILE_TIME.format(startedAt) + ".json");
+        objectMapper.writeValue(file.toFile(), this);
+        objectMapper.writeValue(directory.resolve("latest.json").toFile(), this);
+        return file;
+    }
+}
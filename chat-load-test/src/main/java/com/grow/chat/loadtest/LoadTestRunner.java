@@ -0,0 +1,306 @@
+package com.grow.chat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.grow.chat.loadtest.scenario.HistoryFetchScenario;
+import com.grow.chat.loadtest.scenario.JoinLeaveStormScenario;
+import com.grow.chat.loadtest.scenario.LoadScenario;
+import com.grow.chat.loadtest.scenario.ScenarioResult;
+import com.grow.chat.loadtest.scenario.SendMessageScenario;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트 실행 순서
+ * 1. (내장 모드) 컨테이너 + chat-service 기동
+ * 2. 채팅방/멤버 준비 → (history.seed) 이력 메시지 적재 → 노드별 힙 측정 → 클라이언트 연결/입장 → 노드별 힙 재측정
+ * 3. loadtest.scenarios 순서대로 시나리오 실행 (비어 있으면 2, 3 생략)
+ * 4. (room-sweep.enabled) 채널 모드 × 채팅방 수마다 새로 준비/연결해 send 를 돌리며 노드별 CPU 샘플링
+ * 5. 리포트 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner {
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 30;
+    private static final long HEARTBEAT_MILLIS = 10000;
+
+    private final LoadTestProperties properties;
+
+    private final Map<String, LoadScenario> scenarios = Stream.of(
+                    new SendMessageScenario(),
+                    new JoinLeaveStormScenario(),
+                    new HistoryFetchScenario())
+            .collect(Collectors.toMap(LoadScenario::name, Function.identity()));
+
+    @Override
+    public void run(String... args) throws Exception {
+        List<LoadScenario> selected = (properties.scenarios() == null ? List.<String>of() : properties.scenarios()).stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> {
+                    LoadScenario scenario = scenarios.get(name);
+                    if (scenario == null) {
+                        throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + name + " (사용 가능: " + scenarios.keySet() + ")");
+                    }
+                    return scenario;
+                })
+                .toList();
+
+        Path reportDir = Path.of(properties.reportDir());
+        Instant startedAt = Instant.now();
+
+        try (EmbeddedChatEnvironment environment = properties.embedded().enabled() ? new EmbeddedChatEnvironment() : null) {
+            List<String> targets = environment != null
+                    ? environment.start(properties.embedded(), reportDir)
+                    : properties.targets();
+
+            List<LoadTestReport.NodeReport> nodes = List.of();
+            List<ScenarioResult> results = new ArrayList<>();
+            List<LoadTestReport.HistoryDepthRow> historyDepths = List.of();
+            List<LoadTestReport.SearchRow> search = List.of();
+            if (!selected.isEmpty()) {
+                ChatFixture fixture = ChatFixture.create(targets.get(0), properties.rooms(), properties.clients());
+                if (seedsHistory(selected)) {
+                    historyDepths = seedHistory(environment, fixture, reportDir);
+                    search = benchmarkSearch(environment, fixture, reportDir);
+                }
+                DeliveryRecorder deliveryRecorder = new DeliveryRecorder(targets.size());
+
+                long[] heapBefore = targets.stream().mapToLong(NodeMetricsProbe::heapUsed).toArray();
+                WebSocketStompClient stompClient = stompClient();
+                List<StompLoadClient> clients = connectClients(stompClient, targets, fixture, deliveryRecorder);
+                long[] heapAfter = targets.stream().mapToLong(NodeMetricsProbe::heapUsed).toArray();
+
+                LoadTestContext context = new LoadTestContext(properties, targets, fixture, clients, deliveryRecorder);
+                for (LoadScenario scenario : selected) {
+                    log.info("시나리오 시작: {}", scenario.name());
+                    results.add(scenario.run(context));
+                }
+
+                clients.forEach(StompLoadClient::disconnect);
+                stompClient.stop();
+                nodes = nodeReports(targets, clients, heapBefore, heapAfter);
+            }
+
+            List<LoadTestReport.RoomSweepRow> roomSweep = runRoomSweep(environment, targets);
+
+            LoadTestReport report = new LoadTestReport(startedAt, Instant.now(), properties, nodes, results,
+                    historyDepths, search, roomSweep);
+            log.info("리포트 기록: {}", report.write(reportDir));
+        }
+    }
+
+    /**
+     * 채팅방 수 스윕 - 같은 클라이언트 수를 room-counts 채팅방에 나눠 send 시나리오를 돌리고 노드별 CPU 를 기록한다.
+     * 채팅방이 많을수록 room 모드는 노드가 자기 구독 채팅방 메시지만 받고, global 모드는 전부 받는다.
+     * 내장 모드는 channel-modes 마다 chat-service 를 해당 모드로 다시 띄운다.
+     */
+    private List<LoadTestReport.RoomSweepRow> runRoomSweep(EmbeddedChatEnvironment environment,
+                                                          List<String> targets) throws Exception {
+        LoadTestProperties.RoomSweep sweep = properties.roomSweep();
+        if (sweep == null || !sweep.enabled()) {
+            return List.of();
+        }
+        if (environment == null && sweep.channelModes().size() != 1) {
+            throw new IllegalArgumentException("외부 대상은 배포된 chat.pubsub.channel-mode 하나만 loadtest.room-sweep.channel-modes 에 지정하세요.");
+        }
+
+        SendMessageScenario send = new SendMessageScenario();
+        int durationSeconds = properties.send().durationSeconds();
+        List<LoadTestReport.RoomSweepRow> rows = new ArrayList<>();
+
+        for (String channelMode : sweep.channelModes()) {
+            List<String> modeTargets = environment != null
+                    ? environment.restart(List.of("--chat.pubsub.channel-mode=" + channelMode))
+                    : targets;
+
+            for (int rooms : sweep.roomCounts()) {
+                log.info("room-sweep 시작: channelMode={}, rooms={}", channelMode, rooms);
+                ChatFixture fixture = ChatFixture.create(modeTargets.get(0), rooms, properties.clients());
+                DeliveryRecorder deliveryRecorder = new DeliveryRecorder(modeTargets.size());
+                WebSocketStompClient stompClient = stompClient();
+                List<StompLoadClient> clients = connectClients(stompClient, modeTargets, fixture, deliveryRecorder);
+
+                double[] receivedBefore = modeTargets.stream().mapToDouble(NodeMetricsProbe::pubSubReceived).toArray();
+                try (NodeCpuSampler sampler = new NodeCpuSampler(modeTargets, sweep.sampleIntervalMs())) {
+                    ScenarioResult result = send.run(
+                            new LoadTestContext(properties, modeTargets, fixture, clients, deliveryRecorder));
+
+                    for (int i = 0; i < modeTargets.size(); i++) {
+                        int targetIndex = i;
+                        String target = modeTargets.get(i);
+                        double receivedAfter = NodeMetricsProbe.pubSubReceived(target);
+                        double pubSubRate = receivedBefore[i] < 0 || receivedAfter < 0
+                                ? -1
+                                : (receivedAfter - receivedBefore[i]) / durationSeconds;
+
+                        rows.add(new LoadTestReport.RoomSweepRow(channelMode, rooms, target,
+                                (int) clients.stream().filter(client -> client.targetIndex() == targetIndex).count(),
+                                sampler.processAverage(i), sampler.processMax(i), sampler.systemAverage(i),
+                                pubSubRate, result.perNodeRate().getOrDefault(target, 0.0), result.latency().p99()));
+                    }
+                }
+
+                clients.forEach(StompLoadClient::disconnect);
+                stompClient.stop();
+            }
+        }
+
+        rows.forEach(row -> log.info("room-sweep: mode={}, rooms={}, target={}, cpu={}, pubsub/s={}",
+                row.channelMode(), row.rooms(), row.target(), row.processCpuAverage(), row.pubSubReceivedPerSecond()));
+        return rows;
+    }
+
+    /**
+     * history 시나리오를 실행하고 history.seed.messages 가 있으면 준비된 채팅방에 이력 메시지를 적재한다.
+     */
+    private boolean seedsHistory(List<LoadScenario> selected) {
+        LoadTestProperties.Seed seed = properties.history().seed();
+        return seed != null && seed.messages() > 0 && selected.stream().anyMatch(HistoryFetchScenario.class::isInstance);
+    }
+
+    /**
+     * @return 적재 후 깊이별 키셋/OFFSET 조회 지연
+     */
+    private List<LoadTestReport.HistoryDepthRow> seedHistory(EmbeddedChatEnvironment environment, ChatFixture fixture,
+                                                             Path reportDir) throws Exception {
+        LoadTestProperties.History history = properties.history();
+        JdbcTarget jdbc = jdbcTarget(environment);
+
+        // 내장 모드는 적재 전에 검색 색인을 적용해 적재 행이 트리거로 색인되게 한다
+        if (environment != null && searchEnabled()) {
+            SearchBenchmark.applySchema(Path.of(history.search().schemaFile()), jdbc.url(), jdbc.username(), jdbc.password());
+        }
+        return HistorySeeder.seed(history.seed(), jdbc.url(), jdbc.username(), jdbc.password(),
+                fixture.roomIds(), history.pageSize(), reportDir);
+    }
+
+    /**
+     * @return 검색어 × 범위별 첫 페이지 지연 (history.search 가 꺼져 있으면 빈 목록)
+     */
+    private List<LoadTestReport.SearchRow> benchmarkSearch(EmbeddedChatEnvironment environment, ChatFixture fixture,
+                                                          Path reportDir) throws Exception {
+        if (!searchEnabled()) {
+            return List.of();
+        }
+        JdbcTarget jdbc = jdbcTarget(environment);
+        return SearchBenchmark.run(properties.history().search(), jdbc.url(), jdbc.username(), jdbc.password(),
+                fixture.roomIds(), properties.history().pageSize(), reportDir);
+    }
+
+    private boolean searchEnabled() {
+        LoadTestProperties.Search search = properties.history().search();
+        return search != null && search.enabled();
+    }
+
+    private JdbcTarget jdbcTarget(EmbeddedChatEnvironment environment) {
+        if (environment != null) {
+            return new JdbcTarget(environment.jdbcUrl(), environment.jdbcUsername(), environment.jdbcPassword());
+        }
+        LoadTestProperties.Seed seed = properties.history().seed();
+        if (seed.jdbcUrl() == null || seed.jdbcUrl().isBlank()) {
+            throw new IllegalArgumentException("loadtest.history.seed.jdbc-url 이 필요합니다. (내장 모드가 아닐 때)");
+        }
+        return new JdbcTarget(seed.jdbcUrl(), seed.username(), seed.password());
+    }
+
+    private record JdbcTarget(String url, String username, String password) {
+    }
+
+    private WebSocketStompClient stompClient() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("lt-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{HEARTBEAT_MILLIS, HEARTBEAT_MILLIS});
+        return stompClient;
+    }
+
+    /**
+     * connect-rate-per-second 속도로 연결한 뒤 모두 /app/chat.join 으로 입장시킨다.
+     * 연결에 실패한 클라이언트는 시나리오에서 제외한다.
+     */
+    private List<StompLoadClient> connectClients(WebSocketStompClient stompClient, List<String> targets,
+                                                 ChatFixture fixture, DeliveryRecorder deliveryRecorder) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, properties.connectRatePerSecond());
+        // 내장 모드는 simple 브로커로 띄운다
+        String destinationSeparator = !properties.embedded().enabled() && "relay".equalsIgnoreCase(properties.brokerMode())
+                ? "." : "/";
+        List<StompLoadClient> candidates = new ArrayList<>(properties.clients());
+        List<CompletableFuture<?>> connecting = new ArrayList<>(properties.clients());
+
+        for (int i = 0; i < properties.clients(); i++) {
+            int targetIndex = i % targets.size();
+            StompLoadClient client = new StompLoadClient(i, targetIndex, fixture.roomOf(i), fixture.memberOf(i),
+                    destinationSeparator, latency -> deliveryRecorder.record(targetIndex, latency));
+            candidates.add(client);
+            connecting.add(client.connect(stompClient, targets.get(targetIndex)));
+            TimeUnit.NANOSECONDS.sleep(intervalNanos);
+        }
+
+        for (CompletableFuture<?> future : connecting) {
+            try {
+                future.get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.debug("연결 실패: {}", e.getMessage());
+            }
+        }
+        List<StompLoadClient> connected = candidates.stream().filter(StompLoadClient::isConnected).toList();
+        log.info("클라이언트 연결 완료: {}/{}", connected.size(), candidates.size());
+
+        List<CompletableFuture<Long>> joining = connected.stream()
+                .map(client -> client.join().orTimeout(properties.joinLeave().timeoutMs(), TimeUnit.MILLISECONDS))
+                .toList();
+        long joinFailures = joining.stream().filter(future -> {
+            try {
+                future.join();
+                return false;
+            } catch (Exception e) {
+                return true;
+            }
+        }).count();
+        log.info("입장 완료: 실패 {}", joinFailures);
+        return connected;
+    }
+
+    private List<LoadTestReport.NodeReport> nodeReports(List<String> targets, List<StompLoadClient> clients,
+                                                        long[] heapBefore, long[] heapAfter) {
+        List<LoadTestReport.NodeReport> nodes = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            int targetIndex = i;
+            int connections = (int) clients.stream().filter(client -> client.targetIndex() == targetIndex).count();
+            long bytesPerConnection = heapBefore[i] < 0 || heapAfter[i] < 0 || connections == 0
+                    ? -1
+                    : (heapAfter[i] - heapBefore[i]) / connections;
+            nodes.add(new LoadTestReport.NodeReport(targets.get(i), connections, heapBefore[i], heapAfter[i], bytesPerConnection));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,74 @@
+package com.grow.chat.loadtest;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 노드별 CPU 사용률을 주기적으로 읽어 평균/최대를 낸다.
+ *
+ * actuator 의 process.cpu.usage 는 최근 짧은 구간 값이라 한 번 읽은 값은 흔들린다. 구간 내내 샘플링해 평균을 본다.
+ * 조회에 실패한 샘플(-1)은 제외한다.
+ */
+public class NodeCpuSampler implements AutoCloseable {
+
+    private final List<String> targets;
+    private final double[] processSum;
+    private final double[] processMax;
+    private final double[] systemSum;
+    private final int[] samples;
+    private final ScheduledExecutorService scheduler;
+
+    public NodeCpuSampler(List<String> targets, long intervalMillis) {
+        this.targets = targets;
+        this.processSum = new double[targets.size()];
+        this.processMax = new double[targets.size()];
+        this.systemSum = new double[targets.size()];
+        this.samples = new int[targets.size()];
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lt-cpu-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        for (int i = 0; i < targets.size(); i++) {
+            double process = NodeMetricsProbe.processCpuUsage(targets.get(i));
+            double system = NodeMetricsProbe.systemCpuUsage(targets.get(i));
+            if (process < 0 || system < 0) {
+                continue;
+            }
+            processSum[i] += process;
+            processMax[i] = Math.max(processMax[i], process);
+            systemSum[i] += system;
+            samples[i]++;
+        }
+    }
+
+    /**
+     * @return 샘플이 없으면 -1
+     */
+    public synchronized double processAverage(int targetIndex) {
+        return samples[targetIndex] == 0 ? -1 : processSum[targetIndex] / samples[targetIndex];
+    }
+
+    public synchronized double processMax(int targetIndex) {
+        return samples[targetIndex] == 0 ? -1 : processMax[targetIndex];
+    }
+
+    public synchronized double systemAverage(int targetIndex) {
+        return samples[targetIndex] == 0 ? -1 : systemSum[targetIndex] / samples[targetIndex];
+    }
+
+    public synchronized int samples(int targetIndex) {
+        return samples[targetIndex];
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
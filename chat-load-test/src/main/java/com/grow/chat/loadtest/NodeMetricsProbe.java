@@ -0,0 +1,65 @@
+package com.grow.chat.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 노드 지표 조회 - /actuator/metrics/{name}
+ *
+ * - 힙 사용량: 연결 전후 차이를 연결 수로 나눠 연결당 메모리를 추정한다. (GC 시점에 따라 오차가 있으므로 연결 수가 많을수록 정확하다)
+ * - CPU 사용률: process.cpu.usage / system.cpu.usage (0~1, 전체 코어 기준 최근 사용률) - NodeCpuSampler 가 주기적으로 읽는다
+ * - Pub/Sub 수신 수: chat.pubsub.received 누적값 - 구간 전후 차이로 노드가 받은 Redis 메시지 수를 구한다
+ */
+@Slf4j
+public final class NodeMetricsProbe {
+
+    private NodeMetricsProbe() {
+    }
+
+    /**
+     * @return 힙 사용 바이트, 조회 실패 시 -1
+     */
+    public static long heapUsed(String target) {
+        return (long) value(target, "jvm.memory.used?tag=area:heap");
+    }
+
+    /**
+     * @return chat-service 프로세스 CPU 사용률(0~1), 조회 실패 시 -1
+     */
+    public static double processCpuUsage(String target) {
+        return value(target, "process.cpu.usage");
+    }
+
+    /**
+     * @return 노드(호스트) CPU 사용률(0~1), 조회 실패 시 -1
+     */
+    public static double systemCpuUsage(String target) {
+        return value(target, "system.cpu.usage");
+    }
+
+    /**
+     * @return Redis Pub/Sub 누적 수신 수, 조회 실패 시 -1 (relay 모드는 Redis 채널을 쓰지 않아 0)
+     */
+    public static double pubSubReceived(String target) {
+        return value(target, "chat.pubsub.received");
+    }
+
+    private static double value(String target, String metric) {
+        try {
+            JsonNode body = RestClient.create(target).get()
+                    .uri("/actuator/metrics/" + metric)
+                    .retrieve()
+                    .body(JsonNode.class);
+            for (JsonNode measurement : body.path("measurements")) {
+                String statistic = measurement.path("statistic").asText();
+                if ("VALUE".equals(statistic) || "COUNT".equals(statistic)) {
+                    return measurement.path("value").asDouble();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("노드 지표 조회 실패: target={}, metric={}, {}", target, metric, e.getMessage());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,211 @@
+package com.grow.chat.loadtest;
+
+import com.grow.chat.loadtest.scenario.LatencySummary;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 메시지 검색 벤치마크 (PostgreSQL 직접 접속) - history.seed 적재 후 실행
+ *
+ * 검색어마다 서비스와 같은 쿼리(ChatMessageSearchRepository)로 첫 페이지를 채팅방 하나 / 준비된 채팅방 전체 범위에서
+ * iterations 번 읽어 지연 분포를 리포트(search)에 남긴다. p99 가 target-p99-ms 를 넘으면 경고한다.
+ * 검색어별 EXPLAIN (ANALYZE, BUFFERS) 은 report-dir/search-explain.txt 에 기록한다.
+ *
+ * 내장 모드는 적재 전에 db/chat_messages_search.sql 을 적용해 적재 행이 트리거로 색인되게 한다.
+ * 외부 대상은 search_vector 컬럼이 없으면(색인 미적용) 건너뛴다.
+ */
+@Slf4j
+public final class SearchBenchmark {
+
+    // ChatMessageSearchService 와 같은 단어 분리 규칙
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^a-z0-9가-힣]+");
+    private static final String BACKFILL_CALL = "CALL chat_messages_search_backfill();";
+
+    private SearchBenchmark() {
+    }
+
+    /**
+     * 검색 색인 적용 - 백필 프로시저는 내부에서 COMMIT 하므로 스크립트와 분리해 단독 문장으로 호출한다
+     */
+    public static void applySchema(Path schemaFile, String jdbcUrl, String username, String password) throws Exception {
+        String script = Files.readString(schemaFile);
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute(script.replace(BACKFILL_CALL, ""));
+            statement.execute(BACKFILL_CALL);
+        }
+        log.info("검색 색인 적용: {}", schemaFile);
+    }
+
+    /**
+     * @return 검색어 × 범위별 첫 페이지 지연 (색인이 없으면 빈 목록)
+     */
+    public static List<LoadTestReport.SearchRow> run(LoadTestProperties.Search search, String jdbcUrl, String username,
+                                                     String password, List<Long> roomIds, int pageSize,
+                                                     Path reportDir) throws Exception {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            if (!searchIndexed(connection)) {
+                log.warn("검색 벤치마크 생략 - chat_messages.search_vector 가 없습니다. (db/chat_messages_search.sql 미적용)");
+                return List.of();
+            }
+
+            int limit = pageSize + 1;
+            List<LoadTestReport.SearchRow> rows = new ArrayList<>();
+            List<String> plans = new ArrayList<>();
+            for (String query : search.queries()) {
+                List<String> words = words(query);
+                if (words.isEmpty()) {
+                    continue;
+                }
+                String tsquery = toTsquery(words);
+
+                for (List<Long> scope : List.of(roomIds.subList(0, 1), roomIds)) {
+                    Array rooms = connection.createArrayOf("bigint", scope.toArray());
+                    try (PreparedStatement statement = connection.prepareStatement(searchSql(words.size()))) {
+                        bind(statement, rooms, tsquery, words, limit);
+
+                        // 첫 실행(버퍼 적재)은 제외
+                        int hits = drain(statement);
+                        Histogram micros = new Histogram(3);
+                        for (int i = 0; i < search.iterations(); i++) {
+                            micros.recordValue(timeMicros(statement));
+                        }
+
+                        LatencySummary latency = LatencySummary.fromMicros(micros);
+                        rows.add(new LoadTestReport.SearchRow(query, tsquery, scope.size(), hits, latency,
+                                latency.p99() <= search.targetP99Ms()));
+                        if (latency.p99() > search.targetP99Ms()) {
+                            log.warn("검색 p99 목표 초과: query='{}', rooms={}, p99={}ms (목표 {}ms)",
+                                    query, scope.size(), latency.p99(), search.targetP99Ms());
+                        } else {
+                            log.info("검색: query='{}', rooms={}, hits={}, p99={}ms", query, scope.size(), hits, latency.p99());
+                        }
+                    }
+
+                    plans.add("# query '" + query + "' (" + tsquery + "), rooms=" + scope.size() + ", limit=" + limit);
+                    plans.addAll(explain(connection, words.size(), rooms, tsquery, words, limit));
+                    plans.add("");
+                }
+            }
+
+            Files.createDirectories(reportDir);
+            Path file = reportDir.resolve("search-explain.txt");
+            Files.write(file, plans);
+            log.info("검색 실행 계획 기록: {}", file);
+            return rows;
+        }
+    }
+
+    // ChatMessageSearchRepository.search 의 첫 페이지 쿼리와 같게
+    private static String searchSql(int wordCount) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at
+                FROM chat_messages
+                WHERE chat_room_id = ANY(?::bigint[])
+                  AND search_vector @@ CAST(? AS tsquery)
+                  AND message_type = 'CHAT'
+                """);
+        for (int i = 0; i < wordCount; i++) {
+            sql.append("  AND strpos(lower(content), ?) > 0\n");
+        }
+        sql.append("ORDER BY id DESC LIMIT ?");
+        return sql.toString();
+    }
+
+    private static void bind(PreparedStatement statement, Array rooms, String tsquery, List<String> words,
+                             int limit) throws SQLException {
+        int index = 1;
+        statement.setArray(index++, rooms);
+        statement.setString(index++, tsquery);
+        for (String word : words) {
+            statement.setString(index++, word);
+        }
+        statement.setInt(index, limit);
+    }
+
+    // ChatMessageSearchService.words 와 같게
+    static List<String> words(String query) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(query.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    // ChatMessageSearchService.toTsquery 와 같게 (2글자 이상은 bigram, 1글자는 unigram)
+    static String toTsquery(List<String> words) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word.length() == 1) {
+                terms.add("'" + word + "'");
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add("'" + word.substring(i, i + 2) + "'");
+            }
+        }
+        return String.join(" & ", terms);
+    }
+
+    private static boolean searchIndexed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT EXISTS (SELECT 1 FROM information_schema.columns
+                                    WHERE table_name = 'chat_messages' AND column_name = 'search_vector')
+                     """)) {
+            resultSet.next();
+            return resultSet.getBoolean(1);
+        }
+    }
+
+    private static long timeMicros(PreparedStatement statement) throws SQLException {
+        long start = System.nanoTime();
+        drain(statement);
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    }
+
+    // 결과를 끝까지 읽어야 전송 비용까지 포함된다
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getString(5);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static List<String> explain(Connection connection, int wordCount, Array rooms, String tsquery,
+                                        List<String> words, int limit) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + searchSql(wordCount))) {
+            bind(statement, rooms, tsquery, words, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+}
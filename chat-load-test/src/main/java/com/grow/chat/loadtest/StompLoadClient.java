@@ -0,0 +1,187 @@
+package com.grow.chat.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 부하 테스트 클라이언트 한 명 - STOMP 세션 하나로 채팅방 메시지/접속자 변경분을 구독한다.
+ *
+ * 발신 메시지 본문에 "lt:{System.nanoTime()}" 을 넣고, 수신 시 현재 시각과의 차이를 발행 → 수신 지연으로 기록한다.
+ * (발신/수신이 같은 JVM 이므로 nanoTime 비교가 가능하다)
+ */
+@Slf4j
+public class StompLoadClient {
+
+    static final String LATENCY_PREFIX = "lt:";
+
+    private final int index;
+    private final int targetIndex;
+    private final long chatRoomId;
+    private final long memberId;
+    private final String destinationSeparator;
+    private final LongConsumer deliveryLatencyListener;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private volatile StompSession session;
+    private volatile CompletableFuture<Long> pendingJoin;
+    private volatile CompletableFuture<Long> pendingLeave;
+
+    /**
+     * @param destinationSeparator 구독 목적지 구분자 - chat.broker.mode 가 simple 이면 "/", relay 면 "."
+     */
+    public StompLoadClient(int index, int targetIndex, long chatRoomId, long memberId, String destinationSeparator,
+                           LongConsumer deliveryLatencyListener) {
+        this.index = index;
+        this.targetIndex = targetIndex;
+        this.chatRoomId = chatRoomId;
+        this.memberId = memberId;
+        this.destinationSeparator = destinationSeparator;
+        this.deliveryLatencyListener = deliveryLatencyListener;
+    }
+
+    public CompletableFuture<StompSession> connect(WebSocketStompClient stompClient, String target) {
+        String url = target.replaceFirst("^http", "ws") + "/ws-chat/websocket";
+        return stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleException(StompSession session, StompCommand command,
+                                        StompHeaders headers, byte[] payload, Throwable exception) {
+                errors.incrementAndGet();
+            }
+
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                errors.incrementAndGet();
+                log.debug("전송 오류: client={}, {}", index, exception.getMessage());
+            }
+        }).thenApply(connected -> {
+            this.session = connected;
+            String chatRoomTopic = "/topic/chatroom" + destinationSeparator + chatRoomId;
+            connected.subscribe(chatRoomTopic, new JsonFrameHandler(this::onChatMessage));
+            connected.subscribe(chatRoomTopic + destinationSeparator + "presence", new JsonFrameHandler(this::onPresenceDelta));
+            return connected;
+        });
+    }
+
+    public void sendChat() {
+        send("/app/chat.sendMessage", LATENCY_PREFIX + System.nanoTime());
+    }
+
+    /**
+     * 입장 전송 후 자신의 memberId 가 joined 에 포함된 변경분을 받으면 완료 (값: 지연 나노초)
+     */
+    public CompletableFuture<Long> join() {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        long startedAt = System.nanoTime();
+        pendingJoin = future;
+        send("/app/chat.join", "join");
+        return future.thenApply(completedAt -> completedAt - startedAt);
+    }
+
+    public CompletableFuture<Long> leave() {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        long startedAt = System.nanoTime();
+        pendingLeave = future;
+        send("/app/chat.leave", "leave");
+        return future.thenApply(completedAt -> completedAt - startedAt);
+    }
+
+    private void send(String destination, String content) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            errors.incrementAndGet();
+            return;
+        }
+
+        try {
+            current.send(destination, Map.of(
+                    "chatRoomId", chatRoomId,
+                    "senderId", memberId,
+                    "senderNickname", "lt-" + index,
+                    "content", content,
+                    "messageType", "CHAT"));
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private void onChatMessage(JsonNode message) {
+        received.incrementAndGet();
+        String content = message.path("content").asText("");
+        if (content.startsWith(LATENCY_PREFIX)) {
+            long sentAt = Long.parseLong(content.substring(LATENCY_PREFIX.length()));
+            deliveryLatencyListener.accept(System.nanoTime() - sentAt);
+        }
+    }
+
+    private void onPresenceDelta(JsonNode delta) {
+        long now = System.nanoTime();
+        CompletableFuture<Long> join = pendingJoin;
+        if (join != null) {
+            for (JsonNode member : delta.path("joined")) {
+                if (member.path("memberId").asLong() == memberId) {
+                    join.complete(now);
+                }
+            }
+        }
+        CompletableFuture<Long> leave = pendingLeave;
+        if (leave != null) {
+            for (JsonNode left : delta.path("left")) {
+                if (left.asLong() == memberId) {
+                    leave.complete(now);
+                }
+            }
+        }
+    }
+
+    public void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    public boolean isConnected() {
+        StompSession current = session;
+        return current != null && current.isConnected();
+    }
+
+    public int targetIndex() {
+        return targetIndex;
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    private record JsonFrameHandler(Consumer<JsonNode> consumer) implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            consumer.accept((JsonNode) payload);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.grow.chat.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.grow.chat.loadtest.LoadTestContext;
+import com.grow.chat.loadtest.LoadTestProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Recorder;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 이력 조회 시나리오 - 채팅방 최신 페이지부터 nextCursor(beforeId), nextCursorCreatedAt(cursorCreatedAt)으로
+ * pages-per-request 페이지를 이어서 조회한다.
+ *
+ * 첫 페이지는 최근 메시지 버퍼, 이후 페이지는 DB(파티션 사용 시 created_at 범위 포함) 조회 경로를 탄다.
+ * 지연은 페이지 요청 한 건 단위로 기록하고, 요청은 대상 노드에 번갈아 보낸다.
+ */
+@Slf4j
+public class HistoryFetchScenario implements LoadScenario {
+
+    @Override
+    public String name() {
+        return "history";
+    }
+
+    @Override
+    public ScenarioResult run(LoadTestContext context) throws InterruptedException {
+        LoadTestProperties.History history = context.properties().history();
+        List<String> targets = context.targets();
+        List<RestClient> restClients = new ArrayList<>(targets.size());
+        targets.forEach(target -> restClients.add(RestClient.create(target)));
+        List<Long> roomIds = context.fixture().roomIds();
+
+        Recorder recorder = new Recorder(3);
+        AtomicLong pages = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLongArray pagesPerNode = new AtomicLongArray(targets.size());
+
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(history.concurrency());
+        for (int i = 0; i < history.requests(); i++) {
+            int node = i % targets.size();
+            executor.execute(() -> {
+                long chatRoomId = roomIds.get(ThreadLocalRandom.current().nextInt(roomIds.size()));
+                Long cursor = null;
+                String cursorCreatedAt = null;
+                for (int page = 0; page < history.pagesPerRequest(); page++) {
+                    long requestedAt = System.nanoTime();
+                    try {
+                        JsonNode response = fetch(restClients.get(node), chatRoomId, cursor, cursorCreatedAt, history.pageSize());
+                        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestedAt));
+                        pages.incrementAndGet();
+                        pagesPerNode.incrementAndGet(node);
+
+                        if (!response.path("hasNext").asBoolean(false)) {
+                            break;
+                        }
+                        cursor = response.path("nextCursor").asLong();
+                        cursorCreatedAt = response.path("nextCursorCreatedAt").asText(null);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        break;
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+
+        double durationSeconds = (System.nanoTime() - startedAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        Map<String, Double> perNodeRate = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            perNodeRate.put(targets.get(i), pagesPerNode.get(i) / durationSeconds);
+        }
+
+        LatencySummary latency = LatencySummary.fromMicros(recorder.getIntervalHistogram());
+        log.info("history 완료: pages={}, errors={}, p99={}ms", pages.get(), errors.get(), latency.p99());
+        return new ScenarioResult(name(), pages.get(), errors.get(), durationSeconds,
+                pages.get() / durationSeconds, latency, perNodeRate);
+    }
+
+    private JsonNode fetch(RestClient restClient, long chatRoomId, Long beforeId, String cursorCreatedAt, int size) {
+        return restClient.get()
+                .uri(builder -> {
+                    builder.path("/api/chat/rooms/{chatRoomId}/messages").queryParam("size", size);
+                    if (beforeId != null) {
+                        builder.queryParam("beforeId", beforeId);
+                    }
+                    if (cursorCreatedAt != null) {
+                        builder.queryParam("cursorCreatedAt", cursorCreatedAt);
+                    }
+                    return builder.build(chatRoomId);
+                })
+                .retrieve()
+                .body(JsonNode.class);
+    }
+}
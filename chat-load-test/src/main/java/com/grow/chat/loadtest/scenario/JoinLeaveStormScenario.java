@@ -0,0 +1,73 @@
+package com.grow.chat.loadtest.scenario;
+
+import com.grow.chat.loadtest.LoadTestContext;
+import com.grow.chat.loadtest.StompLoadClient;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 입장/퇴장 폭주 시나리오 - 모든 클라이언트가 동시에 퇴장 → 입장을 cycles 번 반복한다.
+ *
+ * 지연은 /app/chat.leave·join 전송부터 자기 memberId 가 포함된 접속자 변경분(/topic/chatroom/{id}/presence)을
+ * 받기까지다. (변경분은 broadcast-interval-ms 주기로 병합되므로 그 주기만큼의 지연이 포함된다)
+ * timeout-ms 안에 변경분을 받지 못하면 오류로 센다.
+ */
+@Slf4j
+public class JoinLeaveStormScenario implements LoadScenario {
+
+    @Override
+    public String name() {
+        return "join-leave";
+    }
+
+    @Override
+    public ScenarioResult run(LoadTestContext context) throws InterruptedException {
+        List<StompLoadClient> clients = context.clients();
+        int cycles = context.properties().joinLeave().cycles();
+        long timeoutMs = context.properties().joinLeave().timeoutMs();
+
+        Histogram histogram = new Histogram(3);
+        long operations = 0;
+        long errors = 0;
+        long startedAt = System.nanoTime();
+
+        for (int cycle = 0; cycle < cycles; cycle++) {
+            errors += wave(clients, StompLoadClient::leave, timeoutMs, histogram);
+            errors += wave(clients, StompLoadClient::join, timeoutMs, histogram);
+            operations += 2L * clients.size();
+            log.info("join-leave {}/{} 회차 완료", cycle + 1, cycles);
+        }
+
+        double durationSeconds = (System.nanoTime() - startedAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        return new ScenarioResult(name(), operations, errors, durationSeconds,
+                operations / durationSeconds, LatencySummary.fromMicros(histogram), Map.of());
+    }
+
+    /**
+     * 모든 클라이언트가 동시에 action 을 보내고 변경분 수신까지 기다린다. 반환값은 시간 초과/실패 수
+     */
+    private long wave(List<StompLoadClient> clients, Function<StompLoadClient, CompletableFuture<Long>> action,
+                      long timeoutMs, Histogram histogram) {
+        List<CompletableFuture<Long>> pending = new ArrayList<>(clients.size());
+        for (StompLoadClient client : clients) {
+            pending.add(action.apply(client).orTimeout(timeoutMs, TimeUnit.MILLISECONDS));
+        }
+
+        long errors = 0;
+        for (CompletableFuture<Long> future : pending) {
+            try {
+                histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(future.join()));
+            } catch (Exception e) {
+                errors++;
+            }
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,36 @@
+package com.grow.chat.loadtest.scenario;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 지연 백분위 요약 (밀리초)
+ */
+public record LatencySummary(
+        long count,
+        double p50,
+        double p90,
+        double p99,
+        double p999,
+        double max,
+        double mean
+) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    /**
+     * @param histogram 마이크로초 단위로 기록된 히스토그램
+     */
+    public static LatencySummary fromMicros(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0, 0, 0);
+        }
+        return new LatencySummary(
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                histogram.getMean() / MICROS_PER_MILLI);
+    }
+}
@@ -0,0 +1,13 @@
+package com.grow.chat.loadtest.scenario;
+
+import com.grow.chat.loadtest.LoadTestContext;
+
+public interface LoadScenario {
+
+    /**
+     * loadtest.scenarios 에서 쓰는 이름
+     */
+    String name();
+
+    ScenarioResult run(LoadTestContext context) throws InterruptedException;
+}
@@ -0,0 +1,21 @@
+package com.grow.chat.loadtest.scenario;
+
+import java.util.Map;
+
+/**
+ * 시나리오 한 건의 결과
+ *
+ * @param operations     시나리오가 수행한 요청 수 (발신 메시지, 입장/퇴장, 이력 페이지)
+ * @param throughput     초당 operations
+ * @param perNodeRate    노드별 초당 처리량 (send: 노드에 연결된 클라이언트가 받은 메시지 수)
+ */
+public record ScenarioResult(
+        String name,
+        long operations,
+        long errors,
+        double durationSeconds,
+        double throughput,
+        LatencySummary latency,
+        Map<String, Double> perNodeRate
+) {
+}
@@ -0,0 +1,92 @@
+package com.grow.chat.loadtest.scenario;
+
+import com.grow.chat.loadtest.LoadTestContext;
+import com.grow.chat.loadtest.StompLoadClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 메시지 발송 시나리오 - 모든 클라이언트가 설정된 속도로 자기 채팅방에 메시지를 보낸다.
+ *
+ * 지연은 발신 → 같은 방 구독자 각각의 수신까지(팬아웃 포함)로, 수신 한 건마다 기록한다.
+ * 노드별 처리량은 해당 노드에 연결된 클라이언트가 받은 초당 메시지 수다.
+ * 같은 세션에서 동시에 보내지 않도록 클라이언트를 발신 스레드별로 나눠 맡긴다.
+ */
+@Slf4j
+public class SendMessageScenario implements LoadScenario {
+
+    private static final int MAX_SENDER_THREADS = 8;
+    private static final long DRAIN_MILLIS = 2000;
+
+    @Override
+    public String name() {
+        return "send";
+    }
+
+    @Override
+    public ScenarioResult run(LoadTestContext context) throws InterruptedException {
+        List<StompLoadClient> clients = context.clients();
+        int durationSeconds = context.properties().send().durationSeconds();
+        double ratePerClient = context.properties().send().messagesPerSecondPerClient();
+        long errorsBefore = totalErrors(clients);
+
+        context.deliveryRecorder().reset();
+        AtomicLong sent = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        int threads = Math.min(MAX_SENDER_THREADS, clients.size());
+        List<Thread> senders = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            List<StompLoadClient> slice = new ArrayList<>();
+            for (int i = t; i < clients.size(); i += threads) {
+                slice.add(clients.get(i));
+            }
+            Thread sender = new Thread(() -> sendLoop(slice, ratePerClient, deadline, sent), "lt-sender-" + t);
+            senders.add(sender);
+            sender.start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        // 발송 종료 후 전달 중인 메시지 수신 대기
+        Thread.sleep(DRAIN_MILLIS);
+
+        LatencySummary latency = LatencySummary.fromMicros(context.deliveryRecorder().interval());
+        Map<String, Double> perNodeRate = new LinkedHashMap<>();
+        for (int i = 0; i < context.targets().size(); i++) {
+            perNodeRate.put(context.targets().get(i), (double) context.deliveryRecorder().deliveries(i) / durationSeconds);
+        }
+
+        log.info("send 완료: sent={}, deliveries={}, p99={}ms", sent.get(), latency.count(), latency.p99());
+        return new ScenarioResult(name(), sent.get(), totalErrors(clients) - errorsBefore, durationSeconds,
+                (double) sent.get() / durationSeconds, latency, perNodeRate);
+    }
+
+    private void sendLoop(List<StompLoadClient> slice, double ratePerClient, long deadline, AtomicLong sent) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / (ratePerClient * slice.size()));
+        long next = System.nanoTime();
+        int cursor = 0;
+
+        while (next < deadline) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            slice.get(cursor++ % slice.size()).sendChat();
+            sent.incrementAndGet();
+            next += intervalNanos;
+        }
+    }
+
+    private static long totalErrors(List<StompLoadClient> clients) {
+        return clients.stream().mapToLong(StompLoadClient::errors).sum();
+    }
+}
@@ -0,0 +1,178 @@
+package com.grow.chat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatRoomMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pub/Sub 메시지, 접속자 항목 코덱 비교
+ *
+ * - legacy : 이전 경로 (GenericJackson2JsonRedisSerializer, 클래스명 타입 정보 포함 - RedisConfig 와 같은 설정)
+ * - json   : JsonChatPayloadCodec (타입 정보 없음)
+ * - binary : BinaryChatPayloadCodec (고정 스키마)
+ *
+ * 인코딩/디코딩 시간은 JMH 결과로, 값 크기(byte)는 설정 단계에서 콘솔에 출력한다.
+ * 실행: ./gradlew :chat-service:jmh
+ * 할당량 비교: ./gradlew :chat-service:jmhJar 후 java -jar build/libs/chat-service-0.1-SNAPSHOT-jmh.jar ChatPayloadCodecBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatPayloadCodecBenchmark {
+
+    @Param({"legacy", "json", "binary"})
+    private String codecName;
+
+    // 짧은 대화, 긴 메시지
+    @Param({"20", "500"})
+    private int contentLength;
+
+    private PayloadCodec codec;
+    private ChatMessagePublish message;
+    private ChatRoomMember member;
+    private byte[] encodedMessage;
+    private byte[] encodedMember;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        codec = switch (codecName) {
+            case "legacy" -> new LegacyCodec(legacySerializer());
+            case "binary" -> PayloadCodec.of(new BinaryChatPayloadCodec());
+            default -> PayloadCodec.of(new JsonChatPayloadCodec(objectMapper));
+        };
+
+        message = ChatMessagePublish.builder()
+                .chatRoomId(12_345L)
+                .id(7_212_345_678_901_234_567L)
+                .senderId(987_654L)
+                .senderNickname("스터디장")
+                .content("가".repeat(contentLength))
+                .messageType(MessageType.CHAT)
+                .createdAt(LocalDateTime.now())
+                .build();
+        member = ChatRoomMember.builder()
+                .memberId(987_654L)
+                .nickname("스터디장")
+                .sessionId("0f3c9a7e-5b21-4d8e-9c61-2a7b4e1d9f03")
+                .joinedAt(LocalDateTime.now())
+                .build();
+
+        encodedMessage = codec.encodeMessage(message);
+        encodedMember = codec.encodeMember(member);
+
+        System.out.printf("%n[codec=%s, content=%d] message bytes=%d, member bytes=%d%n",
+                codecName, contentLength, encodedMessage.length, encodedMember.length);
+    }
+
+    @Benchmark
+    public byte[] encodeMessage() {
+        return codec.encodeMessage(message);
+    }
+
+    @Benchmark
+    public Object decodeMessage() {
+        return codec.decodeMessage(encodedMessage);
+    }
+
+    @Benchmark
+    public byte[] encodeMember() {
+        return codec.encodeMember(member);
+    }
+
+    @Benchmark
+    public Object decodeMember() {
+        return codec.decodeMember(encodedMember);
+    }
+
+    private static GenericJackson2JsonRedisSerializer legacySerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private interface PayloadCodec {
+
+        byte[] encodeMessage(ChatMessagePublish message);
+
+        Object decodeMessage(byte[] bytes);
+
+        byte[] encodeMember(ChatRoomMember member);
+
+        Object decodeMember(byte[] bytes);
+
+        static PayloadCodec of(ChatPayloadCodec codec) {
+            return new PayloadCodec() {
+                @Override
+                public byte[] encodeMessage(ChatMessagePublish message) {
+                    return codec.encodeMessage(message);
+                }
+
+                @Override
+                public Object decodeMessage(byte[] bytes) {
+                    return codec.decodeMessage(bytes);
+                }
+
+                @Override
+                public byte[] encodeMember(ChatRoomMember member) {
+                    return codec.encodeMember(member);
+                }
+
+                @Override
+                public Object decodeMember(byte[] bytes) {
+                    return codec.decodeMember(bytes);
+                }
+            };
+        }
+    }
+
+    /**
+     * 이전 경로 - 메시지는 타입 정보 포함 JSON, 접속자는 JSON 문자열을 다시 JSON 으로 감싼 값
+     */
+    private record LegacyCodec(GenericJackson2JsonRedisSerializer serializer) implements PayloadCodec {
+
+        @Override
+        public byte[] encodeMessage(ChatMessagePublish message) {
+            return serializer.serialize(message);
+        }
+
+        @Override
+        public Object decodeMessage(byte[] bytes) {
+            return serializer.deserialize(bytes, ChatMessagePublish.class);
+        }
+
+        @Override
+        public byte[] encodeMember(ChatRoomMember member) {
+            return serializer.serialize(new String(serializer.serialize(member), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Object decodeMember(byte[] bytes) {
+            return serializer.deserialize(serializer.deserialize(bytes, String.class).getBytes(StandardCharsets.UTF_8), ChatRoomMember.class);
+        }
+    }
+}
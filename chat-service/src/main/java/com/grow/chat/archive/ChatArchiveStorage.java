@@ -0,0 +1,25 @@
+package com.grow.chat.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 분리된 chat_messages 파티션 보관소
+ *
+ * 보관 파일은 gzip 압축된 COPY CSV 이며 이름은 파티션 테이블명 기준이다. (chat_messages_p202401.csv.gz)
+ * write 는 writer 가 예외 없이 끝났을 때만 파일을 완료 처리해야 한다. (중간 실패본이 exists 에 보이지 않도록)
+ */
+public interface ChatArchiveStorage {
+
+    void write(String name, ArchiveWriter writer) throws IOException;
+
+    InputStream openForRead(String name) throws IOException;
+
+    boolean exists(String name);
+
+    @FunctionalInterface
+    interface ArchiveWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,51 @@
+package com.grow.chat.archive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디스크 보관소
+ * 임시 파일에 쓴 뒤 성공 시 원자적으로 이름을 바꿔, 중간에 실패한 파일이 완료본으로 보이지 않게 한다.
+ * 오브젝트 스토리지는 버킷을 디렉터리로 마운트(mountpoint-s3, gcsfuse 등)해 같은 구현으로 사용한다.
+ */
+@Slf4j
+public class LocalChatArchiveStorage implements ChatArchiveStorage {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    public LocalChatArchiveStorage(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        log.info("채팅 보관소 경로: {}", this.directory.toAbsolutePath());
+    }
+
+    @Override
+    public void write(String name, ArchiveWriter writer) throws IOException {
+        Path temp = directory.resolve(name + TEMP_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.writeTo(out);
+            }
+            Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream openForRead(String name) throws IOException {
+        return Files.newInputStream(directory.resolve(name));
+    }
+
+    @Override
+    public boolean exists(String name) {
+        return Files.exists(directory.resolve(name));
+    }
+}
@@ -0,0 +1,174 @@
+package com.grow.chat.codec;
+
+import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatRoomMember;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 고정 스키마 바이너리 코덱
+ *
+ * [MAGIC 1byte][스키마 버전 1byte][null 비트마스크 1byte][필드...]
+ * - long : 8byte
+ * - 문자열 : 길이(int) + UTF-8 바이트
+ * - LocalDateTime : epochSecond(long, UTC 기준) + nano(int)
+ * - MessageType : ordinal(byte) - enum 순서를 바꾸면 스키마 버전을 올려야 한다.
+ *
+ * 필드 순서가 곧 스키마이므로 필드를 추가할 때는 뒤에 붙이고 버전을 올린다.
+ */
+public class BinaryChatPayloadCodec implements ChatPayloadCodec {
+
+    static final byte MAGIC = (byte) 0xC7;
+    private static final byte MESSAGE_V1 = 1;
+    private static final byte MEMBER_V1 = 1;
+    private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] encodeMessage(ChatMessagePublish message) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + lengthHint(message.getContent()));
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(MAGIC);
+            out.writeByte(MESSAGE_V1);
+            out.writeByte(nullMask(message.getChatRoomId(), message.getId(), message.getSenderId(),
+                    message.getSenderNickname(), message.getContent(), message.getMessageType(), message.getCreatedAt()));
+            writeLong(out, message.getChatRoomId());
+            writeLong(out, message.getId());
+            writeLong(out, message.getSenderId());
+            writeString(out, message.getSenderNickname());
+            writeString(out, message.getContent());
+            if (message.getMessageType() != null) {
+                out.writeByte(message.getMessageType().ordinal());
+            }
+            writeDateTime(out, message.getCreatedAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 직렬화 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public ChatMessagePublish decodeMessage(byte[] bytes) {
+        try (DataInputStream in = open(bytes, MESSAGE_V1)) {
+            int mask = in.readUnsignedByte();
+            return ChatMessagePublish.builder()
+                    .chatRoomId(isSet(mask, 0) ? in.readLong() : null)
+                    .id(isSet(mask, 1) ? in.readLong() : null)
+                    .senderId(isSet(mask, 2) ? in.readLong() : null)
+                    .senderNickname(isSet(mask, 3) ? readString(in) : null)
+                    .content(isSet(mask, 4) ? readString(in) : null)
+                    .messageType(isSet(mask, 5) ? MESSAGE_TYPES[in.readUnsignedByte()] : null)
+                    .createdAt(isSet(mask, 6) ? readDateTime(in) : null)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 역직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public byte[] encodeMember(ChatRoomMember member) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(MAGIC);
+            out.writeByte(MEMBER_V1);
+            out.writeByte(nullMask(member.getMemberId(), member.getNickname(), member.getSessionId(), member.getJoinedAt()));
+            writeLong(out, member.getMemberId());
+            writeString(out, member.getNickname());
+            writeString(out, member.getSessionId());
+            writeDateTime(out, member.getJoinedAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException("접속자 직렬화 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public ChatRoomMember decodeMember(byte[] bytes) {
+        try (DataInputStream in = open(bytes, MEMBER_V1)) {
+            int mask = in.readUnsignedByte();
+            return ChatRoomMember.builder()
+                    .memberId(isSet(mask, 0) ? in.readLong() : null)
+                    .nickname(isSet(mask, 1) ? readString(in) : null)
+                    .sessionId(isSet(mask, 2) ? readString(in) : null)
+                    .joinedAt(isSet(mask, 3) ? readDateTime(in) : null)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("접속자 역직렬화 실패", e);
+        }
+    }
+
+    private static DataInputStream open(byte[] bytes, byte expectedVersion) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readByte() != MAGIC) {
+            throw new IOException("바이너리 형식이 아닙니다.");
+        }
+        byte version = in.readByte();
+        if (version != expectedVersion) {
+            throw new IOException("지원하지 않는 스키마 버전: " + version);
+        }
+        return in;
+    }
+
+    private static int nullMask(Object... fields) {
+        int mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean isSet(int mask, int index) {
+        return (mask & (1 << index)) != 0;
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static int lengthHint(String value) {
+        return value != null ? value.length() * 3 : 0;
+    }
+}
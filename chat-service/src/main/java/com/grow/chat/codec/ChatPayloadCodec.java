@@ -0,0 +1,19 @@
+package com.grow.chat.codec;
+
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatRoomMember;
+
+/**
+ * Redis Pub/Sub 메시지와 접속자(presence) 항목 인코딩
+ * chat.codec 값으로 선택 (json | binary)
+ */
+public interface ChatPayloadCodec {
+
+    byte[] encodeMessage(ChatMessagePublish message);
+
+    ChatMessagePublish decodeMessage(byte[] bytes);
+
+    byte[] encodeMember(ChatRoomMember member);
+
+    ChatRoomMember decodeMember(byte[] bytes);
+}
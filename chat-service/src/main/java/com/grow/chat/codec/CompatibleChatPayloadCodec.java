@@ -0,0 +1,41 @@
+package com.grow.chat.codec;
+
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatRoomMember;
+
+/**
+ * 설정된 형식으로 인코딩하고, 디코딩은 첫 바이트로 형식을 판별한다.
+ * 롤링 배포 중 JSON/바이너리 인스턴스가 섞여 있어도 서로의 메시지를 읽을 수 있다.
+ */
+public class CompatibleChatPayloadCodec implements ChatPayloadCodec {
+
+    private final ChatPayloadCodec encoder;
+    private final JsonChatPayloadCodec json;
+    private final BinaryChatPayloadCodec binary;
+
+    public CompatibleChatPayloadCodec(ChatPayloadCodec encoder, JsonChatPayloadCodec json, BinaryChatPayloadCodec binary) {
+        this.encoder = encoder;
+        this.json = json;
+        this.binary = binary;
+    }
+
+    @Override
+    public byte[] encodeMessage(ChatMessagePublish message) {
+        return encoder.encodeMessage(message);
+    }
+
+    @Override
+    public ChatMessagePublish decodeMessage(byte[] bytes) {
+        return BinaryChatPayloadCodec.isBinary(bytes) ? binary.decodeMessage(bytes) : json.decodeMessage(bytes);
+    }
+
+    @Override
+    public byte[] encodeMember(ChatRoomMember member) {
+        return encoder.encodeMember(member);
+    }
+
+    @Override
+    public ChatRoomMember decodeMember(byte[] bytes) {
+        return BinaryChatPayloadCodec.isBinary(bytes) ? binary.decodeMember(bytes) : json.decodeMember(bytes);
+    }
+}
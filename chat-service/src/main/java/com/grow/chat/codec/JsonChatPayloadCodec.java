@@ -0,0 +1,64 @@
+package com.grow.chat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatRoomMember;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * JSON 코덱 - 타입 정보(클래스명) 없이 필드만 기록
+ */
+public class JsonChatPayloadCodec implements ChatPayloadCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonChatPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encodeMessage(ChatMessagePublish message) {
+        return write(message);
+    }
+
+    @Override
+    public ChatMessagePublish decodeMessage(byte[] bytes) {
+        return read(bytes, ChatMessagePublish.class);
+    }
+
+    @Override
+    public byte[] encodeMember(ChatRoomMember member) {
+        return write(member);
+    }
+
+    @Override
+    public ChatRoomMember decodeMember(byte[] bytes) {
+        try {
+            // 이전 형식: JSON 문자열을 다시 JSON 으로 감싼 값 ("{\"memberId\":...}")
+            if (bytes.length > 0 && bytes[0] == '"') {
+                return objectMapper.readValue(objectMapper.readValue(bytes, String.class), ChatRoomMember.class);
+            }
+            return objectMapper.readValue(bytes, ChatRoomMember.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("접속자 역직렬화 실패", e);
+        }
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(byte[] bytes, Class<T> type) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 역직렬화 실패", e);
+        }
+    }
+}
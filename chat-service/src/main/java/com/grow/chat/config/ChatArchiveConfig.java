@@ -0,0 +1,38 @@
+package com.grow.chat.config;
+
+import com.grow.chat.archive.ChatArchiveStorage;
+import com.grow.chat.archive.LocalChatArchiveStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "chat.partition.enabled", havingValue = "true")
+public class ChatArchiveConfig implements WebMvcConfigurer {
+
+    private final String internalToken;
+
+    public ChatArchiveConfig(@Value("${chat.partition.internal-token:}") String internalToken) {
+        this.internalToken = internalToken;
+    }
+
+    // 분리된 chat_messages 파티션 보관 경로 (오브젝트 스토리지는 마운트 경로 지정)
+    @Bean
+    public ChatArchiveStorage chatArchiveStorage(@Value("${chat.partition.archive-dir:./archive/chat}") String archiveDir)
+            throws IOException {
+        return new LocalChatArchiveStorage(Path.of(archiveDir));
+    }
+
+    // 보관/복원 API 는 내부 호출 전용
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new InternalApiInterceptor(internalToken))
+                .addPathPatterns("/api/chat/internal/archive/**");
+    }
+}
@@ -0,0 +1,65 @@
+package com.grow.chat.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 목적지 - chat.broker.mode 에 따라 구분자가 다르다
+ *
+ * - simple : "/" 구분 (/topic/chatroom/{id}, /topic/chatroom/{id}/presence) - 기존 클라이언트 그대로
+ * - relay  : "." 구분 (/topic/chatroom.{id}, /topic/chatroom.{id}.presence)
+ *            RabbitMQ STOMP 는 /topic/ 뒤를 라우팅 키로 쓰므로 "/" 를 쓸 수 없다.
+ *
+ * 채팅방/접속자 목적지는 이 클래스에서만 만든다. (WebSocketConfig 의 경로 구분자도 같은 기준)
+ */
+@Component
+public class ChatDestinations {
+
+    private static final String CHAT_ROOM_TOPIC = "/topic/chatroom";
+
+    private final boolean relay;
+    private final String separator;
+    private final Pattern chatRoomDestination;
+
+    public ChatDestinations(@Value("${chat.broker.mode:simple}") String brokerMode) {
+        this.relay = "relay".equalsIgnoreCase(brokerMode);
+        this.separator = relay ? "." : "/";
+        this.chatRoomDestination = Pattern.compile("^" + Pattern.quote(CHAT_ROOM_TOPIC + separator) + "(\\d+)$");
+    }
+
+    public boolean isRelay() {
+        return relay;
+    }
+
+    public String getSeparator() {
+        return separator;
+    }
+
+    /**
+     * 채팅 메시지 목적지
+     */
+    public String chatRoom(Long chatRoomId) {
+        return CHAT_ROOM_TOPIC + separator + chatRoomId;
+    }
+
+    /**
+     * 접속자 변경분 목적지
+     */
+    public String presence(Long chatRoomId) {
+        return chatRoom(chatRoomId) + separator + "presence";
+    }
+
+    /**
+     * 채팅 메시지 구독 목적지에서 chatRoomId 추출 (다른 목적지면 null)
+     */
+    public Long parseChatRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = chatRoomDestination.matcher(destination);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : null;
+    }
+}
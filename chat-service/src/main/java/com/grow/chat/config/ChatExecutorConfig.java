@@ -0,0 +1,91 @@
+package com.grow.chat.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 채팅 메시지 처리 실행기
+ *
+ * chat.executor.mode
+ * - pool    : 고정 크기 스레드 풀 (기본값)
+ * - virtual : 작업마다 가상 스레드. JPA/Redis 호출로 블로킹되어도 다른 세션의 처리가 막히지 않는다.
+ *             JDK 21 이상에서만 동작하며, 그 미만 런타임에서는 경고 후 pool 로 동작한다.
+ *
+ * 실행기가 병렬이므로 순서는 별도로 보장한다.
+ * - 세션 단위: WebSocketConfig 의 preserveReceiveOrder / preservePublishOrder
+ * - 채팅방 단위: ChatRoomSerialExecutor (Redis 수신 메시지를 채팅방별 직렬 레인으로 전달)
+ *
+ * Executor 빈이 하나라도 있으면 스프링 부트 기본 실행기(applicationTaskExecutor)가 만들어지지 않으므로
+ * 기본 실행기를 직접 등록한다. 채팅 실행기는 모두 이름(@Qualifier)으로만 주입하고,
+ * 이름 없이 실행기를 찾는 곳(@Async, 비동기 MVC 등)은 기본 실행기(spring.task.execution.*)를 그대로 쓴다.
+ */
+@Slf4j
+@Configuration
+public class ChatExecutorConfig {
+
+    private final boolean virtual;
+
+    public ChatExecutorConfig(@Value("${chat.executor.mode:pool}") String mode) {
+        boolean virtualRequested = "virtual".equalsIgnoreCase(mode);
+        this.virtual = virtualRequested && Runtime.version().feature() >= 21;
+
+        if (virtualRequested && !virtual) {
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용 가능 - pool 모드로 동작: runtime={}", Runtime.version());
+        }
+        log.info("채팅 실행기 모드: {}", virtual ? "virtual" : "pool");
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @Primary
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public Executor chatInboundExecutor(@Value("${chat.websocket.inbound.core-pool-size:8}") int corePoolSize,
+                                        @Value("${chat.websocket.inbound.max-pool-size:32}") int maxPoolSize,
+                                        @Value("${chat.websocket.inbound.queue-capacity:10000}") int queueCapacity) {
+        return createExecutor("chat-inbound-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    @Bean
+    public Executor chatOutboundExecutor(@Value("${chat.websocket.outbound.core-pool-size:8}") int corePoolSize,
+                                         @Value("${chat.websocket.outbound.max-pool-size:32}") int maxPoolSize,
+                                         @Value("${chat.websocket.outbound.queue-capacity:10000}") int queueCapacity) {
+        return createExecutor("chat-outbound-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    // Redis Pub/Sub 수신 메시지 전달용 (ChatRoomSerialExecutor 의 하위 실행기)
+    @Bean
+    public Executor chatDispatchExecutor(@Value("${chat.executor.dispatch.core-pool-size:8}") int corePoolSize,
+                                         @Value("${chat.executor.dispatch.max-pool-size:32}") int maxPoolSize,
+                                         @Value("${chat.executor.dispatch.queue-capacity:10000}") int queueCapacity) {
+        return createExecutor("chat-dispatch-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    private Executor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(threadNamePrefix);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
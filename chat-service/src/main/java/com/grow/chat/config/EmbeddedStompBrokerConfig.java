@@ -0,0 +1,41 @@
+package com.grow.chat.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬/테스트용 내장 STOMP 브로커 (ActiveMQ Artemis)
+ *
+ * chat.broker.mode=relay 와 함께 chat.broker.embedded=true 로 사용한다.
+ * 영속화/보안을 끈 단일 노드 브로커라 운영에서는 외부 RabbitMQ(STOMP 플러그인) 또는 Artemis 를 사용한다.
+ * Artemis 는 developmentOnly 의존성이라 bootRun 에서만 클래스패스에 있고, 운영 jar 에서는 이 설정이 로드되지 않는다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.embedded", havingValue = "true")
+@ConditionalOnClass(name = "org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ")
+public class EmbeddedStompBrokerConfig {
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedStompBroker() throws Exception {
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.addAcceptorConfiguration("stomp", "tcp://0.0.0.0:" + relayPort + "?protocols=STOMP");
+
+        EmbeddedActiveMQ broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+
+        log.info("내장 STOMP 브로커 시작: port={}", relayPort);
+        return broker;
+    }
+}
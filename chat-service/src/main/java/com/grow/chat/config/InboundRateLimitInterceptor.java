@@ -0,0 +1,138 @@
+package com.grow.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인바운드 SEND 프레임 속도 제한 - 멤버 ID 별 토큰 버킷
+ *
+ * 멤버 ID 는 /app/chat.join 처리 시 세션 속성(MEMBER_ID_ATTRIBUTE)에 기록되며, 입장 전에는 세션 ID 로 제한한다.
+ * 인바운드 실행기에 넣기 전(preSend)에 검사하므로 초과 메시지는 스레드/큐를 점유하지 않는다.
+ * 초과 시 chat.flow-control.inbound.policy 에 따라 drop(버림) 또는 disconnect(세션 종료).
+ * (버킷은 인스턴스 로컬 - 세션은 한 인스턴스에 붙어 있으므로 멤버의 연결 단위 제한이 된다)
+ */
+@Slf4j
+@Component
+public class InboundRateLimitInterceptor implements ChannelInterceptor {
+
+    public static final String MEMBER_ID_ATTRIBUTE = "chat.memberId";
+
+    private static final CloseStatus RATE_LIMITED = CloseStatus.POLICY_VIOLATION.withReason("rate limit exceeded");
+    private static final long IDLE_BUCKET_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final double capacity;
+    private final double refillPerNano;
+    private final boolean disconnect;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final Counter limitedCounter;
+    private final Counter disconnectedCounter;
+
+    public InboundRateLimitInterceptor(WebSocketSessionRegistry sessionRegistry,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${chat.flow-control.inbound.capacity:20}") int capacity,
+                                       @Value("${chat.flow-control.inbound.refill-per-second:10}") double refillPerSecond,
+                                       @Value("${chat.flow-control.inbound.policy:drop}") String policy) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("chat.flow-control.inbound 설정이 올바르지 않습니다.");
+        }
+        this.sessionRegistry = sessionRegistry;
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.disconnect = "disconnect".equalsIgnoreCase(policy);
+
+        this.limitedCounter = meterRegistry.counter("chat.inbound.rate.limited");
+        this.disconnectedCounter = meterRegistry.counter("chat.session.disconnected", "reason", "rate-limit");
+        meterRegistry.gauge("chat.inbound.rate.buckets", buckets, Map::size);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.SEND) {
+            return message;
+        }
+
+        String key = rateLimitKey(accessor);
+        if (key == null) {
+            return message;
+        }
+
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity));
+        if (bucket.tryConsume(capacity, refillPerNano)) {
+            return message;
+        }
+
+        limitedCounter.increment();
+        if (disconnect) {
+            disconnectedCounter.increment();
+            log.warn("인바운드 속도 제한 초과 - 세션 종료: key={}, sessionId={}", key, accessor.getSessionId());
+            sessionRegistry.close(accessor.getSessionId(), RATE_LIMITED);
+        } else {
+            log.debug("인바운드 속도 제한 초과 - 메시지 버림: key={}", key);
+        }
+        return null;
+    }
+
+    /**
+     * 오래 쓰이지 않은(가득 찬) 버킷 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    private String rateLimitKey(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object memberId = attributes != null ? attributes.get(MEMBER_ID_ATTRIBUTE) : null;
+        if (memberId != null) {
+            return "m:" + memberId;
+        }
+        return accessor.getSessionId() != null ? "s:" + accessor.getSessionId() : null;
+    }
+
+    private static class TokenBucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double capacity) {
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume(double capacity, double refillPerNano) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return now - lastRefillNanos > IDLE_BUCKET_NANOS;
+        }
+    }
+}
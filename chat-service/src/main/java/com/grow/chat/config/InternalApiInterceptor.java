@@ -0,0 +1,46 @@
+package com.grow.chat.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 내부 호출 전용 API 보호 - 운영 도구/다른 서비스만 호출하도록 공유 토큰을 확인한다
+ *
+ * - 게이트웨이를 거친 요청(X-User-Id 헤더)은 사용자 요청이므로 거부
+ * - X-Internal-Token 헤더가 설정 토큰과 같아야 통과 (토큰 미설정이면 모두 거부)
+ */
+@Slf4j
+public class InternalApiInterceptor implements HandlerInterceptor {
+
+    public static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+    private static final String GATEWAY_USER_HEADER = "X-User-Id";
+
+    private final byte[] token;
+
+    public InternalApiInterceptor(String token) {
+        this.token = token == null ? new byte[0] : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getHeader(GATEWAY_USER_HEADER) == null && matches(request.getHeader(INTERNAL_TOKEN_HEADER))) {
+            return true;
+        }
+        log.warn("내부 API 접근 거부: {} {}, remote={}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        return false;
+    }
+
+    private boolean matches(String value) {
+        if (token.length == 0 || value == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(token, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,17 +3,20 @@ package com.grow.chat.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.grow.chat.service.RedisSubscriber;
+import com.grow.chat.codec.BinaryChatPayloadCodec;
+import com.grow.chat.codec.ChatPayloadCodec;
+import com.grow.chat.codec.CompatibleChatPayloadCodec;
+import com.grow.chat.codec.JsonChatPayloadCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -61,28 +64,40 @@ public class RedisConfig {
         return template;
     }
 
-    // 채팅 메시지용 Topic
+    // Pub/Sub 메시지, 접속자 항목처럼 코덱으로 직접 인코딩한 값을 그대로 저장하는 템플릿
     @Bean
-    public ChannelTopic chatMessageTopic() {
-        return new ChannelTopic("chat:messages");
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        template.afterPropertiesSet();
+        return template;
     }
 
-    // 메시지 리스너 등록
+    // Pub/Sub, 접속자 코덱 (json | binary)
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(
-            RedisConnectionFactory factory,
-            MessageListenerAdapter messageListenerAdapter,
-            ChannelTopic chatMessageTopic) {
+    public ChatPayloadCodec chatPayloadCodec(ObjectMapper objectMapper,
+                                             @Value("${chat.codec:json}") String codec) {
+        JsonChatPayloadCodec json = new JsonChatPayloadCodec(objectMapper);
+        BinaryChatPayloadCodec binary = new BinaryChatPayloadCodec();
+        ChatPayloadCodec encoder = "binary".equalsIgnoreCase(codec) ? binary : json;
+        return new CompatibleChatPayloadCodec(encoder, json, binary);
+    }
 
+    // 메시지 리스너 컨테이너
+    // 채널 구독은 ChatRoomChannelRegistry 가 로컬 STOMP 구독에 맞춰 동적으로 등록/해제한다.
+    // 기본 실행기(SimpleAsyncTaskExecutor)는 메시지마다 새 스레드로 전달해 순서가 섞이므로 수신 스레드에서 바로 처리하고,
+    // 무거운 전달 작업은 리스너가 ChatRoomSerialExecutor 로 넘긴다. (리스너는 블로킹 작업을 하지 않는다)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(factory);
-        container.addMessageListener(messageListenerAdapter, chatMessageTopic);
+        container.setTaskExecutor(new SyncTaskExecutor());
         return container;
     }
-
-    // 메시지 수신 핸들러 연결
-    @Bean
-    public MessageListenerAdapter messageListenerAdapter(RedisSubscriber redisSubscriber) {
-        return new MessageListenerAdapter(redisSubscriber, "onMessage");
-    }
 }
@@ -0,0 +1,231 @@
+package com.grow.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * clientOutboundChannel 실행기 - 세션별 직렬 큐 + 큐 길이 제한
+ *
+ * 채널이 메시지마다 제출하는 작업(MessageHandlingRunnable)을 세션 ID 로 나눠 세션마다 한 번에 하나씩 전송한다.
+ * (세션 단위 발신 순서 보존 - preservePublishOrder 대신 사용. 그 경우 대기 메시지가 스프링 내부 큐에 쌓여 길이를 알 수 없다)
+ *
+ * 세션 큐가 queue-limit 에 도달하면 chat.flow-control.outbound.policy 에 따라
+ * - drop       : 새 메시지를 버린다
+ * - coalesce   : 대기 중인 메시지를 목적지별 최신 한 건으로 합친다 (클라이언트는 ID 공백을 보고 이력 API 로 채운다)
+ * - disconnect : 세션을 끊는다 (느린 소비자 퇴출)
+ * CONNECTED/RECEIPT/ERROR/하트비트 같은 제어 프레임은 제한하지 않는다.
+ */
+@Slf4j
+@Component
+public class SessionOutboundExecutor implements Executor {
+
+    private static final int MAX_TASKS_PER_RUN = 64;
+    private static final CloseStatus SLOW_CONSUMER = CloseStatus.SESSION_NOT_RELIABLE.withReason("slow consumer");
+
+    private enum Policy { DROP, COALESCE, DISCONNECT }
+
+    private enum Outcome { SCHEDULE, QUEUED, DROPPED, DISCONNECT }
+
+    private final Executor delegate;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final int queueLimit;
+    private final Policy policy;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final DistributionSummary queueDepth;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter disconnectedCounter;
+
+    public SessionOutboundExecutor(@Qualifier("chatOutboundExecutor") Executor delegate,
+                                   WebSocketSessionRegistry sessionRegistry,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${chat.flow-control.outbound.queue-limit:1000}") int queueLimit,
+                                   @Value("${chat.flow-control.outbound.policy:coalesce}") String policy) {
+        this.delegate = delegate;
+        this.sessionRegistry = sessionRegistry;
+        this.queueLimit = queueLimit;
+        this.policy = Policy.valueOf(policy.toUpperCase());
+
+        this.queueDepth = DistributionSummary.builder("chat.session.outbound.queue.depth")
+                .description("세션별 아웃바운드 대기 메시지 수 (메시지 추가 시점)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("chat.session.outbound.dropped");
+        this.coalescedCounter = meterRegistry.counter("chat.session.outbound.coalesced");
+        this.disconnectedCounter = meterRegistry.counter("chat.session.disconnected", "reason", "slow-consumer");
+        meterRegistry.gauge("chat.session.outbound.active.queues", lanes, Map::size);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String sessionId = task instanceof MessageHandlingRunnable handling
+                ? SimpMessageHeaderAccessor.getSessionId(handling.getMessage().getHeaders())
+                : null;
+        if (sessionId == null) {
+            delegate.execute(task);
+            return;
+        }
+
+        Outcome[] outcome = new Outcome[1];
+        // 추가는 compute 안에서 - 빈 큐 제거(release)와 원자적으로 처리된다
+        Lane lane = lanes.compute(sessionId, (key, existing) -> {
+            Lane target = existing != null ? existing : new Lane(key);
+            outcome[0] = target.offer((MessageHandlingRunnable) task);
+            return target;
+        });
+
+        switch (outcome[0]) {
+            case SCHEDULE -> submit(lane);
+            case DROPPED -> droppedCounter.increment();
+            case DISCONNECT -> {
+                disconnectedCounter.increment();
+                log.warn("느린 소비자 세션 종료: sessionId={}, queueLimit={}", sessionId, queueLimit);
+                sessionRegistry.close(sessionId, SLOW_CONSUMER);
+                lane.release();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void submit(Lane lane) {
+        try {
+            delegate.execute(lane);
+        } catch (RejectedExecutionException e) {
+            lane.abort();
+            log.error("세션 아웃바운드 큐 실행 거부: sessionId={}", lane.sessionId, e);
+        }
+    }
+
+    private static boolean isControlFrame(MessageHandlingRunnable task) {
+        return SimpMessageHeaderAccessor.getMessageType(task.getMessage().getHeaders()) != SimpMessageType.MESSAGE;
+    }
+
+    private static String destinationOf(MessageHandlingRunnable task) {
+        Message<?> message = task.getMessage();
+        return SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    }
+
+    private class Lane implements Runnable {
+
+        private final String sessionId;
+        private Deque<MessageHandlingRunnable> queue = new ArrayDeque<>();
+        private boolean running;
+        private boolean closed;
+
+        Lane(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        synchronized Outcome offer(MessageHandlingRunnable task) {
+            if (closed) {
+                return Outcome.DROPPED;
+            }
+
+            if (queue.size() >= queueLimit && !isControlFrame(task)) {
+                switch (policy) {
+                    case DROP -> {
+                        return Outcome.DROPPED;
+                    }
+                    case DISCONNECT -> {
+                        closed = true;
+                        queue.clear();
+                        return Outcome.DISCONNECT;
+                    }
+                    case COALESCE -> {
+                        coalesce();
+                        if (queue.size() >= queueLimit) {
+                            return Outcome.DROPPED;
+                        }
+                    }
+                }
+            }
+
+            queue.add(task);
+            queueDepth.record(queue.size());
+            if (running) {
+                return Outcome.QUEUED;
+            }
+            running = true;
+            return Outcome.SCHEDULE;
+        }
+
+        // 목적지별 가장 최근 메시지와 제어 프레임만 순서대로 남긴다
+        private void coalesce() {
+            Set<String> destinations = new HashSet<>();
+            Deque<MessageHandlingRunnable> kept = new ArrayDeque<>();
+            Iterator<MessageHandlingRunnable> iterator = queue.descendingIterator();
+            while (iterator.hasNext()) {
+                MessageHandlingRunnable task = iterator.next();
+                if (isControlFrame(task) || destinations.add(String.valueOf(destinationOf(task)))) {
+                    kept.addFirst(task);
+                }
+            }
+            coalescedCounter.increment(queue.size() - kept.size());
+            queue = kept;
+        }
+
+        private synchronized MessageHandlingRunnable poll() {
+            MessageHandlingRunnable task = queue.poll();
+            if (task == null) {
+                running = false;
+            }
+            return task;
+        }
+
+        private synchronized boolean isIdle() {
+            return !running && queue.isEmpty();
+        }
+
+        synchronized void abort() {
+            running = false;
+        }
+
+        void release() {
+            lanes.computeIfPresent(sessionId, (key, current) -> current == this && isIdle() ? null : current);
+        }
+
+        @Override
+        public void run() {
+            int processed = 0;
+            MessageHandlingRunnable task;
+            while ((task = poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("세션 아웃바운드 전송 실패: sessionId={}", sessionId, e);
+                }
+
+                // 바쁜 세션이 실행기 스레드를 독점하지 않도록 일정 수마다 다시 제출 (running 유지)
+                if (++processed >= MAX_TASKS_PER_RUN) {
+                    submit(this);
+                    return;
+                }
+            }
+            release();
+        }
+    }
+}
@@ -1,22 +1,103 @@
 package com.grow.chat.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 브로커 설정
+ *
+ * chat.broker.mode
+ * - simple : 인스턴스별 인메모리 브로커 + Redis Pub/Sub 으로 인스턴스 간 전달 (기본값)
+ * - relay  : 외부 STOMP 브로커(RabbitMQ, ActiveMQ Artemis)로 구독/전달을 위임. Redis Pub/Sub 중계를 사용하지 않는다.
+ *            로컬에서는 chat.broker.embedded=true 로 내장 Artemis 브로커를 띄울 수 있다.
+ *
+ * 목적지 구분자는 모드에 따른다 (ChatDestinations) - simple 은 "/", relay 는 "."
+ *
+ * 인바운드/아웃바운드 채널 실행기는 ChatExecutorConfig (pool | virtual) 에서 만든다.
+ * 실행기가 병렬이므로 세션 단위 수신 순서 보존(preserveReceiveOrder)을 켜고,
+ * 발신은 SessionOutboundExecutor 가 세션별 직렬 큐로 순서를 보존하면서 느린 소비자를 제한한다.
+ * 인바운드 SEND 는 InboundRateLimitInterceptor 가 멤버별 토큰 버킷으로 제한한다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final Executor chatInboundExecutor;
+    private final SessionOutboundExecutor sessionOutboundExecutor;
+    private final InboundRateLimitInterceptor inboundRateLimitInterceptor;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final ChatDestinations destinations;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.send-time-limit-ms:15000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    public WebSocketConfig(@Qualifier("chatInboundExecutor") Executor chatInboundExecutor,
+                           SessionOutboundExecutor sessionOutboundExecutor,
+                           InboundRateLimitInterceptor inboundRateLimitInterceptor,
+                           WebSocketSessionRegistry sessionRegistry,
+                           ChatDestinations destinations) {
+        this.chatInboundExecutor = chatInboundExecutor;
+        this.sessionOutboundExecutor = sessionOutboundExecutor;
+        this.inboundRateLimitInterceptor = inboundRateLimitInterceptor;
+        this.sessionRegistry = sessionRegistry;
+        this.destinations = destinations;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 보낼 때 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        if (destinations.isRelay()) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setVirtualHost(relayVirtualHost.isBlank() ? null : relayVirtualHost);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
 
         // 클라이언트에서 서버로 메시지를 보낼 때 prefix
         config.setApplicationDestinationPrefixes("/app");
+
+        // relay 모드만 목적지 구분자 "." (/topic/chatroom.{id}) - RabbitMQ STOMP 는 /topic/ 뒤를 라우팅 키로 쓰므로 "/" 를 쓸 수 없다
+        // simple 모드는 기존 "/" 구분자를 유지한다 (기존 클라이언트 호환)
+        if (destinations.isRelay()) {
+            config.setPathMatcher(new AntPathMatcher(destinations.getSeparator()));
+        }
     }
 
     @Override
@@ -25,5 +106,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-chat")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+
+        // 세션별 수신 순서 보존 (한 세션의 메시지는 인바운드 실행기에서도 순서대로 처리)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(chatInboundExecutor)
+                .interceptors(inboundRateLimitInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 세션별 직렬 큐 (발신 순서 보존 + 큐 길이 제한)
+        registration.executor(sessionOutboundExecutor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트의 세션별 전송 버퍼/시간 상한 - 넘으면 세션을 종료한다
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(sessionRegistry::decorate);
     }
 }
@@ -1,23 +1,20 @@
 package com.grow.chat.config;
 
-import com.grow.chat.dto.ChatRoomMember;
+import com.grow.chat.service.ChatPresenceBroadcaster;
 import com.grow.chat.service.ChatRoomPresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.List;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
     private final ChatRoomPresenceService presenceService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatPresenceBroadcaster presenceBroadcaster;
 
     /**
      * WebSocket 연결 해제 시 호출
@@ -28,26 +25,12 @@ public class WebSocketEventListener {
         String sessionId = event.getSessionId();
         log.info("WebSocket 연결 해제: sessionId={}", sessionId);
 
-        // 세션 매핑을 통해 해당 사용자 제거
+        // 세션 매핑을 통해 해당 세션 제거 - 멤버의 마지막 세션일 때만 결과가 있다
         ChatRoomPresenceService.SessionInfo sessionInfo = presenceService.removeMemberBySessionId(sessionId);
 
         if (sessionInfo != null) {
-            // 접속자 목록 변경 브로드캐스트
-            broadcastPresenceUpdate(sessionInfo.chatRoomId());
+            // 접속자 변경분 등록 (다음 주기에 병합 브로드캐스트)
+            presenceBroadcaster.memberLeft(sessionInfo.chatRoomId(), sessionInfo.memberId());
         }
     }
-
-    /**
-     * 채팅방 접속자 목록 변경을 구독자들에게 브로드캐스트
-     */
-    public void broadcastPresenceUpdate(Long chatRoomId) {
-        List<ChatRoomMember> members = presenceService.getMembers(chatRoomId);
-
-        messagingTemplate.convertAndSend(
-                "/topic/chatroom/" + chatRoomId + "/presence",
-                members
-        );
-
-        log.debug("접속자 목록 브로드캐스트: chatRoomId={}, count={}", chatRoomId, members.size());
-    }
 }
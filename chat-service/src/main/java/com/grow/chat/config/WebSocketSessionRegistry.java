@@ -0,0 +1,53 @@
+package com.grow.chat.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 인스턴스의 WebSocket 세션 목록 - 흐름 제어 정책(disconnect)에서 세션을 서버 측에서 끊을 때 사용
+ * WebSocketConfig 의 전송 설정에 핸들러 데코레이터로 등록된다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public void close(String sessionId, CloseStatus status) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+
+        try {
+            session.close(status);
+            log.info("WebSocket 세션 종료: sessionId={}, reason={}", sessionId, status.getReason());
+        } catch (IOException e) {
+            log.warn("WebSocket 세션 종료 실패: sessionId={}", sessionId, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.grow.chat.controller;
+
+import com.grow.chat.service.ChatMessagePartitionManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+@Tag(name = "Chat Archive API", description = "채팅 메시지 파티션 보관/복원 (내부용, X-Internal-Token 헤더 필요)")
+@Slf4j
+@RestController
+@RequestMapping("/api/chat/internal/archive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.partition.enabled", havingValue = "true")
+public class ChatArchiveController {
+
+    private final ChatMessagePartitionManager partitionManager;
+
+    @Operation(summary = "보관 파티션 복원", description = "보관된 월(yyyy-MM) 메시지를 다시 조회 가능하게 복원합니다")
+    @PostMapping("/{month}")
+    public ResponseEntity<Long> restore(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        long rows = partitionManager.restore(month);
+        return new ResponseEntity<>(rows, HttpStatus.OK);
+    }
+
+    @Operation(summary = "복원 파티션 해제", description = "복원한 월 파티션을 내립니다 (보관 파일은 유지)")
+    @DeleteMapping("/{month}")
+    public ResponseEntity<Void> release(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        partitionManager.release(month);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    @Operation(summary = "파티션 보관 실행", description = "보관 기간이 지난 파티션을 즉시 보관합니다")
+    @PostMapping("/run")
+    public ResponseEntity<Void> archiveExpired() {
+        partitionManager.ensurePartitions();
+        partitionManager.archiveExpired();
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
@@ -1,9 +1,10 @@
 package com.grow.chat.controller;
 
 import com.grow.chat.domain.ChatRoom;
-import com.grow.chat.dto.ChatMessageResponse;
+import com.grow.chat.dto.ChatHistoryResponse;
 import com.grow.chat.dto.ChatRoomMemberRequest;
 import com.grow.chat.dto.ChatRoomResponse;
+import com.grow.chat.dto.MessageReadCountResponse;
 import com.grow.chat.dto.UnreadMessageCountResponse;
 import com.grow.chat.service.ChatMessageService;
 import com.grow.chat.service.ChatRoomService;
@@ -12,14 +13,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Tag(name = "Chat API", description = "채팅 관련 API")
 @Slf4j
 @RestController
@@ -77,13 +78,16 @@ public class ChatController {
         return new ResponseEntity<>(null, HttpStatus.OK);
     }
 
-    @Operation(summary = "채팅 히스토리 조회", description = "채팅방의 메시지 히스토리를 페이징 조회합니다")
+    @Operation(summary = "채팅 히스토리 조회", description = "채팅방의 메시지 히스토리를 커서(beforeId/afterId, cursorCreatedAt) 기반으로 조회합니다")
     @GetMapping("/rooms/{chatRoomId}/messages")
-    public ResponseEntity<Page<ChatMessageResponse>> getChatHistory(
+    public ResponseEntity<ChatHistoryResponse> getChatHistory(
             @PathVariable Long chatRoomId,
-            @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(defaultValue = "50") int size) {
 
-        Page<ChatMessageResponse> messages = chatMessageService.getChatHistory(chatRoomId, pageable);
+        ChatHistoryResponse messages = chatMessageService.getChatHistory(chatRoomId, beforeId, afterId, cursorCreatedAt, size);
         return  new ResponseEntity<>(messages, HttpStatus.OK);
     }
 
@@ -98,6 +102,16 @@ public class ChatController {
         return new ResponseEntity<>(null, HttpStatus.OK);
     }
 
+    @Operation(summary = "메시지별 읽음 수 조회", description = "메시지마다 읽은/읽지 않은 멤버 수를 조회합니다 (최대 100개)")
+    @GetMapping("/rooms/{chatRoomId}/read-counts")
+    public ResponseEntity<List<MessageReadCountResponse>> getReadCounts(
+            @PathVariable Long chatRoomId,
+            @RequestParam List<Long> messageIds) {
+
+        List<MessageReadCountResponse> response = chatMessageService.getReadCounts(chatRoomId, messageIds);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "읽지 않은 메시지 개수 조회", description = "읽지 않은 메시지 개수를 조회합니다")
     @GetMapping("/rooms/{chatRoomId}/unread")
     public ResponseEntity<UnreadMessageCountResponse> getUnreadMessageCount(
@@ -0,0 +1,41 @@
+package com.grow.chat.controller;
+
+import com.grow.chat.dto.ChatHistoryResponse;
+import com.grow.chat.service.ChatMessageSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Chat Search API", description = "채팅 메시지 검색")
+@RestController
+@RequestMapping("/api/chat/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.search.enabled", havingValue = "true")
+public class ChatSearchController {
+
+    private final ChatMessageSearchService chatMessageSearchService;
+
+    @Operation(summary = "채팅 메시지 검색", description = "멤버가 속한 채팅방(chatRoomId 지정 시 해당 방)의 메시지를 최신순으로 검색합니다. nextCursor, nextCursorCreatedAt 을 다음 요청의 beforeId, cursorCreatedAt 으로 사용")
+    @GetMapping
+    public ResponseEntity<ChatHistoryResponse> search(
+            @RequestParam Long memberId,
+            @RequestParam String q,
+            @RequestParam(required = false) Long chatRoomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(defaultValue = "20") int size) {
+
+        ChatHistoryResponse response = chatMessageSearchService.search(memberId, q, chatRoomId, beforeId, cursorCreatedAt, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
@@ -1,23 +1,28 @@
 package com.grow.chat.controller;
 
-import com.grow.chat.config.WebSocketEventListener;
+import com.grow.chat.config.InboundRateLimitInterceptor;
 import com.grow.chat.dto.ChatMessagePublish;
 import com.grow.chat.dto.ChatMessageRequest;
 import com.grow.chat.dto.ChatMessageResponse;
 import com.grow.chat.dto.ChatRoomMember;
 import com.grow.chat.service.ChatMessageService;
+import com.grow.chat.service.ChatPresenceBroadcaster;
+import com.grow.chat.service.ChatRecentMessageBuffer;
 import com.grow.chat.service.ChatRoomPresenceService;
 import com.grow.chat.service.RedisPublisher;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Controller
@@ -27,14 +32,18 @@ public class ChatWebSocketController {
     private final ChatMessageService chatMessageService;
     private final SimpMessagingTemplate messagingTemplate;
     private final RedisPublisher redisPublisher;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
     private final ChatRoomPresenceService presenceService;
-    private final WebSocketEventListener eventListener;
+    private final ChatPresenceBroadcaster presenceBroadcaster;
 
     /**
      * 클라이언트가 /app/chat.sendMessage 로 메시지를 보내면 이 메서드가 처리
-     * 처리 후 /topic/chatroom/{chatRoomId} 를 구독하는 모든 클라이언트에게 브로드캐스트
+     * 처리 후 /topic/chatroom/{chatRoomId} (relay 모드: /topic/chatroom.{chatRoomId}) 를 구독하는 모든 클라이언트에게 브로드캐스트
+     *
+     * 매핑 패턴은 모드별 경로 구분자에 맞춰 두 가지를 둔다 - simple("/") 은 "/chat.sendMessage", relay(".") 는 "chat.sendMessage"
+     * (각 구분자에서 다른 쪽 패턴은 일치하지 않는다)
      */
-    @MessageMapping("/chat.sendMessage")
+    @MessageMapping({"/chat.sendMessage", "chat.sendMessage"})
     public void sendMessage(@Valid @Payload ChatMessageRequest request) {
         log.info("WebSocket 메시지 수신: chatRoomId={}, senderId={}",
                 request.getChatRoomId(), request.getSenderId());
@@ -54,6 +63,8 @@ public class ChatWebSocketController {
                     .createdAt(response.getCreatedAt())
                     .build();
 
+            // 최근 메시지 버퍼에 추가 후 발행 (수신 측 로컬 사본이 버퍼보다 앞서지 않도록)
+            recentMessageBuffer.append(publishMessage);
             redisPublisher.publishChatMessage(publishMessage);
             log.info("Redis 메시지 발행 완료: id={}", response.getId());
 
@@ -71,13 +82,18 @@ public class ChatWebSocketController {
     /**
      * 사용자가 채팅방에 입장했을 때
      */
-    @MessageMapping("/chat.join")
+    @MessageMapping({"/chat.join", "chat.join"})
     public void joinChatRoom(@Payload ChatMessageRequest request,
                              SimpMessageHeaderAccessor headerAccessor) {
         String sessionId = headerAccessor.getSessionId();
         log.info("채팅방 입장: chatRoomId={}, memberId={}, sessionId={} senderNickname={}",
                 request.getChatRoomId(), request.getSenderId(), sessionId , request.getSenderNickname());
 
+        // 인바운드 속도 제한 키 (InboundRateLimitInterceptor)
+        if (headerAccessor.getSessionAttributes() != null) {
+            headerAccessor.getSessionAttributes().put(InboundRateLimitInterceptor.MEMBER_ID_ATTRIBUTE, request.getSenderId());
+        }
+
         try {
             // 접속자 목록에 추가
             ChatRoomMember member = ChatRoomMember.builder()
@@ -108,8 +124,8 @@ public class ChatWebSocketController {
 
             redisPublisher.publishChatMessage(publishMessage);
 
-            // 접속자 목록 변경 브로드캐스트
-            eventListener.broadcastPresenceUpdate(request.getChatRoomId());
+            // 접속자 변경분 등록 (다음 주기에 병합 브로드캐스트)
+            presenceBroadcaster.memberJoined(request.getChatRoomId(), member);
 
         } catch (Exception e) {
             log.error("입장 처리 실패: {}", e.getMessage(), e);
@@ -119,7 +135,7 @@ public class ChatWebSocketController {
     /**
      * 사용자가 채팅방에서 퇴장했을 때
      */
-    @MessageMapping("/chat.leave")
+    @MessageMapping({"/chat.leave", "chat.leave"})
     public void leaveChatRoom(@Payload ChatMessageRequest request,
                               SimpMessageHeaderAccessor headerAccessor) {
         String sessionId = headerAccessor.getSessionId();
@@ -127,8 +143,8 @@ public class ChatWebSocketController {
                 request.getChatRoomId(), request.getSenderId(), sessionId);
 
         try {
-            // 접속자 목록에서 제거
-            presenceService.removeMember(request.getChatRoomId(), request.getSenderId(), sessionId);
+            // 접속자 목록에서 이 세션 제거 (다른 탭/세션이 남아 있으면 멤버는 접속 유지)
+            boolean left = presenceService.removeMember(request.getChatRoomId(), request.getSenderId(), sessionId);
 
             // 퇴장 시스템 메시지 생성
             ChatMessageResponse response = chatMessageService.sendSystemMessage(
@@ -150,11 +166,22 @@ public class ChatWebSocketController {
 
             redisPublisher.publishChatMessage(publishMessage);
 
-            // 접속자 목록 변경 브로드캐스트
-            eventListener.broadcastPresenceUpdate(request.getChatRoomId());
+            // 마지막 세션이 빠졌을 때만 접속자 변경분 등록 (다음 주기에 병합 브로드캐스트)
+            if (left) {
+                presenceBroadcaster.memberLeft(request.getChatRoomId(), request.getSenderId());
+            }
 
         } catch (Exception e) {
             log.error("퇴장 처리 실패: {}", e.getMessage(), e);
         }
     }
+
+    /**
+     * 접속자 전체 목록 - 클라이언트가 /app/chatroom/{chatRoomId}/presence 를 구독하면 한 번 응답
+     * 이후 변경분은 /topic/chatroom/{chatRoomId}/presence 로 받는다. (relay 모드는 "." 구분: /app/chatroom.{chatRoomId}.presence)
+     */
+    @SubscribeMapping({"/chatroom/{chatRoomId}/presence", "chatroom.{chatRoomId}.presence"})
+    public List<ChatRoomMember> getPresence(@DestinationVariable Long chatRoomId) {
+        return presenceService.getMembers(chatRoomId);
+    }
 }
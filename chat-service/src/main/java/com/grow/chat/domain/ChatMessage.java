@@ -9,13 +9,12 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+// created_at 월 범위 파티션 테이블 (db/chat_messages_partitioning.sql)
+// 조회는 모두 (chat_room_id, id) 키셋이라 그 외 보조 인덱스는 두지 않는다.
 @Table(
         name = "chat_messages",
         indexes = {
-                @Index(name = "idx_message_chat_room_id", columnList = "chat_room_id"),
-                @Index(name = "idx_message_sender_id", columnList = "sender_id"),
-                @Index(name = "idx_message_created_at", columnList = "created_at"),
-                @Index(name = "idx_message_room_time", columnList = "chat_room_id,created_at"),
+                @Index(name = "idx_message_room_id", columnList = "chat_room_id,id"),
         }
 )
 @Getter
@@ -0,0 +1,40 @@
+package com.grow.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 히스토리 커서 응답
+ * - beforeId 조회(기본): 최신 → 과거 순, nextCursor 를 다음 요청의 beforeId 로 사용
+ * - afterId 조회: 과거 → 최신 순, nextCursor 를 다음 요청의 afterId 로 사용
+ * nextCursorCreatedAt 은 커서 메시지 작성 시각 - 다음 요청의 cursorCreatedAt 으로 넘기면 파티션 프루닝에 사용한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+
+    private List<ChatMessageResponse> messages;
+    private Long nextCursor;
+    private LocalDateTime nextCursorCreatedAt;
+    private boolean hasNext;
+
+    public static ChatHistoryResponse of(List<ChatMessageResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<ChatMessageResponse> messages = hasNext ? fetched.subList(0, size) : fetched;
+        ChatMessageResponse last = messages.isEmpty() ? null : messages.get(messages.size() - 1);
+
+        return ChatHistoryResponse.builder()
+                .messages(messages)
+                .nextCursor(last == null ? null : last.getId())
+                .nextCursorCreatedAt(last == null ? null : last.getCreatedAt())
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -47,4 +47,16 @@ public class ChatMessageResponse {
                 .createdAt(message.getCreatedAt())
                 .build();
     }
+
+    public static ChatMessageResponse from(ChatMessagePublish message) {
+        return ChatMessageResponse.builder()
+                .id(message.getId())
+                .chatRoomId(message.getChatRoomId())
+                .senderNickname(message.getSenderNickname())
+                .senderId(message.getSenderId())
+                .content(message.getContent())
+                .messageType(message.getMessageType())
+                .createdAt(message.getCreatedAt())
+                .build();
+    }
 }
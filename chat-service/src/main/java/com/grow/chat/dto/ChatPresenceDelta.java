@@ -0,0 +1,21 @@
+package com.grow.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 접속자 변경분 - 클라이언트는 left 를 먼저 제거한 뒤 joined 를 추가(갱신)한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPresenceDelta {
+    private Long chatRoomId;
+    private List<ChatRoomMember> joined;
+    private List<Long> left;
+}
@@ -0,0 +1,18 @@
+package com.grow.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageReadCountResponse {
+
+    private Long messageId;
+    private Long readCount;
+    // 읽지 않은 멤버 수 ("읽음 n" 표시용)
+    private Long unreadCount;
+}
@@ -13,4 +13,7 @@ public class UnreadMessageCountResponse {
 
     private Long chatRoomId;
     private Long unreadCount;
+
+    // true 면 읽지 않은 메시지가 unreadCount(chat.unread.window) 보다 많다 - "999+" 처럼 표시
+    private boolean capped;
 }
@@ -0,0 +1,40 @@
+package com.grow.chat.repository;
+
+import com.grow.chat.dto.ChatMessagePublish;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 쓰기 지연(write-behind) 모드용 JDBC 배치 저장소
+ * ID가 이미 발급된 메시지를 한 번의 배치로 저장한다.
+ * 재처리(replay) 시 중복 저장되지 않도록 ON CONFLICT DO NOTHING 사용
+ * (파티션 테이블은 PK 가 (id, created_at) 이므로 충돌 대상을 지정하지 않는다. 재처리 메시지는 created_at 도 같다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_messages (id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<ChatMessagePublish> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setLong(2, message.getChatRoomId());
+            ps.setLong(3, message.getSenderId());
+            ps.setString(4, message.getSenderNickname());
+            ps.setString(5, message.getContent());
+            ps.setString(6, message.getMessageType().name());
+            ps.setTimestamp(7, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+}
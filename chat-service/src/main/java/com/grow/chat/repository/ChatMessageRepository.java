@@ -1,24 +1,49 @@
 package com.grow.chat.repository;
 
 import com.grow.chat.domain.ChatMessage;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.grow.chat.dto.ChatMessageResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    @Query("SELECT cm FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId ORDER BY cm.createdAt DESC")
-    Page<ChatMessage> findByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+    // 키셋 페이징 - (chat_room_id, id) 인덱스 범위 스캔, COUNT 쿼리 없음, ChatRoom 프록시 없이 DTO 프로젝션
+    @Query("SELECT new com.grow.chat.dto.ChatMessageResponse(cm.id, cm.chatRoom.id, cm.sender, cm.senderNickname, cm.content, cm.messageType, cm.createdAt) " +
+            "FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId ORDER BY cm.id DESC")
+    List<ChatMessageResponse> findLatest(@Param("chatRoomId") Long chatRoomId, Limit limit);
+
+    @Query("SELECT new com.grow.chat.dto.ChatMessageResponse(cm.id, cm.chatRoom.id, cm.sender, cm.senderNickname, cm.content, cm.messageType, cm.createdAt) " +
+            "FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.id < :beforeId ORDER BY cm.id DESC")
+    List<ChatMessageResponse> findBefore(@Param("chatRoomId") Long chatRoomId, @Param("beforeId") Long beforeId, Limit limit);
+
+    @Query("SELECT new com.grow.chat.dto.ChatMessageResponse(cm.id, cm.chatRoom.id, cm.sender, cm.senderNickname, cm.content, cm.messageType, cm.createdAt) " +
+            "FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.id > :afterId ORDER BY cm.id ASC")
+    List<ChatMessageResponse> findAfter(@Param("chatRoomId") Long chatRoomId, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.grow.chat.dto.ChatMessageResponse(cm.id, cm.chatRoom.id, cm.sender, cm.senderNickname, cm.content, cm.messageType, cm.createdAt) " +
+            "FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.id < :beforeId AND cm.createdAt <= :createdAtTo ORDER BY cm.id DESC")
+    List<ChatMessageResponse> findBefore(@Param("chatRoomId") Long chatRoomId, @Param("beforeId") Long beforeId,
+                                         @Param("createdAtTo") LocalDateTime createdAtTo, Limit limit);
+
+    @Query("SELECT new com.grow.chat.dto.ChatMessageResponse(cm.id, cm.chatRoom.id, cm.sender, cm.senderNickname, cm.content, cm.messageType, cm.createdAt) " +
+            "FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.id > :afterId AND cm.createdAt >= :createdAtFrom ORDER BY cm.id ASC")
+    List<ChatMessageResponse> findAfter(@Param("chatRoomId") Long chatRoomId, @Param("afterId") Long afterId,
+                                        @Param("createdAtFrom") LocalDateTime createdAtFrom, Limit limit);
 
     @Query("SELECT cm FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.id > :lastReadMessageId ORDER BY cm.createdAt ASC")
     List<ChatMessage> findUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("lastReadMessageId") Long lastReadMessageId);
 
     @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.id > :lastReadMessageId")
     Long countUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("lastReadMessageId") Long lastReadMessageId);
+
+    // 읽지 않은 메시지 시퀀스 재구성용 - (chat_room_id, id) 인덱스만 읽는다
+    @Query("SELECT cm.id FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId ORDER BY cm.id DESC")
+    List<Long> findLatestIds(@Param("chatRoomId") Long chatRoomId, Limit limit);
 }
@@ -0,0 +1,66 @@
+package com.grow.chat.repository;
+
+import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 메시지 전문 검색 (db/chat_messages_search.sql 의 search_vector 컬럼, (chat_room_id, search_vector) GIN 인덱스)
+ *
+ * bigram 은 단어 경계를 넘어 우연히 맞을 수 있으므로 원문 포함 여부(strpos)로 다시 확인한다.
+ * 정렬/커서는 채팅 이력과 같은 id 키셋이며, createdAtTo 가 있으면 그 이후 월 파티션을 건너뛴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageSearchRepository {
+
+    private static final RowMapper<ChatMessageResponse> ROW_MAPPER = (rs, rowNum) -> new ChatMessageResponse(
+            rs.getLong("id"),
+            rs.getLong("chat_room_id"),
+            rs.getLong("sender_id"),
+            rs.getString("sender_nickname"),
+            rs.getString("content"),
+            MessageType.valueOf(rs.getString("message_type")),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ChatMessageResponse> search(List<Long> chatRoomIds, String tsquery, List<String> words,
+                                            Long beforeId, LocalDateTime createdAtTo, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at
+                FROM chat_messages
+                WHERE chat_room_id = ANY(?::bigint[])
+                  AND search_vector @@ CAST(? AS tsquery)
+                  AND message_type = 'CHAT'
+                """);
+        args.add(chatRoomIds.toArray(Long[]::new));
+        args.add(tsquery);
+
+        for (String word : words) {
+            sql.append("  AND strpos(lower(content), ?) > 0\n");
+            args.add(word);
+        }
+        if (beforeId != null) {
+            sql.append("  AND id < ?\n");
+            args.add(beforeId);
+        }
+        if (createdAtTo != null) {
+            sql.append("  AND created_at <= ?\n");
+            args.add(Timestamp.valueOf(createdAtTo));
+        }
+        sql.append("ORDER BY id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+}
@@ -0,0 +1,42 @@
+package com.grow.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.Map;
+
+/**
+ * 읽음 위치 일괄 반영용 JDBC 저장소 (ChatReadReceiptService)
+ * 채팅방 하나의 멤버별 읽음 위치를 UPDATE 한 번으로 반영한다. 기존 값보다 큰 경우만 갱신(단조 증가)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomMemberJdbcRepository {
+
+    private static final String UPDATE_LAST_READ_SQL = """
+            UPDATE chat_room_members m
+            SET last_read_message_id = v.last_read_message_id
+            FROM unnest(?::bigint[], ?::bigint[]) AS v(member_id, last_read_message_id)
+            WHERE m.chat_room_id = ?
+              AND m.member_id = v.member_id
+              AND m.left_at IS NULL
+              AND (m.last_read_message_id IS NULL OR m.last_read_message_id < v.last_read_message_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int updateLastReadMessageIds(Long chatRoomId, Map<Long, Long> lastReadByMember) {
+        Long[] memberIds = lastReadByMember.keySet().toArray(Long[]::new);
+        Long[] lastReadIds = lastReadByMember.values().toArray(Long[]::new);
+
+        return jdbcTemplate.update(UPDATE_LAST_READ_SQL, ps -> {
+            Array memberArray = ps.getConnection().createArrayOf("bigint", memberIds);
+            Array lastReadArray = ps.getConnection().createArrayOf("bigint", lastReadIds);
+            ps.setArray(1, memberArray);
+            ps.setArray(2, lastReadArray);
+            ps.setLong(3, chatRoomId);
+        });
+    }
+}
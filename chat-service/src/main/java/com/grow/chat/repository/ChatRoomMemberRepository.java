@@ -21,5 +21,11 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     @Query("SELECT crm FROM ChatRoomMember crm WHERE crm.memberId = :memberId AND crm.leftAt IS NULL")
     List<ChatRoomMember> findActiveMembersByMemberId(@Param("memberId") Long memberId);
 
+    @Query("SELECT crm.memberId FROM ChatRoomMember crm WHERE crm.chatRoom.id = :chatRoomId AND crm.leftAt IS NULL")
+    List<Long> findActiveMemberIds(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("SELECT crm.chatRoom.id FROM ChatRoomMember crm WHERE crm.memberId = :memberId AND crm.leftAt IS NULL")
+    List<Long> findActiveChatRoomIds(@Param("memberId") Long memberId);
+
     boolean existsByChatRoomIdAndMemberIdAndLeftAtIsNull(Long chatRoomId, Long memberId);
 }
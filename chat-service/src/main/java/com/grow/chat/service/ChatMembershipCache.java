@@ -0,0 +1,143 @@
+package com.grow.chat.service;
+
+import com.grow.chat.repository.ChatRoomMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 채팅방 활성 멤버 로컬 캐시 (chatRoomId → 정렬된 long[] 멤버 ID)
+ *
+ * 메시지 전송마다 멤버 여부를 DB로 확인하지 않도록 처음 조회 시 채팅방의 활성 멤버를 한 번에 적재한다.
+ * 멤버 변경(입장/퇴장/스터디 멤버 생성) 시 커밋 후 Redis 채널로 무효화 메시지를 보내 모든 인스턴스에서 제거한다.
+ * 무효화 메시지가 유실되는 경우를 대비해 ttl-seconds 가 지나면 다시 적재한다.
+ *
+ * 적재 중(DB 조회 ~ put 사이) 무효화가 일어나면 읽어 온 멤버를 캐시에 쓰지 않는다 - 변경 전 멤버가 ttl 동안 되살아나지 않도록.
+ * 채팅방별 세대 값은 고정 크기 배열(채팅방 ID 해시로 나눈 슬롯)에 두어 채팅방 수와 무관하게 메모리가 일정하다.
+ * (같은 슬롯의 다른 채팅방이 무효화되면 한 번 캐시하지 않을 뿐 결과는 같다)
+ */
+@Slf4j
+@Component
+public class ChatMembershipCache {
+
+    private static final String INVALIDATION_CHANNEL = "chat:membership:invalidate";
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlMillis;
+    private final Map<Long, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+    private final Counter missCounter;
+
+    public ChatMembershipCache(ChatRoomMemberRepository chatRoomMemberRepository,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${chat.membership-cache.max-rooms:10000}") int maxRooms,
+                               @Value("${chat.membership-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlMillis = ttlSeconds * 1000;
+
+        // 접근 순서 기반 LRU - max-rooms 를 넘으면 가장 오래 쓰지 않은 채팅방부터 제거
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxRooms;
+            }
+        });
+
+        this.missCounter = meterRegistry.counter("chat.membership.cache.miss");
+        meterRegistry.gauge("chat.membership.cache.size", cache, Map::size);
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 활성 멤버 여부 - 캐시 적중 시 DB 조회 없음
+     */
+    public boolean isMember(Long chatRoomId, Long memberId) {
+        Entry entry = cache.get(chatRoomId);
+
+        if (entry == null || entry.isExpired(ttlMillis)) {
+            entry = load(chatRoomId);
+        }
+        return Arrays.binarySearch(entry.memberIds(), memberId) >= 0;
+    }
+
+    /**
+     * 채팅방 멤버 변경 알림 - 트랜잭션 안이면 커밋 후 무효화한다.
+     * (커밋 전에 지우면 다른 요청이 변경 전 데이터를 다시 적재할 수 있다)
+     */
+    public void invalidate(Long chatRoomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(chatRoomId);
+                }
+            });
+            return;
+        }
+        publishInvalidation(chatRoomId);
+    }
+
+    private void publishInvalidation(Long chatRoomId) {
+        evictLocal(chatRoomId);
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, chatRoomId.toString());
+    }
+
+    private void evictLocal(Long chatRoomId) {
+        // 세대 확인과 put 사이에 끼어들지 않도록 캐시 락 안에서 세대를 올린다
+        synchronized (cache) {
+            generations.incrementAndGet(generationSlot(chatRoomId));
+            cache.remove(chatRoomId);
+        }
+        log.debug("채팅방 멤버 캐시 무효화: chatRoomId={}", chatRoomId);
+    }
+
+    private Entry load(Long chatRoomId) {
+        missCounter.increment();
+        long startGeneration = generations.get(generationSlot(chatRoomId));
+
+        long[] memberIds = chatRoomMemberRepository.findActiveMemberIds(chatRoomId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+
+        Entry entry = new Entry(memberIds, System.currentTimeMillis());
+        synchronized (cache) {
+            if (generations.get(generationSlot(chatRoomId)) == startGeneration) {
+                cache.put(chatRoomId, entry);
+            }
+        }
+        return entry;
+    }
+
+    private int generationSlot(Long chatRoomId) {
+        return Math.floorMod(Long.hashCode(chatRoomId), GENERATION_SLOTS);
+    }
+
+    private record Entry(long[] memberIds, long loadedAt) {
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
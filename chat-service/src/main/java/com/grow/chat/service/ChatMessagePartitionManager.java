@@ -0,0 +1,232 @@
+package com.grow.chat.service;
+
+import com.grow.chat.archive.ChatArchiveStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * chat_messages 월 파티션 관리 (db/chat_messages_partitioning.sql 로 전환된 뒤 chat.partition.enabled=true)
+ *
+ * - 생성: 이번 달부터 premake-months 개월 뒤까지 파티션을 미리 만든다. (INSERT 가 파티션 없이 실패하지 않도록)
+ * - 보관: retention-months 보다 오래된 파티션을 DETACH → gzip CSV 로 보관소에 저장 → DROP.
+ *         DETACH 후 중단되어도 다음 주기에 분리된 파티션부터 이어서 처리한다.
+ * - 복원: 보관 파일을 chat_messages_r{yyyyMM} 로 되살려 다시 ATTACH. 복원 파티션은 보관 대상에서 제외되며
+ *         조회가 끝나면 release 로 내린다. (보관 파일은 그대로 유지)
+ *
+ * 여러 인스턴스가 동시에 실행해도 되도록 모든 DDL 은 IF [NOT] EXISTS / 상태 조회 후 실행하고,
+ * 보관은 pg_try_advisory_lock 으로 한 인스턴스만 수행한다.
+ * 보관 중 DETACH 는 부모 테이블을 잠깐 잠그지만 COPY 는 분리된 테이블에서 하므로 INSERT 를 막지 않는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "chat.partition.enabled", havingValue = "true")
+public class ChatMessagePartitionManager {
+
+    private static final String PARENT_TABLE = "chat_messages";
+    private static final String PARTITION_PREFIX = "chat_messages_p";
+    private static final String RESTORED_PREFIX = "chat_messages_r";
+    private static final String ARCHIVE_SUFFIX = ".csv.gz";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long ARCHIVE_LOCK_KEY = 0x63686174L; // "chat"
+
+    private static final String COLUMNS = "id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatArchiveStorage archiveStorage;
+    private final int premakeMonths;
+    private final int retentionMonths;
+
+    public ChatMessagePartitionManager(JdbcTemplate jdbcTemplate,
+                                       ChatArchiveStorage archiveStorage,
+                                       @Value("${chat.partition.premake-months:3}") int premakeMonths,
+                                       @Value("${chat.partition.retention-months:12}") int retentionMonths) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("chat.partition.retention-months는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveStorage = archiveStorage;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${chat.partition.maintenance-cron:0 30 3 * * *}")
+    public void maintain() {
+        ensurePartitions();
+        archiveExpired();
+    }
+
+    /**
+     * 이번 달 ~ premake-months 뒤까지 파티션 생성
+     */
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    PARTITION_PREFIX + month.format(SUFFIX_FORMAT), PARENT_TABLE,
+                    month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 파티션 분리 → 보관 → 삭제
+     */
+    public void archiveExpired() {
+        // 세션 단위 advisory lock - 잠금/해제를 같은 커넥션에서 하도록 커넥션을 잡아 둔 채 작업한다
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ARCHIVE_LOCK_KEY + ")")) {
+                if (!rs.next() || !rs.getBoolean(1)) {
+                    log.debug("다른 인스턴스가 파티션 보관 중");
+                    return null;
+                }
+            }
+
+            try {
+                detachAndArchive();
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT pg_advisory_unlock(" + ARCHIVE_LOCK_KEY + ")");
+                }
+            }
+            return null;
+        });
+    }
+
+    private void detachAndArchive() {
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+
+        for (String partition : findPartitions(true)) {
+            if (parseMonth(partition).isBefore(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+                log.info("파티션 분리: {}", partition);
+            }
+        }
+
+        // 이번 주기 분리분 + 이전 주기에 분리만 되고 중단된 파티션
+        for (String partition : findPartitions(false)) {
+            archive(partition);
+        }
+    }
+
+    /**
+     * 보관된 월 파티션 복원 - chat_messages_r{yyyyMM} 로 다시 연결되어 기존 조회로 읽힌다.
+     */
+    public long restore(YearMonth month) {
+        String archiveName = PARTITION_PREFIX + month.format(SUFFIX_FORMAT) + ARCHIVE_SUFFIX;
+        if (!archiveStorage.exists(archiveName)) {
+            throw new IllegalArgumentException("보관된 파티션이 없습니다: " + month);
+        }
+        if (findPartitions(true).contains(PARTITION_PREFIX + month.format(SUFFIX_FORMAT))) {
+            throw new IllegalArgumentException("보관되지 않은 파티션입니다: " + month);
+        }
+
+        String table = RESTORED_PREFIX + month.format(SUFFIX_FORMAT);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS)");
+
+        long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try (InputStream in = new GZIPInputStream(archiveStorage.openForRead(archiveName))) {
+                return copyManager.copyIn("COPY " + table + " (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)", in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // 검색 색인(db/chat_messages_search.sql)이 적용된 경우 COPY 로 넣은 행은 트리거를 거치지 않으므로 직접 채운다
+        Boolean searchIndexed = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = ? AND column_name = 'search_vector')",
+                Boolean.class, table);
+        if (Boolean.TRUE.equals(searchIndexed)) {
+            jdbcTemplate.update("UPDATE " + table + " SET search_vector = chat_search_bigrams(content)");
+        }
+
+        // ATTACH 시 파티션 인덱스/제약 검증이 함께 이루어진다
+        jdbcTemplate.execute(String.format("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                PARENT_TABLE, table, month.atDay(1), month.plusMonths(1).atDay(1)));
+
+        log.info("파티션 복원: table={}, rows={}", table, rows);
+        return rows;
+    }
+
+    /**
+     * 복원한 파티션 내리기 (보관 파일은 유지)
+     */
+    public void release(YearMonth month) {
+        String table = RESTORED_PREFIX + month.format(SUFFIX_FORMAT);
+        List<String> attached = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? AND c.relname = ?",
+                String.class, PARENT_TABLE, table);
+        if (attached.isEmpty()) {
+            throw new IllegalArgumentException("복원된 파티션이 없습니다: " + month);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + table);
+        jdbcTemplate.execute("DROP TABLE " + table);
+        log.info("복원 파티션 해제: {}", table);
+    }
+
+    private void archive(String partition) {
+        String archiveName = partition + ARCHIVE_SUFFIX;
+
+        try {
+            archiveStorage.write(archiveName, out -> jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                try (OutputStream gzip = new GZIPOutputStream(out)) {
+                    return copyManager.copyOut("COPY " + partition + " (" + COLUMNS + ") TO STDOUT WITH (FORMAT csv)", gzip);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (IOException | UncheckedIOException e) {
+            // 보관 파일이 완료되지 않았으므로 테이블을 남겨 두고 다음 주기에 재시도
+            log.error("파티션 보관 실패: {}", partition, e);
+            return;
+        }
+
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        log.info("파티션 보관 완료: partition={}, file={}", partition, archiveName);
+    }
+
+    /**
+     * @param attached true: chat_messages 에 연결된 월 파티션, false: 분리된(보관 대기) 월 파티션
+     */
+    private List<String> findPartitions(boolean attached) {
+        return jdbcTemplate.queryForList(
+                "SELECT relname FROM pg_class WHERE relname ~ ? AND relkind = 'r' AND relispartition = ? ORDER BY relname",
+                String.class, "^" + PARTITION_PREFIX + "[0-9]{6}$", attached);
+    }
+
+    private YearMonth parseMonth(String partition) {
+        return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+    }
+}
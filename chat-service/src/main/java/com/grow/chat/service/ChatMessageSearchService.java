@@ -0,0 +1,128 @@
+package com.grow.chat.service;
+
+import com.grow.chat.dto.ChatHistoryResponse;
+import com.grow.chat.dto.ChatMessageResponse;
+import com.grow.chat.repository.ChatMessageSearchRepository;
+import com.grow.chat.repository.ChatRoomMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 메시지 검색 - 멤버가 속한 채팅방 범위에서 최신순 키셋 페이징
+ *
+ * 검색어는 색인(chat_search_bigrams)과 같은 규칙으로 나눈다.
+ * - 소문자 변환 후 영문/숫자/한글 외 문자로 단어 분리
+ * - 2글자 이상 단어: 모든 bigram 을 AND, 1글자 단어: 그 글자의 unigram
+ *   (bigram 접두 일치는 단어 마지막 글자나 1글자 메시지를 찾지 못하므로 색인에 unigram 도 넣는다)
+ * 여러 단어는 모두 포함된 메시지만 찾는다. (CHAT 타입만, 입장/퇴장 시스템 메시지 제외)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "chat.search.enabled", havingValue = "true")
+public class ChatMessageSearchService {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^a-z0-9가-힣]+");
+    private static final int MAX_WORDS = 8;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final Duration CURSOR_TIME_SLACK = Duration.ofMinutes(5);
+
+    private final ChatMessageSearchRepository chatMessageSearchRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatMembershipCache membershipCache;
+    private final Timer searchTimer;
+
+    public ChatMessageSearchService(ChatMessageSearchRepository chatMessageSearchRepository,
+                                    ChatRoomMemberRepository chatRoomMemberRepository,
+                                    ChatMembershipCache membershipCache,
+                                    MeterRegistry meterRegistry) {
+        this.chatMessageSearchRepository = chatMessageSearchRepository;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.membershipCache = membershipCache;
+        this.searchTimer = Timer.builder("chat.search.latency")
+                .description("채팅 메시지 검색 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param chatRoomId 지정하면 해당 채팅방만, 없으면 멤버가 속한 모든 채팅방
+     * @param beforeId   이전 응답의 nextCursor
+     * @param cursorCreatedAt 이전 응답의 nextCursorCreatedAt - 있으면 그 이후 월 파티션을 건너뛴다
+     */
+    public ChatHistoryResponse search(Long memberId, String query, Long chatRoomId, Long beforeId,
+                                      LocalDateTime cursorCreatedAt, int size) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        List<Long> chatRoomIds;
+        if (chatRoomId != null) {
+            if (!membershipCache.isMember(chatRoomId, memberId)) {
+                throw new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다.");
+            }
+            chatRoomIds = List.of(chatRoomId);
+        } else {
+            chatRoomIds = chatRoomMemberRepository.findActiveChatRoomIds(memberId);
+        }
+        if (chatRoomIds.isEmpty()) {
+            return ChatHistoryResponse.of(List.of(), size);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        // 커서 메시지 작성 시각(클라이언트가 돌려준 값)으로 이후 월 파티션 제외 (ID 발급/작성 시각 오차 여유)
+        LocalDateTime createdAtTo = beforeId == null || cursorCreatedAt == null
+                ? null : cursorCreatedAt.plus(CURSOR_TIME_SLACK);
+
+        List<ChatMessageResponse> fetched = searchTimer.record(() -> chatMessageSearchRepository.search(
+                chatRoomIds, toTsquery(words), words, beforeId, createdAtTo, pageSize + 1));
+
+        log.debug("채팅 검색: memberId={}, rooms={}, words={}, hits={}", memberId, chatRoomIds.size(), words, fetched.size());
+        return ChatHistoryResponse.of(fetched, pageSize);
+    }
+
+    static List<String> words(String query) {
+        if (query == null) {
+            return List.of();
+        }
+
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(query.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        if (words.size() > MAX_WORDS) {
+            throw new IllegalArgumentException("검색어는 " + MAX_WORDS + "단어까지 입력할 수 있습니다.");
+        }
+        return new ArrayList<>(words);
+    }
+
+    // 토큰은 영문/숫자/한글뿐이므로 따옴표로 감싸기만 하면 tsquery 문법에 안전하다
+    static String toTsquery(List<String> words) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word.length() == 1) {
+                terms.add("'" + word + "'");
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add("'" + word.substring(i, i + 2) + "'");
+            }
+        }
+        return String.join(" & ", terms);
+    }
+}
@@ -2,26 +2,24 @@ package com.grow.chat.service;
 
 import com.grow.chat.domain.ChatMessage;
 import com.grow.chat.domain.ChatRoom;
-import com.grow.chat.domain.ChatRoomMember;
 import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatHistoryResponse;
 import com.grow.chat.dto.ChatMessageRequest;
 import com.grow.chat.dto.ChatMessageResponse;
+import com.grow.chat.dto.MessageReadCountResponse;
 import com.grow.chat.dto.UnreadMessageCountResponse;
 import com.grow.chat.repository.ChatMessageRepository;
-import com.grow.chat.repository.ChatRoomMemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -29,42 +27,24 @@ import java.util.concurrent.TimeUnit;
 @Transactional(readOnly = true)
 public class ChatMessageService {
 
+    private static final int MAX_HISTORY_SIZE = 100;
+    private static final Duration CURSOR_TIME_SLACK = Duration.ofMinutes(5);
+
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatRoomService chatRoomService;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    private static final String UNREAD_COUNT_KEY_PREFIX = "chat:unread:";
-
-    @Transactional
+    private final ChatUnreadCounter unreadCounter;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatMembershipCache membershipCache;
+    private final ChatReadReceiptService readReceiptService;
+
+    /**
+     * 메시지 저장은 chat.persistence.mode 에 따라 동기(JPA) 또는 쓰기 지연(write-behind)으로 처리
+     * write-behind 모드에서는 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatMessageResponse sendMessage(ChatMessageRequest request) {
-        ChatRoom chatRoom = chatRoomService.getChatRoomEntity(request.getChatRoomId());
-
-        // 발신자가 채팅방 멤버인지 확인
-        boolean isMember = chatRoomMemberRepository.existsByChatRoomIdAndMemberIdAndLeftAtIsNull(
-                request.getChatRoomId(), request.getSenderId());
-
-        if (!isMember) {
-            throw new IllegalArgumentException("채팅방 멤버가 아닙니다.");
-        }
-
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(request.getSenderId())
-                .senderNickname(request.getSenderNickname())
-                .content(request.getContent())
-                .messageType(request.getMessageType())
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-        log.info("메시지 전송: messageId={}, chatRoomId={}, senderId={}",
-                savedMessage.getId(), request.getChatRoomId(), request.getSenderId());
-
-        // Redis 캐시 무효화 (읽지 않은 메시지 카운트)
-        invalidateUnreadCountCache(request.getChatRoomId());
-
-        return ChatMessageResponse.from(savedMessage, request.getSenderNickname());
+        return chatMessageWriter.write(request);
     }
 
     @Transactional
@@ -93,61 +73,76 @@ public class ChatMessageService {
 
     }
 
-    public Page<ChatMessageResponse> getChatHistory(Long chatRoomId, Pageable pageable) {
-        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomId(chatRoomId, pageable);
-        return messages.map(ChatMessageResponse::from);
+    /**
+     * 채팅 히스토리 커서 조회
+     * beforeId, afterId 둘 다 없으면 최신 메시지부터 조회한다. (최근 메시지 버퍼 우선, 이전 페이지만 DB)
+     *
+     * @param cursorCreatedAt 이전 응답의 nextCursorCreatedAt - 있으면 created_at 범위를 함께 걸어 파티션을 프루닝한다
+     */
+    public ChatHistoryResponse getChatHistory(Long chatRoomId, Long beforeId, Long afterId,
+                                              LocalDateTime cursorCreatedAt, int size) {
+        if (beforeId != null && afterId != null) {
+            throw new IllegalArgumentException("beforeId와 afterId는 함께 사용할 수 없습니다.");
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        // 커서의 작성 시각은 클라이언트가 응답에서 받아 그대로 돌려준다. (ID 로 다시 조회하면 모든 파티션을 읽는다)
+        // ID 발급과 작성 시각 사이 오차를 감안해 여유(CURSOR_TIME_SLACK)를 둔다. 작성 시각이 없으면 범위 없이 조회
+        List<ChatMessageResponse> messages;
+        if (afterId != null) {
+            messages = cursorCreatedAt != null
+                    ? chatMessageRepository.findAfter(chatRoomId, afterId, cursorCreatedAt.minus(CURSOR_TIME_SLACK), limit)
+                    : chatMessageRepository.findAfter(chatRoomId, afterId, limit);
+        } else if (beforeId != null) {
+            messages = cursorCreatedAt != null
+                    ? chatMessageRepository.findBefore(chatRoomId, beforeId, cursorCreatedAt.plus(CURSOR_TIME_SLACK), limit)
+                    : chatMessageRepository.findBefore(chatRoomId, beforeId, limit);
+        } else {
+            messages = recentMessageBuffer.getLatest(chatRoomId, pageSize + 1);
+            if (messages == null) {
+                messages = chatMessageRepository.findLatest(chatRoomId, limit);
+            }
+        }
+
+        return ChatHistoryResponse.of(messages, pageSize);
     }
 
-    @Transactional
+    /**
+     * 읽음 처리 - DB 는 ChatReadReceiptService 가 주기적으로 채팅방당 한 번에 반영한다.
+     */
     public void markAsRead(Long chatRoomId, Long memberId, Long lastMessageId) {
-        ChatRoomMember member = chatRoomMemberRepository.findActiveMember(chatRoomId, memberId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다."));
+        if (!membershipCache.isMember(chatRoomId, memberId)) {
+            throw new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다.");
+        }
 
-        member.updateLastReadMessage(lastMessageId);
-        log.info("메시지 읽음 처리: chatRoomId={}, memberId={}, lastMessageId={}",
+        readReceiptService.markAsRead(chatRoomId, memberId, lastMessageId);
+        log.debug("메시지 읽음 처리: chatRoomId={}, memberId={}, lastMessageId={}",
                 chatRoomId, memberId, lastMessageId);
+    }
 
-        // Redis 캐시에서 해당 멤버의 읽지 않은 메시지 카운트 삭제
-        String cacheKey = getUnreadCountCacheKey(chatRoomId, memberId);
-        redisTemplate.delete(cacheKey);
+    public List<MessageReadCountResponse> getReadCounts(Long chatRoomId, List<Long> messageIds) {
+        return readReceiptService.getReadCounts(chatRoomId, messageIds);
     }
 
+    /**
+     * 읽지 않은 메시지 수 - Redis 읽음 위치와 채팅방 메시지 시퀀스만으로 계산 (DB 읽음 위치 반영을 기다리지 않는다)
+     * chat.unread.window 를 넘으면 unreadCount = window, capped = true 로 응답한다.
+     */
     public UnreadMessageCountResponse getUnreadMessageCount(Long chatRoomId, Long memberId) {
-        // Redis 캐시 확인
-        String cacheKey = getUnreadCountCacheKey(chatRoomId, memberId);
-        Object cachedCount = redisTemplate.opsForValue().get(cacheKey);
-
-        if (cachedCount != null) {
-            log.debug("Redis 캐시에서 읽지 않은 메시지 수 조회: {}", cachedCount);
-            return UnreadMessageCountResponse.builder()
-                    .chatRoomId(chatRoomId)
-                    .unreadCount(Long.valueOf(cachedCount.toString()))
-                    .build();
+        if (!membershipCache.isMember(chatRoomId, memberId)) {
+            throw new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다.");
         }
 
-        // 캐시 미스 시 DB 조회
-        ChatRoomMember member = chatRoomMemberRepository.findActiveMember(chatRoomId, memberId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다."));
-
-        Long lastReadMessageId = member.getLastReadMessageId() != null ? member.getLastReadMessageId() : 0L;
-        Long unreadCount = chatMessageRepository.countUnreadMessages(chatRoomId, lastReadMessageId);
-
-        // Redis 캐시에 저장 (TTL: 5분)
-        redisTemplate.opsForValue().set(cacheKey, unreadCount, 5, TimeUnit.MINUTES);
+        long lastRead = readReceiptService.getLastRead(chatRoomId, memberId);
+        long count = unreadCounter.countAfter(chatRoomId, lastRead);
+        boolean capped = unreadCounter.isCapped(count);
 
         return UnreadMessageCountResponse.builder()
                 .chatRoomId(chatRoomId)
-                .unreadCount(unreadCount)
+                .unreadCount(capped ? unreadCounter.getWindow() : count)
+                .capped(capped)
                 .build();
     }
-
-    private void invalidateUnreadCountCache(Long chatRoomId) {
-        // 해당 채팅방의 모든 멤버의 읽지 않은 메시지 카운트 캐시 삭제
-        String pattern = UNREAD_COUNT_KEY_PREFIX + chatRoomId + ":*";
-        redisTemplate.keys(pattern).forEach(redisTemplate::delete);
-    }
-
-    private String getUnreadCountCacheKey(Long chatRoomId, Long memberId) {
-        return UNREAD_COUNT_KEY_PREFIX + chatRoomId + ":" + memberId;
-    }
 }
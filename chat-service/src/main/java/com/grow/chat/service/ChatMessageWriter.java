@@ -0,0 +1,13 @@
+package com.grow.chat.service;
+
+import com.grow.chat.dto.ChatMessageRequest;
+import com.grow.chat.dto.ChatMessageResponse;
+
+/**
+ * 채팅 메시지 저장 전략
+ * chat.persistence.mode 값으로 배포 단위 선택 (sync | write-behind)
+ */
+public interface ChatMessageWriter {
+
+    ChatMessageResponse write(ChatMessageRequest request);
+}
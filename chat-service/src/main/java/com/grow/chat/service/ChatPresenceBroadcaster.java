@@ -0,0 +1,134 @@
+package com.grow.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.chat.config.ChatDestinations;
+import com.grow.chat.dto.ChatPresenceDelta;
+import com.grow.chat.dto.ChatRoomMember;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속자 변경 브로드캐스트 병합
+ *
+ * 입장/퇴장마다 전체 접속자 목록을 읽어 보내지 않고, 채팅방별 변경분을 모아 짧은 주기로 한 번만 보낸다.
+ * 재접속 폭주(퇴장 → 입장)는 같은 주기 안에서 상쇄되어 입장 한 건으로 합쳐진다.
+ * 전체 목록은 구독 시 /app/chatroom/{chatRoomId}/presence (relay 모드: /app/chatroom.{chatRoomId}.presence) 로 한 번 받는다.
+ *
+ * 변경분은 Redis 채널로 모든 인스턴스에 전달되어 각 인스턴스의 구독자에게 전송된다.
+ * (죽은 인스턴스의 접속자를 다른 인스턴스의 스위퍼가 정리해도 모든 클라이언트가 변경분을 받는다)
+ * 브로커 릴레이 모드에서는 외부 브로커가 같은 역할을 하므로 Redis 채널 없이 바로 전송한다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceBroadcaster {
+
+    private static final String PRESENCE_CHANNEL = "chat:presence:delta";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomSerialExecutor serialExecutor;
+    private final ChatDestinations destinations;
+    private final boolean brokerRelay;
+
+    private final Map<Long, PendingDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+    public ChatPresenceBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   ChatRoomSerialExecutor serialExecutor,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   ChatDestinations destinations) {
+        this.messagingTemplate = messagingTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.serialExecutor = serialExecutor;
+        this.destinations = destinations;
+        this.brokerRelay = destinations.isRelay();
+
+        if (brokerRelay) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> deliver(message.getBody()),
+                new ChannelTopic(PRESENCE_CHANNEL));
+    }
+
+    public void memberJoined(Long chatRoomId, ChatRoomMember member) {
+        pendingDeltas.compute(chatRoomId, (key, delta) -> {
+            PendingDelta pending = delta != null ? delta : new PendingDelta();
+            pending.left.remove(member.getMemberId());
+            pending.joined.put(member.getMemberId(), member);
+            return pending;
+        });
+    }
+
+    public void memberLeft(Long chatRoomId, Long memberId) {
+        pendingDeltas.compute(chatRoomId, (key, delta) -> {
+            PendingDelta pending = delta != null ? delta : new PendingDelta();
+            pending.joined.remove(memberId);
+            pending.left.add(memberId);
+            return pending;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${chat.presence.broadcast-interval-ms:250}")
+    public void flush() {
+        for (Long chatRoomId : pendingDeltas.keySet()) {
+            // remove 이후의 변경은 새 PendingDelta 에 쌓여 다음 주기에 전송된다
+            PendingDelta pending = pendingDeltas.remove(chatRoomId);
+            if (pending == null) {
+                continue;
+            }
+
+            ChatPresenceDelta delta = ChatPresenceDelta.builder()
+                    .chatRoomId(chatRoomId)
+                    .joined(new ArrayList<>(pending.joined.values()))
+                    .left(new ArrayList<>(pending.left))
+                    .build();
+
+            if (brokerRelay) {
+                messagingTemplate.convertAndSend(destinations.presence(chatRoomId), delta);
+                continue;
+            }
+
+            try {
+                stringRedisTemplate.convertAndSend(PRESENCE_CHANNEL, objectMapper.writeValueAsString(delta));
+                log.debug("접속자 변경 발행: chatRoomId={}, joined={}, left={}",
+                        chatRoomId, delta.getJoined().size(), delta.getLeft().size());
+            } catch (Exception e) {
+                log.error("접속자 변경 발행 실패: chatRoomId={}", chatRoomId, e);
+            }
+        }
+    }
+
+    private void deliver(byte[] body) {
+        ChatPresenceDelta delta;
+        try {
+            delta = objectMapper.readValue(body, ChatPresenceDelta.class);
+        } catch (Exception e) {
+            log.error("접속자 변경 역직렬화 실패", e);
+            return;
+        }
+
+        // 채팅 메시지와 같은 채팅방 레인으로 전달 (리스너 컨테이너 스레드를 막지 않도록)
+        serialExecutor.execute(delta.getChatRoomId(),
+                () -> messagingTemplate.convertAndSend(destinations.presence(delta.getChatRoomId()), delta));
+    }
+
+    private static class PendingDelta {
+        private final Map<Long, ChatRoomMember> joined = new LinkedHashMap<>();
+        private final Set<Long> left = new LinkedHashSet<>();
+    }
+}
@@ -0,0 +1,300 @@
+package com.grow.chat.service;
+
+import com.grow.chat.domain.ChatRoomMember;
+import com.grow.chat.dto.MessageReadCountResponse;
+import com.grow.chat.repository.ChatRoomMemberJdbcRepository;
+import com.grow.chat.repository.ChatRoomMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽음 위치 집계 엔진
+ *
+ * 읽음 요청마다 chat_room_members 를 UPDATE 하지 않고 Redis 에 모은 뒤 주기적으로 채팅방당 UPDATE 한 번으로 반영한다.
+ * - chat:read:{chatRoomId}         Hash (memberId → 마지막 읽은 메시지 ID) - 읽음 수 계산용
+ * - chat:read:{chatRoomId}:pending Hash (memberId → 아직 DB 에 반영되지 않은 최대 읽음 위치)
+ * - chat:read:dirty                Set (pending 이 있는 채팅방)
+ * 모든 갱신은 기존 값보다 클 때만 반영한다. (늦게 도착한 읽음 요청이 되돌리지 않도록)
+ *
+ * 메시지별 읽음 수 = 읽음 위치가 메시지 ID 이상인 멤버 수. 멤버 읽음 위치를 정렬해 이분 탐색으로 구하므로 메시지를 조회하지 않는다.
+ * (Sorted Set score 는 double 이라 Snowflake ID 의 정밀도를 잃으므로 Hash 에 문자열로 두고 애플리케이션에서 정렬한다)
+ */
+@Slf4j
+@Service
+public class ChatReadReceiptService {
+
+    private static final String READ_KEY_PREFIX = "chat:read:";
+    private static final String PENDING_SUFFIX = ":pending";
+    private static final String DIRTY_KEY = "chat:read:dirty";
+    private static final int MAX_READ_COUNT_IDS = 100;
+
+    // 메시지 ID 는 Snowflake(최대 2^63)일 수 있어 Lua 숫자(double)로 비교하지 않고 자릿수 → 사전순으로 비교한다
+    private static final String GT_FUNCTION =
+            "local function gt(a, b) " +
+            "  if b == false or b == nil then return true end " +
+            "  if #a ~= #b then return #a > #b end " +
+            "  return a > b " +
+            "end ";
+
+    // pending / 읽음 위치(적재된 경우만) 를 최대값으로 갱신하고 채팅방을 dirty 로 표시
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>(
+            GT_FUNCTION +
+            "if gt(ARGV[2], redis.call('HGET', KEYS[2], ARGV[1])) then " +
+            "  redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "  redis.call('SADD', KEYS[3], ARGV[3]) " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  if gt(ARGV[2], redis.call('HGET', KEYS[1], ARGV[1])) then redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) end " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // pending 을 꺼내고 비운다 [memberId, lastRead, memberId, lastRead, ...]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return entries",
+            List.class);
+
+    // DB 반영 실패 시 꺼낸 pending 을 최대값으로 되돌린다
+    private static final RedisScript<Long> RESTORE_PENDING_SCRIPT = new DefaultRedisScript<>(
+            GT_FUNCTION +
+            "for i = 2, #ARGV, 2 do " +
+            "  if gt(ARGV[i + 1], redis.call('HGET', KEYS[1], ARGV[i])) then redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "end " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // DB 읽음 위치 + pending 중 큰 값으로 읽음 위치 적재 (이미 적재되어 있으면 무시)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            GT_FUNCTION +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV, 2 do " +
+            "  local position = ARGV[i + 1] " +
+            "  local pending = redis.call('HGET', KEYS[2], ARGV[i]) " +
+            "  if pending and gt(pending, position) then position = pending end " +
+            "  redis.call('HSET', KEYS[1], ARGV[i], position) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomMemberJdbcRepository chatRoomMemberJdbcRepository;
+    private final int flushBatchRooms;
+    private final String ttlMillis;
+
+    private final Timer flushTimer;
+    private final Counter flushFailureCounter;
+
+    public ChatReadReceiptService(StringRedisTemplate stringRedisTemplate,
+                                  ChatRoomMemberRepository chatRoomMemberRepository,
+                                  ChatRoomMemberJdbcRepository chatRoomMemberJdbcRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.read-receipt.flush-batch-rooms:500}") int flushBatchRooms,
+                                  @Value("${chat.read-receipt.ttl-hours:168}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.chatRoomMemberJdbcRepository = chatRoomMemberJdbcRepository;
+        this.flushBatchRooms = flushBatchRooms;
+        this.ttlMillis = String.valueOf(Duration.ofHours(ttlHours).toMillis());
+
+        this.flushTimer = meterRegistry.timer("chat.read.flush.latency");
+        this.flushFailureCounter = meterRegistry.counter("chat.read.flush.failures");
+    }
+
+    /**
+     * 읽음 처리 - Redis 에만 기록, DB 는 flush 주기에 반영
+     */
+    public void markAsRead(Long chatRoomId, Long memberId, Long lastMessageId) {
+        stringRedisTemplate.execute(MARK_SCRIPT,
+                List.of(getReadKey(chatRoomId), getPendingKey(chatRoomId), DIRTY_KEY),
+                memberId.toString(), lastMessageId.toString(), chatRoomId.toString(), ttlMillis);
+    }
+
+    /**
+     * 멤버 읽음 위치 - DB 미반영(pending) 읽음까지 합친 Redis 값 (적재 전이면 DB 읽음 위치 + pending 으로 적재)
+     */
+    public long getLastRead(Long chatRoomId, Long memberId) {
+        String key = getReadKey(chatRoomId);
+
+        Object position = stringRedisTemplate.opsForHash().get(key, memberId.toString());
+        if (position == null && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            seed(chatRoomId);
+            position = stringRedisTemplate.opsForHash().get(key, memberId.toString());
+        }
+        if (position == null) {
+            throw new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다.");
+        }
+        return Long.parseLong(position.toString());
+    }
+
+    /**
+     * 메시지별 읽음 수
+     */
+    public List<MessageReadCountResponse> getReadCounts(Long chatRoomId, List<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        if (messageIds.size() > MAX_READ_COUNT_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 메시지는 최대 " + MAX_READ_COUNT_IDS + "개입니다.");
+        }
+
+        String key = getReadKey(chatRoomId);
+
+        List<Object> results = readPositions(key);
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            seed(chatRoomId);
+            results = readPositions(key);
+        }
+
+        // 멤버별 읽음 위치 (오름차순)
+        List<?> values = (List<?>) results.get(1);
+        long[] positions = values == null ? new long[0] : values.stream()
+                .mapToLong(value -> Long.parseLong(value.toString()))
+                .sorted()
+                .toArray();
+        long memberCount = positions.length;
+
+        List<MessageReadCountResponse> responses = new ArrayList<>(messageIds.size());
+        for (Long messageId : messageIds) {
+            long readCount = positions.length - lowerBound(positions, messageId);
+            responses.add(MessageReadCountResponse.builder()
+                    .messageId(messageId)
+                    .readCount(readCount)
+                    .unreadCount(Math.max(memberCount - readCount, 0))
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 멤버 변경 시 읽음 위치를 다시 적재하도록 비운다. 트랜잭션 안이면 커밋 후 실행
+     * (pending 은 유지되어 적재 시 합쳐진다)
+     */
+    public void resetRoom(Long chatRoomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stringRedisTemplate.delete(getReadKey(chatRoomId));
+                }
+            });
+            return;
+        }
+        stringRedisTemplate.delete(getReadKey(chatRoomId));
+    }
+
+    /**
+     * pending 읽음 위치를 채팅방별 UPDATE 한 번으로 DB 에 반영
+     * SPOP 으로 채팅방을 나눠 가지므로 여러 인스턴스가 동시에 실행해도 같은 채팅방을 중복 처리하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:1000}")
+    public void flush() {
+        List<String> rooms = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchRooms);
+        if (rooms == null || rooms.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> rooms.forEach(room -> flushRoom(Long.parseLong(room))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flushRoom(Long chatRoomId) {
+        String pendingKey = getPendingKey(chatRoomId);
+        List<String> entries = stringRedisTemplate.execute(POP_PENDING_SCRIPT, List.of(pendingKey));
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> lastReadByMember = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            lastReadByMember.put(Long.parseLong(entries.get(i)), Long.parseLong(entries.get(i + 1)));
+        }
+
+        try {
+            int updated = chatRoomMemberJdbcRepository.updateLastReadMessageIds(chatRoomId, lastReadByMember);
+            log.debug("읽음 위치 반영: chatRoomId={}, members={}, updated={}", chatRoomId, lastReadByMember.size(), updated);
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.error("읽음 위치 반영 실패 - 다음 주기에 재시도: chatRoomId={}", chatRoomId, e);
+
+            List<String> args = new ArrayList<>(entries.size() + 1);
+            args.add(chatRoomId.toString());
+            args.addAll(entries);
+            stringRedisTemplate.execute(RESTORE_PENDING_SCRIPT, List.of(pendingKey, DIRTY_KEY), args.toArray());
+        }
+    }
+
+    private List<Object> readPositions(String key) {
+        return stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.hasKey(key);
+                ops.opsForHash().values(key);
+                return null;
+            }
+        });
+    }
+
+    private void seed(Long chatRoomId) {
+        List<ChatRoomMember> members = chatRoomMemberRepository.findActiveMembers(chatRoomId);
+
+        List<String> args = new ArrayList<>(members.size() * 2 + 1);
+        args.add(ttlMillis);
+        for (ChatRoomMember member : members) {
+            args.add(member.getMemberId().toString());
+            args.add(String.valueOf(member.getLastReadMessageId() != null ? member.getLastReadMessageId() : 0L));
+        }
+
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(getReadKey(chatRoomId), getPendingKey(chatRoomId)), args.toArray());
+        log.debug("읽음 위치 적재: chatRoomId={}, members={}", chatRoomId, members.size());
+    }
+
+    // positions 에서 value 이상인 첫 위치
+    private int lowerBound(long[] positions, long value) {
+        int low = 0;
+        int high = positions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private String getReadKey(Long chatRoomId) {
+        return READ_KEY_PREFIX + chatRoomId;
+    }
+
+    private String getPendingKey(Long chatRoomId) {
+        return READ_KEY_PREFIX + chatRoomId + PENDING_SUFFIX;
+    }
+}
@@ -0,0 +1,264 @@
+package com.grow.chat.service;
+
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatMessageResponse;
+import com.grow.chat.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 채팅방 최근 메시지 버퍼
+ *
+ * Redis: 최근 size 개 메시지를 ID 와 본문으로 나눠 유지한다.
+ * - chat:recent:{chatRoomId}:ids      Sorted Set (멤버 = 19자리 0 패딩 메시지 ID, score 0 → 사전순 = ID 순)
+ * - chat:recent:{chatRoomId}:messages Hash (패딩 ID → 메시지)
+ * 멤버가 ID 라 같은 메시지를 다시 발행하거나(재전송, DB 적재본) 수정해도 항목이 늘지 않고 본문만 바뀐다.
+ * (score 는 double 이라 Snowflake ID 의 정밀도를 잃으므로 사전순으로 정렬한다)
+ * 추가/잘라내기/본문 삭제는 스크립트 하나로 처리해 Sorted Set 과 Hash 가 어긋나지 않는다.
+ * chat:recent:{chatRoomId}:seeded 키가 있으면 DB 최신 메시지로 채워진 상태이므로 버퍼만으로 첫 페이지를 응답할 수 있다.
+ *
+ * 로컬: 이 인스턴스가 구독 중인(호스팅하는) 채팅방은 Pub/Sub 수신 메시지로 로컬 사본을 갱신해 Redis 조회도 생략한다.
+ * 채널 구독이 해제되면 놓치는 메시지가 생기므로 로컬 사본도 제거한다.
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageBuffer {
+
+    private static final String RECENT_KEY_PREFIX = "chat:recent:";
+    private static final String IDS_SUFFIX = ":ids";
+    private static final String MESSAGES_SUFFIX = ":messages";
+    private static final String SEEDED_SUFFIX = ":seeded";
+    private static final int ID_WIDTH = 19;
+
+    // ARGV: capacity, ttl, seeded 표시 여부, (패딩 ID, 메시지) 반복
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "for i = 4, #ARGV, 2 do " +
+            "  redis.call('ZADD', KEYS[1], 0, ARGV[i]) " +
+            "  redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1]) " +
+            "end " +
+            "local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1]) " +
+            "if excess > 0 then " +
+            "  local old = redis.call('ZRANGE', KEYS[1], 0, excess - 1) " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1) " +
+            "  redis.call('HDEL', KEYS[2], unpack(old)) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "if ARGV[3] == '1' then redis.call('SET', KEYS[3], '1', 'PX', ARGV[2]) " +
+            "else redis.call('PEXPIRE', KEYS[3], ARGV[2]) end " +
+            "return 1",
+            Long.class);
+
+    // 최신 → 과거 순 메시지. 적재 전이거나 비어 있으면 nil
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 0 then return nil end " +
+            "local ids = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+            "if #ids == 0 then return nil end " +
+            "return redis.call('HMGET', KEYS[2], unpack(ids))",
+            List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final RedisSerializer<Object> valueSerializer;
+    private final int capacity;
+    private final Duration ttl;
+
+    private final Map<Long, LocalBuffer> localBuffers;
+    private final Set<Long> hostedRooms = ConcurrentHashMap.newKeySet();
+    private volatile boolean hostAllRooms;
+
+    @SuppressWarnings("unchecked")
+    public ChatRecentMessageBuffer(RedisTemplate<String, Object> redisTemplate,
+                                   ChatMessageRepository chatMessageRepository,
+                                   @Value("${chat.recent-buffer.size:100}") int capacity,
+                                   @Value("${chat.recent-buffer.ttl-hours:24}") long ttlHours,
+                                   @Value("${chat.recent-buffer.local-max-rooms:2000}") int localMaxRooms) {
+        this.redisTemplate = redisTemplate;
+        this.valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        this.chatMessageRepository = chatMessageRepository;
+        this.capacity = capacity;
+        this.ttl = Duration.ofHours(ttlHours);
+
+        this.localBuffers = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LocalBuffer> eldest) {
+                return size() > localMaxRooms;
+            }
+        });
+    }
+
+    /**
+     * 발행 경로 - 저장된 채팅 메시지를 Redis 버퍼에 추가 (추가 + 트림 + TTL 갱신을 스크립트 한 번으로)
+     */
+    public void append(ChatMessagePublish message) {
+        write(message.getChatRoomId(), List.of(message), false);
+    }
+
+    /**
+     * Pub/Sub 수신 경로 - 호스팅 중인 채팅방의 로컬 사본 갱신
+     */
+    public void mirror(ChatMessagePublish message) {
+        LocalBuffer local = localBuffers.get(message.getChatRoomId());
+        if (local != null) {
+            local.add(message);
+        }
+    }
+
+    /**
+     * 최신 메시지 size 개 (최신 → 과거 순)
+     * 버퍼 용량을 넘는 요청이면 null 을 반환하며 호출 측에서 DB로 조회한다.
+     */
+    public List<ChatMessageResponse> getLatest(Long chatRoomId, int size) {
+        if (size > capacity) {
+            return null;
+        }
+
+        boolean hosted = hostAllRooms || hostedRooms.contains(chatRoomId);
+        LocalBuffer local = hosted ? localBuffers.get(chatRoomId) : null;
+        if (local != null && local.ready) {
+            return local.latest(size);
+        }
+
+        // 로컬 사본을 먼저 만들어 두고 Redis 를 읽는다 - 읽는 동안 수신한 메시지는 ID 기준으로 합쳐진다
+        if (hosted && local == null) {
+            local = new LocalBuffer(capacity);
+            localBuffers.put(chatRoomId, local);
+        }
+
+        List<ChatMessagePublish> recent = readRedis(chatRoomId);
+        if (recent == null) {
+            recent = seed(chatRoomId);
+        }
+
+        if (local != null) {
+            recent.forEach(local::add);
+            local.ready = true;
+            return local.latest(size);
+        }
+
+        return recent.stream()
+                .limit(size)
+                .map(ChatMessageResponse::from)
+                .toList();
+    }
+
+    /**
+     * 채팅방 채널 구독 시작/해제 알림 (ChatRoomChannelRegistry)
+     */
+    public void onRoomHosted(Long chatRoomId) {
+        hostedRooms.add(chatRoomId);
+    }
+
+    public void onRoomReleased(Long chatRoomId) {
+        hostedRooms.remove(chatRoomId);
+        localBuffers.remove(chatRoomId);
+    }
+
+    public void hostAllRooms() {
+        this.hostAllRooms = true;
+    }
+
+    private List<ChatMessagePublish> readRedis(Long chatRoomId) {
+        List<?> values = redisTemplate.execute(READ_SCRIPT, RedisSerializer.byteArray(), valueSerializer,
+                keys(chatRoomId), toBytes(String.valueOf(capacity)));
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        List<ChatMessagePublish> messages = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                messages.add((ChatMessagePublish) value);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 버퍼가 비어 있으면 DB 최신 메시지로 채운다. ID 기준으로 합쳐지므로 동시에 발행된 메시지와 섞여도 안전하다.
+     */
+    private List<ChatMessagePublish> seed(Long chatRoomId) {
+        List<ChatMessagePublish> latest = chatMessageRepository.findLatest(chatRoomId, Limit.of(capacity)).stream()
+                .map(ChatMessagePublish::from)
+                .toList();
+
+        write(chatRoomId, latest, true);
+
+        log.debug("최근 메시지 버퍼 적재: chatRoomId={}, count={}", chatRoomId, latest.size());
+        return latest;
+    }
+
+    private void write(Long chatRoomId, List<ChatMessagePublish> messages, boolean seeded) {
+        List<byte[]> args = new ArrayList<>(messages.size() * 2 + 3);
+        args.add(toBytes(String.valueOf(capacity)));
+        args.add(toBytes(String.valueOf(ttl.toMillis())));
+        args.add(toBytes(seeded ? "1" : "0"));
+        for (ChatMessagePublish message : messages) {
+            args.add(toBytes(pad(message.getId())));
+            args.add(valueSerializer.serialize(message));
+        }
+
+        redisTemplate.execute(APPEND_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.string(),
+                keys(chatRoomId), args.toArray());
+    }
+
+    private List<String> keys(Long chatRoomId) {
+        String prefix = RECENT_KEY_PREFIX + chatRoomId;
+        return List.of(prefix + IDS_SUFFIX, prefix + MESSAGES_SUFFIX, prefix + SEEDED_SUFFIX);
+    }
+
+    private static String pad(Long messageId) {
+        String id = messageId.toString();
+        return id.length() >= ID_WIDTH ? id : "0".repeat(ID_WIDTH - id.length()) + id;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class LocalBuffer {
+
+        private final NavigableMap<Long, ChatMessagePublish> messages =
+                new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        private final int capacity;
+        private volatile boolean ready;
+
+        LocalBuffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void add(ChatMessagePublish message) {
+            messages.put(message.getId(), message);
+            while (messages.size() > capacity) {
+                messages.pollLastEntry();
+            }
+        }
+
+        List<ChatMessageResponse> latest(int size) {
+            return messages.values().stream()
+                    .limit(size)
+                    .map(ChatMessageResponse::from)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.grow.chat.service;
+
+import com.grow.chat.config.ChatDestinations;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 단위 Redis Pub/Sub 채널 관리
+ *
+ * room 모드: 채팅방마다 채널(chat:room:{chatRoomId})을 사용하고,
+ * 이 인스턴스에 /topic/chatroom/{chatRoomId} 구독자가 한 명이라도 있을 때만 해당 채널을 구독한다.
+ * → 각 인스턴스는 자신이 호스팅하는 채팅방의 메시지만 수신/역직렬화한다.
+ *
+ * global 모드: 기존과 같이 단일 채널(chat:messages)로 모든 메시지를 수신한다. (비교/롤백용)
+ *
+ * chat.broker.mode=relay 이면 외부 STOMP 브로커가 인스턴스 간 전달을 맡으므로 Redis 채널을 구독하지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatRoomChannelRegistry {
+
+    public static final String GLOBAL_CHANNEL = "chat:messages";
+    private static final String ROOM_CHANNEL_PREFIX = "chat:room:";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisSubscriber redisSubscriber;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatDestinations destinations;
+    private final boolean roomMode;
+    private final boolean brokerRelay;
+
+    // sessionId -> (subscriptionId -> chatRoomId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // chatRoomId -> 로컬 구독 수 (변경은 synchronized 안에서, 게이지는 락 없이 size 를 읽는다)
+    private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+
+    public ChatRoomChannelRegistry(RedisMessageListenerContainer listenerContainer,
+                                   RedisSubscriber redisSubscriber,
+                                   ChatRecentMessageBuffer recentMessageBuffer,
+                                   MeterRegistry meterRegistry,
+                                   ChatDestinations destinations,
+                                   @Value("${chat.pubsub.channel-mode:room}") String channelMode) {
+        this.listenerContainer = listenerContainer;
+        this.redisSubscriber = redisSubscriber;
+        this.recentMessageBuffer = recentMessageBuffer;
+        this.destinations = destinations;
+        this.brokerRelay = destinations.isRelay();
+        this.roomMode = !brokerRelay && "room".equalsIgnoreCase(channelMode);
+
+        if (brokerRelay) {
+            log.info("STOMP 브로커 릴레이 모드 - Redis Pub/Sub 채널을 구독하지 않음");
+            return;
+        }
+
+        if (!roomMode) {
+            listenerContainer.addMessageListener(redisSubscriber, new ChannelTopic(GLOBAL_CHANNEL));
+            recentMessageBuffer.hostAllRooms();
+        }
+
+        meterRegistry.gauge("chat.pubsub.subscribed.rooms", roomSubscriberCounts, Map::size);
+        log.info("Redis Pub/Sub 채널 모드: {}", roomMode ? "room" : "global");
+    }
+
+    /**
+     * 외부 STOMP 브로커로 직접 발행하는지 여부 (RedisPublisher, ChatPresenceBroadcaster)
+     */
+    public boolean isBrokerRelay() {
+        return brokerRelay;
+    }
+
+    /**
+     * 메시지를 발행할 채널
+     */
+    public String channelFor(Long chatRoomId) {
+        return roomMode ? ROOM_CHANNEL_PREFIX + chatRoomId : GLOBAL_CHANNEL;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (!roomMode) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatRoomId = destinations.parseChatRoomId(accessor.getDestination());
+        if (chatRoomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), chatRoomId);
+        acquire(chatRoomId);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!roomMode) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long chatRoomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (chatRoomId != null) {
+            release(chatRoomId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!roomMode) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private synchronized void acquire(Long chatRoomId) {
+        int count = roomSubscriberCounts.merge(chatRoomId, 1, Integer::sum);
+        if (count == 1) {
+            listenerContainer.addMessageListener(redisSubscriber, new ChannelTopic(ROOM_CHANNEL_PREFIX + chatRoomId));
+            recentMessageBuffer.onRoomHosted(chatRoomId);
+            log.debug("채팅방 채널 구독: chatRoomId={}", chatRoomId);
+        }
+    }
+
+    private synchronized void release(Long chatRoomId) {
+        Integer count = roomSubscriberCounts.computeIfPresent(chatRoomId, (key, value) -> value > 1 ? value - 1 : null);
+        if (count == null) {
+            listenerContainer.removeMessageListener(redisSubscriber, new ChannelTopic(ROOM_CHANNEL_PREFIX + chatRoomId));
+            recentMessageBuffer.onRoomReleased(chatRoomId);
+            log.debug("채팅방 채널 구독 해제: chatRoomId={}", chatRoomId);
+        }
+    }
+}
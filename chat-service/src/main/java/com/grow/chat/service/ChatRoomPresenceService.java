@@ -1,83 +1,203 @@
 package com.grow.chat.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.chat.codec.ChatPayloadCodec;
 import com.grow.chat.dto.ChatRoomMember;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 채팅방 접속자 관리 (세션 하트비트 기반)
+ *
+ * - chatroom:presence:{chatRoomId}          Hash       memberId → 접속자 정보
+ * - chatroom:presence:{chatRoomId}:sessions Sorted Set "memberId:sessionId", score = 세션 마지막 하트비트 시각(ms)
+ * - chatroom:presence:{chatRoomId}:conn     Hash       memberId → 살아 있는 세션 수
+ * - chatroom:presence:{chatRoomId}:seen     Sorted Set memberId, score = 멤버 세션 중 마지막 하트비트 시각(ms)
+ * - chatroom:presence:rooms                 Set        접속자가 있는 채팅방 목록 (스위퍼 대상)
+ * - chatroom:session:{sessionId}            String     세션 → "chatRoomId:memberId"
+ *
+ * 하트비트와 만료는 세션 단위다. 한 멤버가 탭 여러 개로 접속했거나 재접속 후 이전 세션의 종료가 늦게 도착해도
+ * 그 세션만 빠지고, 멤버는 마지막 세션이 빠질 때(세션 수 0) 퇴장한다. (세션 추가/제거/만료는 Lua 로 원자 처리)
+ * 각 인스턴스는 자신에게 연결된 세션과 그 멤버의 점수를 heartbeat-interval-ms 마다 갱신한다.
+ * 인스턴스가 죽으면 점수가 갱신되지 않고, 스위퍼가 timeout-ms 가 지난 세션을 일괄 제거한 뒤 세션이 남지 않은 멤버의 퇴장 변경분을 보낸다.
+ * 접속자 수/접속 여부는 멤버 점수 범위 조회로 O(log n) 에 계산하므로 스위프 전에도 유령 접속자가 보이지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatRoomPresenceService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
-
     private static final String PRESENCE_KEY_PREFIX = "chatroom:presence:";
+    private static final String SEEN_KEY_SUFFIX = ":seen";
+    private static final String SESSIONS_KEY_SUFFIX = ":sessions";
+    private static final String CONN_KEY_SUFFIX = ":conn";
+    private static final String ROOMS_KEY = "chatroom:presence:rooms";
     private static final String SESSION_KEY_PREFIX = "chatroom:session:";
-    private static final Duration PRESENCE_TTL = Duration.ofHours(24);
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+
+    // 세션 추가 - 새 세션일 때만 세션 수 증가. 반환: 멤버의 세션 수
+    // KEYS: presence, seen, sessions, conn, rooms, session / ARGV: memberId, memberId:sessionId, now, 접속자 정보, chatRoomId, 세션 매핑, ttl(s)
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[4]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) " +
+            "if redis.call('ZADD', KEYS[3], ARGV[3], ARGV[2]) == 1 then " +
+            "  redis.call('HINCRBY', KEYS[4], ARGV[1], 1) " +
+            "end " +
+            "redis.call('SADD', KEYS[5], ARGV[5]) " +
+            "redis.call('SETEX', KEYS[6], ARGV[7], ARGV[6]) " +
+            "return tonumber(redis.call('HGET', KEYS[4], ARGV[1]))",
+            Long.class);
+
+    // 세션 제거 - 반환: 남은 세션 수 (0 이면 멤버 퇴장), 이미 제거/만료된 세션이면 -1
+    // KEYS: presence, seen, sessions, conn, session / ARGV: memberId, memberId:sessionId
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[5]) " +
+            "if redis.call('ZREM', KEYS[3], ARGV[2]) == 0 then return -1 end " +
+            "local remaining = redis.call('HINCRBY', KEYS[4], ARGV[1], -1) " +
+            "if remaining > 0 then return remaining end " +
+            "redis.call('HDEL', KEYS[4], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "return 0",
+            Long.class);
+
+    // 기준 시각 이전 세션을 제거하고 세션이 남지 않은 memberId 목록 반환 - 여러 인스턴스가 동시에 실행해도 한 번만 반환된다
+    // 세션 기록이 없는 오래된 멤버 항목(세션 단위 전환 이전 데이터)도 함께 정리한다
+    // KEYS: sessions, seen, presence, conn, rooms / ARGV: threshold, chatRoomId
+    private static final RedisScript<List> SWEEP_SCRIPT = new DefaultRedisScript<>(
+            "local left = {} " +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "if #expired > 0 then " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "  for _, session in ipairs(expired) do " +
+            "    local id = string.match(session, '^(%d+):') " +
+            "    if id and redis.call('HINCRBY', KEYS[4], id, -1) <= 0 then " +
+            "      redis.call('HDEL', KEYS[4], id) " +
+            "      redis.call('HDEL', KEYS[3], id) " +
+            "      redis.call('ZREM', KEYS[2], id) " +
+            "      table.insert(left, id) " +
+            "    end " +
+            "  end " +
+            "end " +
+            "for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])) do " +
+            "  if not redis.call('HGET', KEYS[4], id) then " +
+            "    redis.call('ZREM', KEYS[2], id) " +
+            "    redis.call('HDEL', KEYS[3], id) " +
+            "    table.insert(left, id) " +
+            "  end " +
+            "end " +
+            "if redis.call('ZCARD', KEYS[2]) == 0 then " +
+            "  redis.call('SREM', KEYS[5], ARGV[2]) " +
+            "  redis.call('DEL', KEYS[3], KEYS[1], KEYS[4]) " +
+            "end " +
+            "return left",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ChatPayloadCodec codec;
+    private final ChatPresenceBroadcaster presenceBroadcaster;
+    private final long timeoutMs;
+
+    // 이 인스턴스에 연결된 세션 (하트비트 대상)
+    private final Map<String, SessionInfo> localSessions = new ConcurrentHashMap<>();
+
+    public ChatRoomPresenceService(StringRedisTemplate stringRedisTemplate,
+                                   RedisTemplate<String, byte[]> binaryRedisTemplate,
+                                   ChatPayloadCodec codec,
+                                   ChatPresenceBroadcaster presenceBroadcaster,
+                                   @Value("${chat.presence.timeout-ms:30000}") long timeoutMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.codec = codec;
+        this.presenceBroadcaster = presenceBroadcaster;
+        this.timeoutMs = timeoutMs;
+    }
 
     /**
-     * 채팅방 입장 - 접속자 추가
+     * 채팅방 입장 - 세션 추가
+     * 정보 저장 + 세션/멤버 하트비트 점수 + 세션 수 + 채팅방 목록 + 세션 매핑을 한 번의 스크립트로 처리
      */
     public void addMember(Long chatRoomId, ChatRoomMember member) {
-        String presenceKey = PRESENCE_KEY_PREFIX + chatRoomId;
-        String field = member.getMemberId().toString();
+        String now = String.valueOf(System.currentTimeMillis());
 
-        try {
-            String value = objectMapper.writeValueAsString(member);
-            redisTemplate.opsForHash().put(presenceKey, field, value);
-            redisTemplate.expire(presenceKey, PRESENCE_TTL);
-
-            // 세션 -> 채팅방 매핑 저장 (빠른 조회용)
-            String sessionKey = SESSION_KEY_PREFIX + member.getSessionId();
-            String sessionValue = chatRoomId + ":" + member.getMemberId();
-            redisTemplate.opsForValue().set(sessionKey, sessionValue, PRESENCE_TTL);
-
-            log.info("접속자 추가: chatRoomId={}, memberId={}, sessionId={}",
-                    chatRoomId, member.getMemberId(), member.getSessionId());
-        } catch (JsonProcessingException e) {
-            log.error("접속자 추가 실패", e);
+        Long sessions = binaryRedisTemplate.execute(JOIN_SCRIPT,
+                List.of(getPresenceKey(chatRoomId), getSeenKey(chatRoomId), getSessionsKey(chatRoomId),
+                        getConnKey(chatRoomId), ROOMS_KEY, SESSION_KEY_PREFIX + member.getSessionId()),
+                toBytes(member.getMemberId().toString()),
+                toBytes(getSessionField(member.getMemberId(), member.getSessionId())),
+                toBytes(now),
+                codec.encodeMember(member),
+                toBytes(chatRoomId.toString()),
+                // 세션 -> 채팅방 매핑 (빠른 조회용)
+                toBytes(chatRoomId + ":" + member.getMemberId()),
+                toBytes(String.valueOf(SESSION_TTL.toSeconds())));
+
+        if (member.getSessionId() != null) {
+            localSessions.put(member.getSessionId(), new SessionInfo(chatRoomId, member.getMemberId()));
         }
+
+        log.info("접속자 추가: chatRoomId={}, memberId={}, sessionId={}, sessions={}",
+                chatRoomId, member.getMemberId(), member.getSessionId(), sessions);
     }
 
     /**
-     * 채팅방 퇴장 - 접속자 제거
+     * 채팅방 퇴장 - 세션 제거 (세션/세션 매핑 삭제, 마지막 세션이면 멤버 정보/점수까지 한 번의 스크립트로)
+     *
+     * @return 멤버의 마지막 세션이 빠져 멤버가 퇴장했으면 true (퇴장 변경분 전송 대상)
      */
-    public void removeMember(Long chatRoomId, Long memberId, String sessionId) {
-        String presenceKey = PRESENCE_KEY_PREFIX + chatRoomId;
-        redisTemplate.opsForHash().delete(presenceKey, memberId.toString());
+    public boolean removeMember(Long chatRoomId, Long memberId, String sessionId) {
+        Long remaining = stringRedisTemplate.execute(LEAVE_SCRIPT,
+                List.of(getPresenceKey(chatRoomId), getSeenKey(chatRoomId), getSessionsKey(chatRoomId),
+                        getConnKey(chatRoomId), SESSION_KEY_PREFIX + sessionId),
+                memberId.toString(), getSessionField(memberId, sessionId));
 
-        // 세션 매핑도 제거
         if (sessionId != null) {
-            String sessionKey = SESSION_KEY_PREFIX + sessionId;
-            redisTemplate.delete(sessionKey);
+            localSessions.remove(sessionId);
         }
 
-        log.info("접속자 제거: chatRoomId={}, memberId={}", chatRoomId, memberId);
+        boolean left = remaining != null && remaining == 0;
+        log.info("접속자 세션 제거: chatRoomId={}, memberId={}, sessionId={}, remaining={}",
+                chatRoomId, memberId, sessionId, remaining);
+        return left;
     }
 
     /**
-     * 채팅방 접속자 목록 조회
+     * 채팅방 접속자 목록 조회 - 하트비트가 살아 있는 멤버만
      */
     public List<ChatRoomMember> getMembers(Long chatRoomId) {
-        String presenceKey = PRESENCE_KEY_PREFIX + chatRoomId;
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(presenceKey);
+        Set<String> liveIds = stringRedisTemplate.opsForZSet()
+                .rangeByScore(getSeenKey(chatRoomId), aliveSince(), Double.POSITIVE_INFINITY);
+
+        if (liveIds == null || liveIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> values = binaryRedisTemplate.opsForHash()
+                .multiGet(getPresenceKey(chatRoomId), new ArrayList<>(liveIds));
 
-        return entries.values().stream()
+        return values.stream()
+                .filter(Objects::nonNull)
                 .map(value -> {
                     try {
-                        return objectMapper.readValue(value.toString(), ChatRoomMember.class);
-                    } catch (JsonProcessingException e) {
+                        return codec.decodeMember((byte[]) value);
+                    } catch (RuntimeException e) {
                         log.error("역직렬화 실패", e);
                         return null;
                     }
@@ -88,29 +208,33 @@ public class ChatRoomPresenceService {
     }
 
     /**
-     * 채팅방 접속자 수 조회
+     * 채팅방 접속자 수 조회 - O(log n)
      */
     public long getMemberCount(Long chatRoomId) {
-        String presenceKey = PRESENCE_KEY_PREFIX + chatRoomId;
-        Long size = redisTemplate.opsForHash().size(presenceKey);
-        return size != null ? size : 0;
+        Long count = stringRedisTemplate.opsForZSet()
+                .count(getSeenKey(chatRoomId), aliveSince(), Double.POSITIVE_INFINITY);
+        return count != null ? count : 0;
     }
 
     /**
-     * 특정 멤버가 접속 중인지 확인
+     * 특정 멤버가 접속 중인지 확인 - O(1)
      */
     public boolean isMemberOnline(Long chatRoomId, Long memberId) {
-        String presenceKey = PRESENCE_KEY_PREFIX + chatRoomId;
-        return redisTemplate.opsForHash().hasKey(presenceKey, memberId.toString());
+        Double lastSeen = stringRedisTemplate.opsForZSet().score(getSeenKey(chatRoomId), memberId.toString());
+        return lastSeen != null && lastSeen >= aliveSince();
     }
 
     /**
      * 세션 ID로 접속자 제거 (비정상 종료 대응)
      * 세션 매핑을 통해 O(1)로 조회
+     *
+     * @return 멤버의 마지막 세션이어서 멤버가 퇴장했으면 세션 정보, 다른 세션이 남았거나 매핑이 없으면 null
      */
     public SessionInfo removeMemberBySessionId(String sessionId) {
+        localSessions.remove(sessionId);
+
         String sessionKey = SESSION_KEY_PREFIX + sessionId;
-        Object sessionValue = redisTemplate.opsForValue().get(sessionKey);
+        String sessionValue = stringRedisTemplate.opsForValue().get(sessionKey);
 
         if (sessionValue == null) {
             log.debug("세션 매핑 없음: sessionId={}", sessionId);
@@ -118,14 +242,15 @@ public class ChatRoomPresenceService {
         }
 
         try {
-            String[] parts = sessionValue.toString().split(":");
+            // 이전 형식(JSON 문자열)으로 저장된 값은 따옴표 제거
+            String[] parts = sessionValue.replace("\"", "").split(":");
             Long chatRoomId = Long.parseLong(parts[0]);
             Long memberId = Long.parseLong(parts[1]);
 
-            // 접속자 제거
-            String presenceKey = PRESENCE_KEY_PREFIX + chatRoomId;
-            redisTemplate.opsForHash().delete(presenceKey, memberId.toString());
-            redisTemplate.delete(sessionKey);
+            // 세션 제거 - 같은 멤버의 다른 세션(다른 탭, 재접속)이 남아 있으면 멤버는 유지
+            if (!removeMember(chatRoomId, memberId, sessionId)) {
+                return null;
+            }
 
             log.info("세션 종료로 접속자 제거: sessionId={}, chatRoomId={}, memberId={}",
                     sessionId, chatRoomId, memberId);
@@ -137,6 +262,88 @@ public class ChatRoomPresenceService {
         }
     }
 
+    /**
+     * 하트비트 - 이 인스턴스에 연결된 세션들과 그 멤버의 마지막 접속 시각 갱신
+     * 이미 퇴장/스위프된 세션·멤버가 되살아나지 않도록 존재하는 항목만 갱신(ZADD XX)
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        if (localSessions.isEmpty()) {
+            return;
+        }
+
+        double now = System.currentTimeMillis();
+        Map<String, SessionInfo> sessions = Map.copyOf(localSessions);
+
+        binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            sessions.forEach((sessionId, session) -> {
+                connection.zSetCommands().zAdd(toBytes(getSessionsKey(session.chatRoomId())), now,
+                        toBytes(getSessionField(session.memberId(), sessionId)), RedisZSetCommands.ZAddArgs.empty().ifExists());
+                connection.zSetCommands().zAdd(toBytes(getSeenKey(session.chatRoomId())), now,
+                        toBytes(session.memberId().toString()), RedisZSetCommands.ZAddArgs.empty().ifExists());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 스위퍼 - timeout-ms 동안 하트비트가 없는 세션을 일괄 제거하고, 세션이 남지 않은 멤버의 퇴장 변경분 등록
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:15000}")
+    public void sweep() {
+        Set<String> rooms = stringRedisTemplate.opsForSet().members(ROOMS_KEY);
+        if (rooms == null || rooms.isEmpty()) {
+            return;
+        }
+
+        String threshold = String.valueOf(aliveSince() - 1);
+        for (String room : rooms) {
+            Long chatRoomId = Long.parseLong(room);
+
+            @SuppressWarnings("unchecked")
+            List<String> evicted = stringRedisTemplate.execute(SWEEP_SCRIPT,
+                    List.of(getSessionsKey(chatRoomId), getSeenKey(chatRoomId), getPresenceKey(chatRoomId),
+                            getConnKey(chatRoomId), ROOMS_KEY),
+                    threshold, room);
+
+            if (evicted == null || evicted.isEmpty()) {
+                continue;
+            }
+
+            evicted.forEach(memberId -> presenceBroadcaster.memberLeft(chatRoomId, Long.parseLong(memberId)));
+            log.info("하트비트 만료 접속자 제거: chatRoomId={}, count={}", chatRoomId, evicted.size());
+        }
+    }
+
+    private long aliveSince() {
+        return System.currentTimeMillis() - timeoutMs;
+    }
+
+    private String getPresenceKey(Long chatRoomId) {
+        return PRESENCE_KEY_PREFIX + chatRoomId;
+    }
+
+    private String getSeenKey(Long chatRoomId) {
+        return PRESENCE_KEY_PREFIX + chatRoomId + SEEN_KEY_SUFFIX;
+    }
+
+    private String getSessionsKey(Long chatRoomId) {
+        return PRESENCE_KEY_PREFIX + chatRoomId + SESSIONS_KEY_SUFFIX;
+    }
+
+    private String getConnKey(Long chatRoomId) {
+        return PRESENCE_KEY_PREFIX + chatRoomId + CONN_KEY_SUFFIX;
+    }
+
+    // 스위퍼가 세션 항목에서 memberId 를 꺼낼 수 있도록 memberId 를 앞에 둔다
+    private static String getSessionField(Long memberId, String sessionId) {
+        return memberId + ":" + sessionId;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * 세션 정보 반환용 record
      */
@@ -0,0 +1,99 @@
+package com.grow.chat.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅방별 직렬 레인
+ *
+ * 하위 실행기(chatDispatchExecutor)는 병렬(스레드 풀 또는 가상 스레드)이지만,
+ * 같은 채팅방의 작업은 제출 순서대로 한 번에 하나씩만 실행된다. 서로 다른 채팅방은 병렬로 처리된다.
+ * 작업이 없는 레인은 바로 제거되어 채팅방 수만큼 메모리를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSerialExecutor {
+
+    // 한 번 실행 기회에 처리할 최대 작업 수 - 바쁜 채팅방이 실행기를 독점하지 않도록
+    private static final int MAX_TASKS_PER_RUN = 64;
+
+    private final Executor executor;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public ChatRoomSerialExecutor(@Qualifier("chatDispatchExecutor") Executor executor,
+                                  MeterRegistry meterRegistry) {
+        this.executor = executor;
+        meterRegistry.gauge("chat.dispatch.active.lanes", lanes, Map::size);
+    }
+
+    public void execute(Long chatRoomId, Runnable task) {
+        // 작업 추가는 compute 안에서 - 레인 제거(release)와 원자적으로 처리된다
+        Lane lane = lanes.compute(chatRoomId, (key, existing) -> {
+            Lane target = existing != null ? existing : new Lane(key);
+            target.tasks.add(task);
+            return target;
+        });
+        lane.schedule();
+    }
+
+    private class Lane implements Runnable {
+
+        private final Long chatRoomId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        Lane(Long chatRoomId) {
+            this.chatRoomId = chatRoomId;
+        }
+
+        void schedule() {
+            if (!running.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+                log.error("채팅방 레인 실행 거부: chatRoomId={}, pending={}", chatRoomId, tasks.size(), e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable task;
+                int processed = 0;
+                while (processed < MAX_TASKS_PER_RUN && (task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("채팅방 레인 작업 실패: chatRoomId={}", chatRoomId, e);
+                    }
+                    processed++;
+                }
+            } finally {
+                running.set(false);
+                if (!tasks.isEmpty()) {
+                    schedule();
+                } else {
+                    release();
+                }
+            }
+        }
+
+        private void release() {
+            lanes.computeIfPresent(chatRoomId, (key, current) ->
+                    current == this && tasks.isEmpty() && !running.get() ? null : current);
+        }
+    }
+}
@@ -21,6 +21,8 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatMembershipCache membershipCache;
+    private final ChatReadReceiptService readReceiptService;
 
     @Transactional
     public ChatRoomResponse createChatRoom(Long studyId, String roomName) {
@@ -68,6 +70,8 @@ public class ChatRoomService {
 
         ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
         chatRoomMemberRepository.save(chatRoomMember);
+        membershipCache.invalidate(savedRoom.getId());
+        readReceiptService.resetRoom(savedRoom.getId());
         return savedRoom;
     }
 
@@ -87,6 +91,8 @@ public class ChatRoomService {
                 .build();
 
         ChatRoomMember save = chatRoomMemberRepository.save(member);
+        membershipCache.invalidate(chatRoomId);
+        readReceiptService.resetRoom(chatRoomId);
         log.info("채팅방 입장: chatRoomId={}, memberId={}", chatRoomId, memberId);
         return chatRoom;
     }
@@ -97,6 +103,8 @@ public class ChatRoomService {
                 .orElseThrow(() -> new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다."));
 
         member.leave();
+        membershipCache.invalidate(chatRoomId);
+        readReceiptService.resetRoom(chatRoomId);
         log.info("채팅방 퇴장: chatRoomId={}, memberId={}", chatRoomId, memberId);
     }
 
@@ -112,6 +120,13 @@ public class ChatRoomService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다."));
     }
 
+    /**
+     * 조회 없이 FK 참조용 프록시 반환 (멤버 확인이 끝난 채팅방에만 사용)
+     */
+    public ChatRoom getChatRoomReference(Long chatRoomId) {
+        return chatRoomRepository.getReferenceById(chatRoomId);
+    }
+
     @Transactional
     public ChatRoomResponse internalRequest(InternalRequest request) {
         ChatRoom chatRoom = createChatRoomEntity(request.studyId(), request.roomName());
@@ -119,6 +134,8 @@ public class ChatRoomService {
         ChatRoomMember chatRoomMember = addMember(chatRoom, request.userId(), request.nickname());
 
         chatRoomMemberRepository.save(chatRoomMember);
+        membershipCache.invalidate(chatRoom.getId());
+        readReceiptService.resetRoom(chatRoom.getId());
 
         return ChatRoomResponse.from(chatRoom);
     }
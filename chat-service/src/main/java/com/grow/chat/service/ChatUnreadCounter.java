@@ -0,0 +1,164 @@
+package com.grow.chat.service;
+
+import com.grow.chat.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽지 않은 메시지 수 계산 엔진
+ *
+ * 채팅방마다 최근 메시지 ID 시퀀스(chat:unread:{chatRoomId} Sorted Set)를 두고
+ * - 멤버 : 19자리 0 패딩 메시지 ID (score 는 모두 0 → 사전순 = ID 순)
+ * - ""   : 채팅방이 적재되었음을 나타내는 표식 (항상 rank 0)
+ * 를 저장한다. 읽지 않은 수 = 읽음 위치(메시지 ID)보다 큰 ID 수로, ZLEXCOUNT 한 번으로 계산한다.
+ * (score 는 double 이라 Snowflake ID 의 정밀도를 잃으므로 사전순으로 비교한다)
+ *
+ * 읽음 위치는 ChatReadReceiptService 의 Redis 읽음 위치(DB 미반영분 포함)를 받으므로 DB 읽음 위치 반영 지연과 무관하다.
+ * 최근 window + 1 개만 유지한다. 읽지 않은 수가 window 를 넘는지까지만 정확하며,
+ * 넘으면 응답에 unreadCount = window, capped = true 로 내려 클라이언트가 "999+" 처럼 표시한다.
+ *
+ * 시퀀스에는 DB 에 저장된 메시지만 추가한다. (sync 는 커밋 후, write-behind 는 배치 INSERT 후)
+ * 그래서 시퀀스가 없을 때(콜드 스타트 또는 ttl 동안 메시지가 없던 채팅방) DB 최신 메시지 ID 로 재구성해도 빠지는 메시지가 없다.
+ */
+@Slf4j
+@Service
+public class ChatUnreadCounter {
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    private static final int ID_WIDTH = 19;
+
+    // 적재된 채팅방만 추가한다. 적재 전이면 0 반환 → 재구성 필요
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('ZADD', KEYS[1], 0, ARGV[1]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 1, -(tonumber(ARGV[2]) + 1)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 표식 + 메시지 ID 들을 추가 (이미 적재되어 있어도 ZADD 는 멱등이라 안전)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], 0, '') " +
+            "for i = 3, #ARGV do redis.call('ZADD', KEYS[1], 0, ARGV[i]) end " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 1, -(tonumber(ARGV[1]) + 1)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 읽음 위치보다 큰 ID 수. 적재 전이면 -1
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('ZLEXCOUNT', KEYS[1], '(' .. ARGV[1], '+')",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final int window;
+    private final int retained;
+    private final String ttlMillis;
+
+    public ChatUnreadCounter(StringRedisTemplate stringRedisTemplate,
+                             ChatMessageRepository chatMessageRepository,
+                             @Value("${chat.unread.window:1000}") int window,
+                             @Value("${chat.unread.ttl-hours:168}") long ttlHours) {
+        if (window < 1) {
+            throw new IllegalArgumentException("chat.unread.window 는 1 이상이어야 합니다.");
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatMessageRepository = chatMessageRepository;
+        this.window = window;
+        this.retained = window + 1;
+        this.ttlMillis = String.valueOf(Duration.ofHours(ttlHours).toMillis());
+    }
+
+    /**
+     * 메시지 DB 저장 후 호출 - 채팅방 시퀀스에 메시지 ID 추가
+     * 트랜잭션 안이면 커밋 후 실행한다. (롤백된 메시지가 읽지 않은 수에 남지 않도록)
+     */
+    public void increment(Long chatRoomId, Long messageId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(chatRoomId, messageId);
+                }
+            });
+            return;
+        }
+        record(chatRoomId, messageId);
+    }
+
+    /**
+     * 읽음 위치(lastReadMessageId) 이후 메시지 수 - ZLEXCOUNT 한 번으로 계산
+     * window 이하면 정확한 값, window 를 넘으면 window + 1 을 반환한다. (isCapped 로 판단)
+     */
+    public long countAfter(Long chatRoomId, Long lastReadMessageId) {
+        String lastRead = pad(lastReadMessageId);
+
+        Long count = stringRedisTemplate.execute(COUNT_SCRIPT, List.of(getKey(chatRoomId)), lastRead);
+        if (count == null || count < 0) {
+            rebuildRoom(chatRoomId);
+            count = stringRedisTemplate.execute(COUNT_SCRIPT, List.of(getKey(chatRoomId)), lastRead);
+        }
+        return count == null ? 0 : Math.max(0, Math.min(count, retained));
+    }
+
+    /**
+     * countAfter 결과가 window 를 넘었는지 - 넘으면 window 보다 많다는 것만 안다
+     */
+    public boolean isCapped(long count) {
+        return count > window;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * 콜드 스타트 재구성 - DB 최신 메시지 ID window + 1 개로 시퀀스를 채운다. ((chat_room_id, id) 인덱스 범위 스캔, COUNT 없음)
+     * 시퀀스에는 DB 저장이 끝난 메시지만 들어가므로 DB 만으로 충분하다.
+     */
+    public void rebuildRoom(Long chatRoomId) {
+        List<Long> ids = chatMessageRepository.findLatestIds(chatRoomId, Limit.of(retained));
+
+        List<String> args = new ArrayList<>(ids.size() + 2);
+        args.add(String.valueOf(retained));
+        args.add(ttlMillis);
+        ids.forEach(id -> args.add(pad(id)));
+
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(getKey(chatRoomId)), args.toArray());
+        log.info("읽지 않은 메시지 시퀀스 재구성: chatRoomId={}, count={}", chatRoomId, ids.size());
+    }
+
+    private void record(Long chatRoomId, Long messageId) {
+        String key = getKey(chatRoomId);
+        Long recorded = stringRedisTemplate.execute(RECORD_SCRIPT, List.of(key),
+                pad(messageId), String.valueOf(retained), ttlMillis);
+
+        if (recorded == null || recorded == 0) {
+            // 재구성 후 다시 추가 - 재구성 조회가 이 메시지를 놓쳤을 수 있다
+            rebuildRoom(chatRoomId);
+            stringRedisTemplate.execute(RECORD_SCRIPT, List.of(key), pad(messageId), String.valueOf(retained), ttlMillis);
+        }
+    }
+
+    private String pad(Long messageId) {
+        String id = messageId.toString();
+        return id.length() >= ID_WIDTH ? id : "0".repeat(ID_WIDTH - id.length()) + id;
+    }
+
+    private String getKey(Long chatRoomId) {
+        return UNREAD_KEY_PREFIX + chatRoomId;
+    }
+}
@@ -0,0 +1,59 @@
+package com.grow.chat.service;
+
+import com.grow.chat.domain.ChatMessage;
+import com.grow.chat.domain.ChatRoom;
+import com.grow.chat.dto.ChatMessageRequest;
+import com.grow.chat.dto.ChatMessageResponse;
+import com.grow.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기 저장 - 트랜잭션 안에서 JPA save 후 반환 (기본값)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "sync", matchIfMissing = true)
+public class JpaChatMessageWriter implements ChatMessageWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMembershipCache membershipCache;
+    private final ChatRoomService chatRoomService;
+    private final ChatUnreadCounter unreadCounter;
+
+    @Override
+    @Transactional
+    public ChatMessageResponse write(ChatMessageRequest request) {
+        // 발신자가 채팅방 멤버인지 확인 (로컬 캐시)
+        if (!membershipCache.isMember(request.getChatRoomId(), request.getSenderId())) {
+            throw new IllegalArgumentException("채팅방 멤버가 아닙니다.");
+        }
+
+        // 멤버가 있으면 채팅방도 존재하므로 조회 없이 참조만 사용
+        ChatRoom chatRoom = chatRoomService.getChatRoomReference(request.getChatRoomId());
+
+        ChatMessage message = ChatMessage.builder()
+                .chatRoom(chatRoom)
+                .sender(request.getSenderId())
+                .senderNickname(request.getSenderNickname())
+                .content(request.getContent())
+                .messageType(request.getMessageType())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        ChatMessage savedMessage = chatMessageRepository.save(message);
+        log.info("메시지 전송: messageId={}, chatRoomId={}, senderId={}",
+                savedMessage.getId(), request.getChatRoomId(), request.getSenderId());
+
+        // 채팅방 메시지 시퀀스에 추가 (읽지 않은 메시지 카운트) - 커밋 후 반영
+        unreadCounter.increment(request.getChatRoomId(), savedMessage.getId());
+
+        return ChatMessageResponse.from(savedMessage, request.getSenderNickname());
+    }
+}
@@ -1,10 +1,12 @@
 package com.grow.chat.service;
 
+import com.grow.chat.codec.ChatPayloadCodec;
+import com.grow.chat.config.ChatDestinations;
 import com.grow.chat.dto.ChatMessagePublish;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -12,11 +14,21 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RedisPublisher {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic chatMessageTopic;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ChatRoomChannelRegistry channelRegistry;
+    private final ChatPayloadCodec codec;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatDestinations destinations;
 
     public void publishChatMessage(ChatMessagePublish message) {
-        redisTemplate.convertAndSend(chatMessageTopic.getTopic(), message);
+        if (channelRegistry.isBrokerRelay()) {
+            // 브로커 릴레이 모드 - 외부 브로커가 모든 인스턴스의 구독자에게 전달
+            messagingTemplate.convertAndSend(destinations.chatRoom(message.getChatRoomId()), message);
+            log.debug("STOMP 브로커 발행: chatRoomId={}", message.getChatRoomId());
+            return;
+        }
+
+        binaryRedisTemplate.convertAndSend(channelRegistry.channelFor(message.getChatRoomId()), codec.encodeMessage(message));
         log.debug("Redis 메시지 발행: chatRoomId={}", message.getChatRoomId());
     }
 }
\ No newline at end of file
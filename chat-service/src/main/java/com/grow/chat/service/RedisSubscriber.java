@@ -1,36 +1,68 @@
 package com.grow.chat.service;
 
+import com.grow.chat.codec.ChatPayloadCodec;
+import com.grow.chat.config.ChatDestinations;
 import com.grow.chat.dto.ChatMessagePublish;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisSubscriber implements MessageListener {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final GenericJackson2JsonRedisSerializer serializer;
+    private final ChatPayloadCodec codec;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatRoomSerialExecutor serialExecutor;
+    private final ChatDestinations destinations;
+    private final Counter receivedCounter;
 
+    public RedisSubscriber(SimpMessagingTemplate messagingTemplate,
+                           ChatPayloadCodec codec,
+                           ChatRecentMessageBuffer recentMessageBuffer,
+                           ChatRoomSerialExecutor serialExecutor,
+                           ChatDestinations destinations,
+                           MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.codec = codec;
+        this.recentMessageBuffer = recentMessageBuffer;
+        this.serialExecutor = serialExecutor;
+        this.destinations = destinations;
+        // 인스턴스별 Pub/Sub 수신량 (채널 모드별 비교 지표)
+        this.receivedCounter = meterRegistry.counter("chat.pubsub.received");
+    }
+
+    /**
+     * 리스너 컨테이너 스레드에서 역직렬화만 하고, STOMP 전달은 채팅방별 직렬 레인으로 넘긴다.
+     * (수신 순서 = 채팅방 내 전달 순서)
+     */
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        receivedCounter.increment();
+        ChatMessagePublish chatMessage;
         try {
-            ChatMessagePublish chatMessage = (ChatMessagePublish) serializer.deserialize(message.getBody());
-
-            log.debug("Redis 메시지 수신: chatRoomId={}", chatMessage.getChatRoomId());
-
-            messagingTemplate.convertAndSend(
-                    "/topic/chatroom/" + chatMessage.getChatRoomId(),
-                    chatMessage
-            );
-
+            chatMessage = codec.decodeMessage(message.getBody());
         } catch (Exception e) {
             log.error("메시지 역직렬화 실패", e);
+            return;
         }
+
+        log.debug("Redis 메시지 수신: chatRoomId={}", chatMessage.getChatRoomId());
+        serialExecutor.execute(chatMessage.getChatRoomId(), () -> deliver(chatMessage));
+    }
+
+    private void deliver(ChatMessagePublish chatMessage) {
+        messagingTemplate.convertAndSend(
+                destinations.chatRoom(chatMessage.getChatRoomId()),
+                chatMessage
+        );
+
+        // 호스팅 중인 채팅방의 최근 메시지 로컬 사본 갱신
+        recentMessageBuffer.mirror(chatMessage);
     }
-}
\ No newline at end of file
+}
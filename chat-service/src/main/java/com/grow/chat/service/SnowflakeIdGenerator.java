@@ -0,0 +1,209 @@
+package com.grow.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Snowflake 방식 메시지 ID 생성기
+ * [41bit 타임스탬프(ms, 2024-01-01 기준)][10bit 워커 ID][12bit 시퀀스]
+ *
+ * DB 왕복 없이 메모리에서 시간순 ID를 발급한다.
+ * 두 인스턴스가 같은 워커 ID 를 쓰면 같은 ID 가 나오고, ON CONFLICT DO NOTHING 저장에서 한쪽 메시지가 조용히 버려진다.
+ * 그래서 워커 ID 를 지정하지 않으면(Deployment 처럼 인스턴스별 값을 줄 수 없는 경우) Redis 에서 임대한다.
+ * - chat:snowflake:worker:{id} 를 SET NX PX 로 선점하고 worker-lease-renew-ms 마다 연장
+ * - 마지막 연장 시작 후 worker-lease-ms 의 절반이 지나면 ID 발급을 멈춘다
+ *   (Redis 만료 전에 멈추므로 다른 인스턴스가 같은 ID 를 임대할 때까지 최소 절반의 여유 - 인스턴스 간 시계 오차 허용분)
+ * - 다른 인스턴스에 넘어갔으면 새 워커 ID 를 임대한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "write-behind")
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String WORKER_KEY_PREFIX = "chat:snowflake:worker:";
+
+    // 내 임대일 때만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 내 임대일 때만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean leased;
+    private final String owner;
+    private final long leaseMs;
+
+    private long workerId;
+    private long validUntil;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(StringRedisTemplate stringRedisTemplate,
+                                @Value("${chat.persistence.write-behind.worker-id:-1}") long workerId,
+                                @Value("${chat.persistence.write-behind.worker-lease-ms:60000}") long leaseMs,
+                                @Value("${chat.persistence.write-behind.worker-lease-renew-ms:20000}") long renewMs) {
+        if (workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("워커 ID는 0~" + MAX_WORKER_ID + " 범위여야 합니다: " + workerId);
+        }
+        if (renewMs <= 0 || renewMs * 2 >= leaseMs) {
+            throw new IllegalArgumentException("worker-lease-renew-ms 는 worker-lease-ms 의 절반보다 작아야 합니다.");
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.leased = workerId < 0;
+        this.owner = resolveHostName() + ":" + UUID.randomUUID();
+        this.leaseMs = leaseMs;
+
+        if (leased) {
+            acquire();
+        } else {
+            this.workerId = workerId;
+            this.validUntil = Long.MAX_VALUE;
+            log.info("Snowflake ID 생성기 초기화: workerId={} (고정)", workerId);
+        }
+    }
+
+    public synchronized long nextId() {
+        long timestamp = System.currentTimeMillis();
+
+        if (timestamp >= validUntil) {
+            throw new IllegalStateException("메시지 ID 워커 임대를 연장하지 못해 ID 를 발급할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 시계가 뒤로 간 경우 마지막 시각을 계속 사용 (ID 역전 방지)
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 안에서 시퀀스 소진 - 다음 ms 까지 대기
+                while (timestamp <= lastTimestamp) {
+                    timestamp = System.currentTimeMillis();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (WORKER_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public synchronized long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * 워커 ID 임대 연장 - 다른 인스턴스에 넘어갔거나 만료되었으면 새로 임대한다
+     */
+    @Scheduled(fixedDelayString = "${chat.persistence.write-behind.worker-lease-renew-ms:20000}")
+    public void renew() {
+        if (!leased) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        long currentWorkerId = getWorkerId();
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(getKey(currentWorkerId)),
+                    owner, String.valueOf(leaseMs));
+
+            if (renewed != null && renewed == 1) {
+                extend(currentWorkerId, start);
+                return;
+            }
+            log.warn("워커 ID 임대를 잃어 다시 임대합니다: workerId={}", currentWorkerId);
+            invalidate();
+            acquire();
+        } catch (Exception e) {
+            // validUntil 이 지나면 nextId 가 발급을 거절한다
+            log.error("워커 ID 임대 연장 실패: workerId={}", currentWorkerId, e);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!leased) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(getKey(getWorkerId())), owner);
+        } catch (Exception e) {
+            log.warn("워커 ID 임대 반납 실패 - 만료 후 재사용됩니다: workerId={}, {}", getWorkerId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 임의 위치부터 비어 있는 워커 ID 를 찾아 선점 (재시작한 인스턴스들이 같은 순서로 경쟁하지 않도록)
+     */
+    private void acquire() {
+        long offset = ThreadLocalRandom.current().nextLong(MAX_WORKER_ID + 1);
+
+        for (long i = 0; i <= MAX_WORKER_ID; i++) {
+            long candidate = (offset + i) & MAX_WORKER_ID;
+            long start = System.currentTimeMillis();
+
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(getKey(candidate), owner, Duration.ofMillis(leaseMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                extend(candidate, start);
+                log.info("Snowflake ID 생성기 워커 ID 임대: workerId={}, owner={}", candidate, owner);
+                return;
+            }
+        }
+        throw new IllegalStateException("임대할 수 있는 워커 ID가 없습니다.");
+    }
+
+    private synchronized void extend(long workerId, long start) {
+        this.workerId = workerId;
+        this.validUntil = start + leaseMs / 2;
+    }
+
+    private synchronized void invalidate() {
+        this.validUntil = 0L;
+    }
+
+    private static String getKey(long workerId) {
+        return WORKER_KEY_PREFIX + workerId;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.grow.chat.service;
+
+import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.dto.ChatMessageRequest;
+import com.grow.chat.dto.ChatMessageResponse;
+import com.grow.chat.repository.ChatMessageJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 지연(write-behind) 저장
+ *
+ * 1. 메모리에서 Snowflake ID 발급
+ * 2. Redis Stream(WAL)에 기록 - 인스턴스 장애 시 재처리용
+ * 3. 제한된 크기의 메모리 큐에 적재 후 즉시 반환 (DB 왕복 없음)
+ * 4. 플러셔 스레드가 flush-interval-ms 마다 또는 batch-size 만큼 모이면 JDBC 배치 INSERT 후 WAL에서 삭제
+ *
+ * 큐가 가득 차면 offer-timeout-ms 만큼 대기 후 거절한다. (백프레셔)
+ * 저장에 실패했거나 인스턴스가 죽어 WAL에 남은 항목은 replay-grace-ms 가 지난 뒤 아무 인스턴스에서나 재처리된다.
+ *
+ * 재처리 배치가 실패하면 반씩 나눠 저장해 실패한 항목만 골라내고, 이번 재처리는 거기서 멈춘다. (같은 배치를 반복해 읽지 않도록)
+ * 골라낸 항목은 재처리마다 시도 횟수를 늘리며 max-attempts 에 도달하면 dead-letter 스트림으로 옮기고 WAL 에서 삭제한다.
+ * DB 연결 장애 같은 일시적 오류는 항목의 문제가 아니므로 나누지도 시도 횟수를 늘리지도 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "write-behind")
+public class WriteBehindChatMessageWriter implements ChatMessageWriter {
+
+    private static final String WAL_STREAM_KEY = "chat:messages:wal";
+    private static final String WAL_ATTEMPTS_KEY = "chat:messages:wal:attempts";
+    private static final String DEAD_LETTER_STREAM_KEY = "chat:messages:wal:dead";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ChatMembershipCache membershipCache;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatUnreadCounter unreadCounter;
+    private final SnowflakeIdGenerator idGenerator;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long replayGraceMs;
+    private final long replayIntervalMs;
+    private final int maxAttempts;
+
+    private final BlockingQueue<PendingMessage> queue;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter flushFailureCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+    private Thread flusherThread;
+    private long lastReplayAt;
+
+    public WriteBehindChatMessageWriter(
+            ChatMembershipCache membershipCache,
+            ChatMessageJdbcRepository chatMessageJdbcRepository,
+            ChatUnreadCounter unreadCounter,
+            SnowflakeIdGenerator idGenerator,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.persistence.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.persistence.write-behind.batch-size:500}") int batchSize,
+            @Value("${chat.persistence.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${chat.persistence.write-behind.offer-timeout-ms:100}") long offerTimeoutMs,
+            @Value("${chat.persistence.write-behind.replay-grace-ms:30000}") long replayGraceMs,
+            @Value("${chat.persistence.write-behind.replay-interval-ms:60000}") long replayIntervalMs,
+            @Value("${chat.persistence.write-behind.max-attempts:5}") int maxAttempts) {
+        this.membershipCache = membershipCache;
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.unreadCounter = unreadCounter;
+        this.idGenerator = idGenerator;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.replayGraceMs = replayGraceMs;
+        this.replayIntervalMs = replayIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.flushTimer = Timer.builder("chat.message.flush.latency")
+                .description("write-behind 배치 저장 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.flush.batch.size")
+                .description("write-behind 배치당 메시지 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("chat.message.flush.failures")
+                .description("write-behind 배치 저장 실패 횟수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.message.write.rejected")
+                .description("큐 포화로 거절된 메시지 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("chat.message.wal.dead-letter")
+                .description("재처리 한도를 넘겨 dead-letter 스트림으로 옮긴 메시지 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("chat.message.write.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusherThread = new Thread(this::runFlusher, "chat-write-behind-flusher");
+        flusherThread.setDaemon(true);
+        flusherThread.start();
+        log.info("write-behind 저장 시작: batchSize={}, flushIntervalMs={}", batchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusherThread.interrupt();
+        flusherThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 종료 전 남은 메시지 저장
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("write-behind 저장 종료: 남은 메시지 {}건 저장", remaining.size());
+    }
+
+    @Override
+    public ChatMessageResponse write(ChatMessageRequest request) {
+        // 발신자가 채팅방 멤버인지 확인 (로컬 캐시)
+        if (!membershipCache.isMember(request.getChatRoomId(), request.getSenderId())) {
+            throw new IllegalArgumentException("채팅방 멤버가 아닙니다.");
+        }
+
+        ChatMessagePublish message = ChatMessagePublish.builder()
+                .chatRoomId(request.getChatRoomId())
+                .id(idGenerator.nextId())
+                .senderId(request.getSenderId())
+                .senderNickname(request.getSenderNickname())
+                .content(request.getContent())
+                .messageType(request.getMessageType())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // WAL 기록 후 큐 적재. 큐 적재에 실패하면 WAL에서도 제거해 재처리되지 않게 한다.
+        RecordId walId = stringRedisTemplate.opsForStream().add(
+                StreamRecords.newRecord().in(WAL_STREAM_KEY).ofMap(toWalEntry(message)));
+
+        if (!offer(new PendingMessage(message, walId))) {
+            stringRedisTemplate.opsForStream().delete(WAL_STREAM_KEY, walId);
+            rejectedCounter.increment();
+            throw new IllegalStateException("메시지가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("메시지 전송(write-behind): messageId={}, chatRoomId={}, senderId={}",
+                message.getId(), request.getChatRoomId(), request.getSenderId());
+
+        return ChatMessageResponse.builder()
+                .id(message.getId())
+                .chatRoomId(message.getChatRoomId())
+                .senderId(message.getSenderId())
+                .senderNickname(message.getSenderNickname())
+                .content(message.getContent())
+                .messageType(message.getMessageType())
+                .createdAt(message.getCreatedAt())
+                .build();
+    }
+
+    private boolean offer(PendingMessage pending) {
+        try {
+            return queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runFlusher() {
+        replayStaleEntries();
+
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+
+                // flush-interval-ms 가 지나거나 batch-size 가 찰 때까지 모은다
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage first = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+
+                if (System.currentTimeMillis() - lastReplayAt >= replayIntervalMs) {
+                    replayStaleEntries();
+                }
+            } catch (InterruptedException e) {
+                // stop() 에서 남은 메시지를 저장하도록 현재 배치를 큐로 되돌린다
+                batch.forEach(queue::offer);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * JDBC 배치 저장 후 WAL 에서 삭제
+     *
+     * @return 저장 성공 여부 (실패한 항목은 WAL 에 남아 재처리된다)
+     */
+    private boolean flush(List<PendingMessage> batch) {
+        try {
+            insert(batch);
+            return true;
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.error("write-behind 배치 저장 실패: count={}", batch.size(), e);
+            return false;
+        }
+    }
+
+    private void insert(List<PendingMessage> batch) {
+        List<ChatMessagePublish> messages = batch.stream().map(PendingMessage::message).toList();
+        long start = System.nanoTime();
+
+        chatMessageJdbcRepository.batchInsert(messages);
+        stringRedisTemplate.opsForStream().delete(WAL_STREAM_KEY,
+                batch.stream().map(PendingMessage::walId).toArray(RecordId[]::new));
+
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+        log.debug("write-behind 배치 저장: count={}", batch.size());
+
+        recordUnread(messages);
+    }
+
+    /**
+     * DB 적재 후 채팅방 메시지 시퀀스에 추가 (읽지 않은 메시지 카운트)
+     * 적재된 메시지만 시퀀스에 두어야 시퀀스를 DB 로 재구성해도 빠지는 메시지가 없다. (카운트는 flush 주기만큼 늦다)
+     * 이미 저장·WAL 삭제가 끝났으므로 실패해도 저장 실패로 보지 않는다. (다음 재구성 때 DB 기준으로 맞춰진다)
+     */
+    private void recordUnread(List<ChatMessagePublish> messages) {
+        for (ChatMessagePublish message : messages) {
+            try {
+                unreadCounter.increment(message.getChatRoomId(), message.getId());
+            } catch (Exception e) {
+                log.warn("읽지 않은 메시지 시퀀스 갱신 실패: messageId={}, chatRoomId={}, {}",
+                        message.getId(), message.getChatRoomId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * WAL에서 replay-grace-ms 보다 오래된 항목을 재처리
+     * 정상 인스턴스라면 이미 저장·삭제했을 시간이므로 남아 있는 항목은 장애로 유실된 메시지다.
+     * 배치가 실패하면(실패 항목이 WAL 맨 앞에 남으므로) 이번 재처리를 멈추고 다음 주기에 다시 시도한다.
+     */
+    void replayStaleEntries() {
+        lastReplayAt = System.currentTimeMillis();
+
+        try {
+            String upperBound = (lastReplayAt - replayGraceMs) + "-0";
+            List<MapRecord<String, Object, Object>> records;
+
+            do {
+                records = stringRedisTemplate.opsForStream().range(WAL_STREAM_KEY,
+                        Range.leftUnbounded(Range.Bound.inclusive(upperBound)), Limit.limit().count(batchSize));
+
+                if (records == null || records.isEmpty()) {
+                    return;
+                }
+
+                List<PendingMessage> batch = new ArrayList<>(records.size());
+                for (MapRecord<String, Object, Object> record : records) {
+                    try {
+                        batch.add(new PendingMessage(fromWalEntry(record.getValue()), record.getId()));
+                    } catch (Exception e) {
+                        // 읽을 수 없는 항목은 재시도해도 같으므로 바로 옮긴다
+                        deadLetter(record.getId(), record.getValue(), e);
+                    }
+                }
+
+                log.warn("WAL 재처리: count={}", batch.size());
+                if (!replay(batch)) {
+                    return;
+                }
+            } while (records.size() == batchSize);
+        } catch (Exception e) {
+            log.error("WAL 재처리 실패", e);
+        }
+    }
+
+    /**
+     * 재처리 배치 저장 - 실패하면 반씩 나눠 실패 항목을 골라낸다
+     *
+     * @return 모든 항목 저장 성공 여부
+     */
+    private boolean replay(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        try {
+            insert(batch);
+            stringRedisTemplate.opsForHash().delete(WAL_ATTEMPTS_KEY,
+                    batch.stream().map(pending -> pending.walId().getValue()).toArray());
+            return true;
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            if (isTransient(e)) {
+                log.error("WAL 재처리 중단 - 일시적 오류: count={}", batch.size(), e);
+                throw e;
+            }
+            if (batch.size() == 1) {
+                recordFailure(batch.get(0), e);
+                return false;
+            }
+        }
+
+        int middle = batch.size() / 2;
+        boolean left = replay(batch.subList(0, middle));
+        boolean right = replay(batch.subList(middle, batch.size()));
+        return left && right;
+    }
+
+    /**
+     * 단건 재처리 실패 - 시도 횟수를 늘리고 한도에 도달하면 dead-letter 로 옮긴다
+     */
+    private void recordFailure(PendingMessage pending, Exception cause) {
+        Long attempts = stringRedisTemplate.opsForHash().increment(WAL_ATTEMPTS_KEY, pending.walId().getValue(), 1);
+        log.error("WAL 항목 저장 실패: messageId={}, walId={}, attempts={}/{}",
+                pending.message().getId(), pending.walId(), attempts, maxAttempts, cause);
+
+        if (attempts != null && attempts >= maxAttempts) {
+            deadLetter(pending.walId(), new HashMap<>(toWalEntry(pending.message())), cause);
+        }
+    }
+
+    private void deadLetter(RecordId walId, Map<?, ?> entry, Exception cause) {
+        Map<String, String> deadEntry = new HashMap<>();
+        entry.forEach((key, value) -> deadEntry.put(key.toString(), String.valueOf(value)));
+        deadEntry.put("walId", walId.getValue());
+        String error = String.valueOf(cause.getMessage());
+        deadEntry.put("error", error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_STREAM_KEY).ofMap(deadEntry));
+        stringRedisTemplate.opsForStream().delete(WAL_STREAM_KEY, walId);
+        stringRedisTemplate.opsForHash().delete(WAL_ATTEMPTS_KEY, walId.getValue());
+
+        deadLetterCounter.increment();
+        log.error("WAL 항목을 dead-letter 로 이동: walId={}, stream={}", walId, DEAD_LETTER_STREAM_KEY);
+    }
+
+    // 항목이 아니라 DB/네트워크 상태 문제 - 나눠서 다시 시도해도 모두 실패한다
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private static Map<String, String> toWalEntry(ChatMessagePublish message) {
+        Map<String, String> entry = new HashMap<>();
+        entry.put("id", message.getId().toString());
+        entry.put("chatRoomId", message.getChatRoomId().toString());
+        entry.put("senderId", message.getSenderId().toString());
+        if (message.getSenderNickname() != null) {
+            entry.put("senderNickname", message.getSenderNickname());
+        }
+        entry.put("content", message.getContent());
+        entry.put("messageType", message.getMessageType().name());
+        entry.put("createdAt", message.getCreatedAt().toString());
+        return entry;
+    }
+
+    private static ChatMessagePublish fromWalEntry(Map<Object, Object> entry) {
+        Object nickname = entry.get("senderNickname");
+        return ChatMessagePublish.builder()
+                .id(Long.parseLong(entry.get("id").toString()))
+                .chatRoomId(Long.parseLong(entry.get("chatRoomId").toString()))
+                .senderId(Long.parseLong(entry.get("senderId").toString()))
+                .senderNickname(nickname != null ? nickname.toString() : null)
+                .content(entry.get("content").toString())
+                .messageType(MessageType.valueOf(entry.get("messageType").toString()))
+                .createdAt(LocalDateTime.parse(entry.get("createdAt").toString()))
+                .build();
+    }
+
+    private record PendingMessage(ChatMessagePublish message, RecordId walId) {}
+}
@@ -0,0 +1,61 @@
+-- chat_messages 월 단위 범위 파티셔닝 전환 (1회 수동 실행)
+--
+-- ddl-auto=update 는 파티션 테이블을 만들 수 없으므로 배포 전에 이 스크립트로 전환한 뒤
+-- chat.partition.enabled=true 로 ChatMessagePartitionManager 를 켠다.
+-- 파티션 키(created_at)가 기본 키에 포함되어야 하므로 PK 는 (id, created_at) 이 된다.
+-- 기존 단일 인덱스(chat_room_id, sender_id, created_at, (chat_room_id, created_at))는 만들지 않고
+-- 조회에 쓰이는 (chat_room_id, id) 만 파티션 인덱스로 둔다.
+
+-- 테이블 이름만 바꾸면 PK/인덱스/ID 시퀀스 이름은 그대로 남아 새 테이블과 충돌하므로
+-- - PK(chat_messages_pkey), 인덱스(idx_message_room_id)는 _legacy 이름으로 바꾸고
+-- - ID 는 기존 IDENTITY 시퀀스(chat_messages_id_seq, 기존 테이블 소유라 OWNED BY 변경 불가) 대신
+--   새 시퀀스(chat_messages_part_id_seq)를 기존 최대 ID 다음 값부터 사용한다.
+
+BEGIN;
+
+ALTER TABLE chat_messages RENAME TO chat_messages_legacy;
+ALTER TABLE chat_messages_legacy RENAME CONSTRAINT chat_messages_pkey TO chat_messages_legacy_pkey;
+ALTER INDEX IF EXISTS idx_message_room_id RENAME TO idx_message_room_id_legacy;
+
+CREATE SEQUENCE chat_messages_part_id_seq;
+SELECT setval('chat_messages_part_id_seq', COALESCE((SELECT MAX(id) FROM chat_messages_legacy), 0) + 1, false);
+
+CREATE TABLE chat_messages (
+    id              BIGINT       NOT NULL DEFAULT nextval('chat_messages_part_id_seq'),
+    chat_room_id    BIGINT       NOT NULL,
+    sender_id       BIGINT       NOT NULL,
+    sender_nickname VARCHAR(255),
+    content         TEXT,
+    message_type    VARCHAR(20)  NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE chat_messages_part_id_seq OWNED BY chat_messages.id;
+
+CREATE INDEX idx_message_room_id ON chat_messages (chat_room_id, id);
+
+-- 기존 데이터 기간만큼 월 파티션 생성 (이후 파티션은 ChatMessagePartitionManager 가 미리 만든다)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM chat_messages_legacy), now()));
+    last_month  DATE := date_trunc('month', now()) + INTERVAL '1 month';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+            'chat_messages_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO chat_messages (id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at)
+SELECT id, chat_room_id, sender_id, sender_nickname, content, message_type, created_at
+FROM chat_messages_legacy;
+
+COMMIT;
+
+-- 검증 후 삭제 (기존 IDENTITY 시퀀스 chat_messages_id_seq 도 함께 삭제된다)
+-- DROP TABLE chat_messages_legacy;
@@ -0,0 +1,76 @@
+-- chat_messages 전문 검색 색인 (1회 수동 실행, chat_messages_partitioning.sql 적용 전/후 모두 가능)
+--
+-- 형태소 분석기 없이 한국어를 찾을 수 있도록 단어를 2글자 단위(bigram)와 1글자 단위(unigram)로 잘라 tsvector 로 저장한다.
+-- unigram 은 1글자 검색어용이다. (bigram 접두 일치로는 단어 마지막 글자나 1글자 메시지를 찾지 못한다)
+-- 단어 분리 규칙은 ChatMessageSearchService.words/toTsquery 와 같아야 한다.
+-- bigram 만 색인하던 이전 버전에서 올리면 기존 행을 다시 색인한다: CALL chat_messages_search_backfill(10000, true);
+-- 새 메시지는 트리거로 색인되며(JPA/JDBC 저장 경로 공통), 파티션 테이블이면 트리거/인덱스가 각 파티션에 복제된다.
+-- 적용 후 chat.search.enabled=true 로 검색 API 를 켠다.
+
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- 소문자 변환 후 영문/숫자/한글 외 문자로 단어를 나누고 단어별 bigram + unigram 추출
+-- (단어 마지막 위치의 substr(word, i, 2) 는 1글자라 unigram 과 겹치고 DISTINCT 로 합쳐진다)
+CREATE OR REPLACE FUNCTION chat_search_bigrams(content TEXT) RETURNS tsvector
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT COALESCE(array_to_tsvector(array_agg(DISTINCT gram)), ''::tsvector)
+    FROM regexp_split_to_table(lower(COALESCE(content, '')), '[^a-z0-9가-힣]+') AS word,
+         generate_series(1, char_length(word)) AS i,
+         LATERAL (VALUES (substr(word, i, 1)), (substr(word, i, 2))) AS g(gram)
+    WHERE word <> ''
+$$;
+
+-- 컬럼 추가는 메타데이터만 바뀌므로 테이블을 다시 쓰지 않는다
+ALTER TABLE chat_messages ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION chat_messages_search_vector() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := chat_search_bigrams(NEW.content);
+    RETURN NEW;
+END $$;
+
+DROP TRIGGER IF EXISTS trg_chat_messages_search_vector ON chat_messages;
+CREATE TRIGGER trg_chat_messages_search_vector
+    BEFORE INSERT OR UPDATE OF content ON chat_messages
+    FOR EACH ROW EXECUTE FUNCTION chat_messages_search_vector();
+
+-- 기존 메시지 색인 - 배치마다 커밋하므로 운영 중 실행해도 긴 잠금을 잡지 않는다
+-- (created_at, id) 커서로 이어서 읽는다. 매번 search_vector IS NULL 을 처음부터 찾으면 앞쪽 색인된 행을 반복해 읽는다.
+-- 채팅 이력 조회와 같이 id 는 PK 인덱스 순서로, created_at 은 커서 시각 - 5분 하한으로 지난 월 파티션을 건너뛴다.
+-- reindex = true 면 이미 색인된 행도 다시 색인한다. (색인 규칙이 바뀐 경우)
+DROP PROCEDURE IF EXISTS chat_messages_search_backfill(INT);
+CREATE OR REPLACE PROCEDURE chat_messages_search_backfill(batch_size INT DEFAULT 10000, reindex BOOLEAN DEFAULT false)
+    LANGUAGE plpgsql AS $$
+DECLARE
+    last_id         BIGINT    := 0;
+    last_created_at TIMESTAMP := '-infinity';
+    page_end        RECORD;
+BEGIN
+    LOOP
+        SELECT p.id, p.created_at INTO page_end
+        FROM (SELECT id, created_at FROM chat_messages
+              WHERE id > last_id AND created_at >= last_created_at - INTERVAL '5 minutes'
+              ORDER BY id
+              LIMIT batch_size) p
+        ORDER BY p.id DESC
+        LIMIT 1;
+        EXIT WHEN NOT FOUND;
+
+        UPDATE chat_messages
+        SET search_vector = chat_search_bigrams(content)
+        WHERE id > last_id AND id <= page_end.id
+          AND created_at >= last_created_at - INTERVAL '5 minutes'
+          AND (reindex OR search_vector IS NULL);
+
+        last_id := page_end.id;
+        last_created_at := page_end.created_at;
+        COMMIT;
+    END LOOP;
+END $$;
+
+CALL chat_messages_search_backfill();
+
+-- 채팅방 범위 + bigram 조건을 한 GIN 인덱스로 처리 (btree_gin)
+-- 대용량 단일 테이블이면 백필 후 CREATE INDEX CONCURRENTLY 로 바꿔 실행한다 (파티션 테이블은 파티션별로 생성 후 ATTACH)
+CREATE INDEX IF NOT EXISTS idx_message_search ON chat_messages USING gin (chat_room_id, search_vector);
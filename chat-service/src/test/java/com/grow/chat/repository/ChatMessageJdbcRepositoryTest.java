@@ -0,0 +1,90 @@
+package com.grow.chat.repository;
+
+import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatMessagePublish;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatMessageJdbcRepository 배치 저장 테스트 - H2 PostgreSQL 모드 (ON CONFLICT DO NOTHING)
+ */
+class ChatMessageJdbcRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatMessageJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:chat;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE chat_messages (
+                    id BIGINT PRIMARY KEY,
+                    chat_room_id BIGINT NOT NULL,
+                    sender_id BIGINT NOT NULL,
+                    sender_nickname VARCHAR(50),
+                    content VARCHAR(1000) NOT NULL,
+                    message_type VARCHAR(20) NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+        repository = new ChatMessageJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE chat_messages");
+    }
+
+    @Test
+    @DisplayName("이미 저장된 ID 는 다시 저장해도 무시하고 나머지만 저장한다 (WAL 재처리)")
+    void ignoresAlreadyInsertedIds() {
+        // given
+        repository.batchInsert(List.of(message(1L, "첫 메시지"), message(2L, "두 번째")));
+
+        // when - 1번은 재처리로 다시 들어온 메시지
+        repository.batchInsert(List.of(message(1L, "재처리된 첫 메시지"), message(3L, "세 번째")));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM chat_messages WHERE id = 1", String.class))
+                .isEqualTo("첫 메시지");
+    }
+
+    @Test
+    @DisplayName("같은 배치를 통째로 다시 저장해도 실패하지 않는다")
+    void replaysWholeBatch() {
+        // given
+        List<ChatMessagePublish> batch = List.of(message(1L, "a"), message(2L, "b"));
+        repository.batchInsert(batch);
+
+        // when
+        repository.batchInsert(batch);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Long.class)).isEqualTo(2);
+    }
+
+    private static ChatMessagePublish message(Long id, String content) {
+        return ChatMessagePublish.builder()
+                .id(id)
+                .chatRoomId(10L)
+                .senderId(100L)
+                .senderNickname("grow")
+                .content(content)
+                .messageType(MessageType.CHAT)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
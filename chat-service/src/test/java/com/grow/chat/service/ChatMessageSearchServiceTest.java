@@ -0,0 +1,44 @@
+package com.grow.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatMessageSearchService 검색어 분리/tsquery 단위 테스트 - 색인(chat_search_bigrams) 규칙과 같아야 한다
+ */
+class ChatMessageSearchServiceTest {
+
+    @Test
+    @DisplayName("검색어를 소문자로 바꾸고 영문/숫자/한글 외 문자로 나누며 중복 단어는 한 번만 쓴다")
+    void splitsWords() {
+        // when
+        List<String> words = ChatMessageSearchService.words("Spring, 스터디! spring  3");
+
+        // then
+        assertThat(words).containsExactly("spring", "스터디", "3");
+    }
+
+    @Test
+    @DisplayName("2글자 이상 단어는 모든 bigram 을 AND 로 묶는다")
+    void joinsBigrams() {
+        // when
+        String tsquery = ChatMessageSearchService.toTsquery(List.of("스터디", "ab"));
+
+        // then
+        assertThat(tsquery).isEqualTo("'스터' & '터디' & 'ab'");
+    }
+
+    @Test
+    @DisplayName("1글자 단어는 접두 일치가 아닌 unigram 으로 찾는다 (단어 마지막 글자, 1글자 메시지도 찾도록)")
+    void matchesSingleCharacterAsUnigram() {
+        // when
+        String tsquery = ChatMessageSearchService.toTsquery(List.of("디", "7"));
+
+        // then
+        assertThat(tsquery).isEqualTo("'디' & '7'");
+    }
+}
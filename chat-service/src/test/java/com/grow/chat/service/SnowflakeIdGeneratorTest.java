@@ -0,0 +1,132 @@
+package com.grow.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * SnowflakeIdGenerator 단위 테스트 - 워커 ID 고정/임대
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final String WORKER_KEY_PREFIX = "chat:snowflake:worker:";
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("워커 ID 를 지정하면 Redis 없이 그 ID 로 증가하는 ID 를 발급한다")
+    void issuesIncreasingIdsWithFixedWorker() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(stringRedisTemplate, 7, 60_000, 20_000);
+
+        // when
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            ids.add(id);
+        }
+
+        // then
+        assertThat(ids).hasSize(10_000);
+        assertThat((previous >> 12) & 1023).isEqualTo(7);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("워커 ID 를 지정하지 않으면 Redis 에서 비어 있는 ID 를 임대한다")
+    void leasesFreeWorkerId() {
+        // given - 처음 두 후보는 다른 인스턴스가 임대 중
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(false, false, true);
+
+        // when
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(stringRedisTemplate, -1, 60_000, 20_000);
+
+        // then
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, atLeastOnce()).setIfAbsent(keys.capture(), anyString(), any(Duration.class));
+        assertThat(keys.getAllValues()).hasSize(3);
+        assertThat(keys.getValue()).isEqualTo(WORKER_KEY_PREFIX + generator.getWorkerId());
+        assertThat((generator.nextId() >> 12) & 1023).isEqualTo(generator.getWorkerId());
+    }
+
+    @Test
+    @DisplayName("모든 워커 ID 가 임대 중이면 시작하지 않는다")
+    void failsWhenNoWorkerIdIsFree() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(stringRedisTemplate, -1, 60_000, 20_000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("임대를 연장하지 못한 채 lease 의 절반이 지나면 ID 발급을 거절한다")
+    void rejectsAfterLeaseLapses() throws InterruptedException {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(stringRedisTemplate, -1, 200, 50);
+        generator.nextId();
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("임대가 다른 인스턴스에 넘어갔으면 다른 워커 ID 를 새로 임대한다")
+    @SuppressWarnings("unchecked")
+    void reacquiresWhenLeaseIsLost() {
+        // given
+        AtomicReference<String> takenKey = new AtomicReference<>();
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> !invocation.getArgument(0).equals(takenKey.get()));
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(stringRedisTemplate, -1, 60_000, 20_000);
+        long firstWorkerId = generator.getWorkerId();
+
+        takenKey.set(WORKER_KEY_PREFIX + firstWorkerId);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(0L);
+
+        // when
+        generator.renew();
+
+        // then
+        assertThat(generator.getWorkerId()).isNotEqualTo(firstWorkerId);
+        assertThat((generator.nextId() >> 12) & 1023).isEqualTo(generator.getWorkerId());
+    }
+}
@@ -0,0 +1,193 @@
+package com.grow.chat.service;
+
+import com.grow.chat.domain.MessageType;
+import com.grow.chat.dto.ChatMessagePublish;
+import com.grow.chat.repository.ChatMessageJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WriteBehindChatMessageWriter WAL 재처리 단위 테스트
+ */
+class WriteBehindChatMessageWriterTest {
+
+    private static final String WAL_STREAM_KEY = "chat:messages:wal";
+    private static final String WAL_ATTEMPTS_KEY = "chat:messages:wal:attempts";
+    private static final String DEAD_LETTER_STREAM_KEY = "chat:messages:wal:dead";
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private HashOperations<String, Object, Object> hashOperations;
+    private WriteBehindChatMessageWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        chatMessageJdbcRepository = mock(ChatMessageJdbcRepository.class);
+        streamOperations = mock(StreamOperations.class);
+        hashOperations = mock(HashOperations.class);
+
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+        // 플러셔 스레드는 시작하지 않고(start 미호출) 재처리만 직접 호출한다
+        writer = new WriteBehindChatMessageWriter(mock(ChatMembershipCache.class), chatMessageJdbcRepository,
+                mock(ChatUnreadCounter.class), mock(SnowflakeIdGenerator.class), stringRedisTemplate, meterRegistry,
+                100, BATCH_SIZE, 50, 100, 0, 60_000, MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("재처리 배치가 실패하면 실패 항목만 골라내고 이번 재처리를 멈춘다")
+    void stopsReplayOnFailedBatch() {
+        // given - 배치가 가득 차 있어 성공했다면 다음 범위를 읽었을 상황
+        givenWal(walRecord("1-0", 1L), walRecord("2-0", 2L));
+        failInsertFor(1L);
+        when(hashOperations.increment(eq(WAL_ATTEMPTS_KEY), any(), anyLong())).thenReturn(1L);
+
+        // when
+        writer.replayStaleEntries();
+
+        // then
+        verify(streamOperations, times(1)).range(eq(WAL_STREAM_KEY), any(), any(Limit.class));
+        verify(hashOperations).increment(WAL_ATTEMPTS_KEY, "1-0", 1L);
+        verify(streamOperations).delete(WAL_STREAM_KEY, RecordId.of("2-0"));
+        verify(streamOperations, never()).delete(WAL_STREAM_KEY, RecordId.of("1-0"));
+        verify(streamOperations, never()).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("max-attempts 번째 실패하면 dead-letter 스트림으로 옮기고 WAL 에서 삭제한다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void deadLettersAfterMaxAttempts() {
+        // given
+        givenWal(walRecord("1-0", 1L));
+        failInsertFor(1L);
+        when(hashOperations.increment(eq(WAL_ATTEMPTS_KEY), any(), anyLong())).thenReturn((long) MAX_ATTEMPTS);
+
+        // when
+        writer.replayStaleEntries();
+
+        // then
+        ArgumentCaptor<MapRecord> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(deadLetter.capture());
+        assertThat(deadLetter.getValue().getStream()).isEqualTo(DEAD_LETTER_STREAM_KEY);
+        assertThat((Map<Object, Object>) deadLetter.getValue().getValue())
+                .containsEntry("id", "1")
+                .containsEntry("walId", "1-0")
+                .containsEntry("error", "중복 키");
+
+        verify(streamOperations).delete(WAL_STREAM_KEY, RecordId.of("1-0"));
+        verify(hashOperations).delete(WAL_ATTEMPTS_KEY, "1-0");
+        assertThat(meterRegistry.counter("chat.message.wal.dead-letter").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-attempts 전에는 WAL 에 남겨 다음 재처리에서 다시 시도한다")
+    void keepsEntryBeforeMaxAttempts() {
+        // given
+        givenWal(walRecord("1-0", 1L));
+        failInsertFor(1L);
+        when(hashOperations.increment(eq(WAL_ATTEMPTS_KEY), any(), anyLong())).thenReturn((long) MAX_ATTEMPTS - 1);
+
+        // when
+        writer.replayStaleEntries();
+
+        // then
+        verify(streamOperations, never()).add(any(MapRecord.class));
+        verify(streamOperations, never()).delete(WAL_STREAM_KEY, RecordId.of("1-0"));
+    }
+
+    @Test
+    @DisplayName("일시적 DB 오류는 나누지도 시도 횟수를 늘리지도 않고 재처리를 멈춘다")
+    void stopsWithoutCountingOnTransientFailure() {
+        // given
+        givenWal(walRecord("1-0", 1L), walRecord("2-0", 2L));
+        doThrow(new QueryTimeoutException("timeout")).when(chatMessageJdbcRepository).batchInsert(anyList());
+
+        // when
+        writer.replayStaleEntries();
+
+        // then
+        verify(chatMessageJdbcRepository, times(1)).batchInsert(anyList());
+        verify(hashOperations, never()).increment(any(), any(), anyLong());
+        verify(streamOperations, never()).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("재처리에 성공하면 WAL 과 시도 횟수를 지우고 다음 범위를 읽는다")
+    void deletesReplayedEntries() {
+        // given
+        givenWal(walRecord("1-0", 1L), walRecord("2-0", 2L));
+
+        // when
+        writer.replayStaleEntries();
+
+        // then
+        verify(streamOperations).delete(WAL_STREAM_KEY, RecordId.of("1-0"), RecordId.of("2-0"));
+        verify(hashOperations).delete(WAL_ATTEMPTS_KEY, "1-0", "2-0");
+        verify(streamOperations, times(2)).range(eq(WAL_STREAM_KEY), any(), any(Limit.class));
+    }
+
+    // 첫 조회만 records 를 돌려주고 이후에는 비어 있다
+    @SafeVarargs
+    private void givenWal(MapRecord<String, Object, Object>... records) {
+        when(streamOperations.range(eq(WAL_STREAM_KEY), any(), any(Limit.class)))
+                .thenReturn(List.of(records), List.of());
+    }
+
+    // 해당 ID 가 들어 있는 배치는 제약 위반으로 실패
+    private void failInsertFor(Long messageId) {
+        doAnswer(invocation -> {
+            List<ChatMessagePublish> messages = invocation.getArgument(0);
+            if (messages.stream().anyMatch(message -> message.getId().equals(messageId))) {
+                throw new DataIntegrityViolationException("중복 키");
+            }
+            return null;
+        }).when(chatMessageJdbcRepository).batchInsert(anyList());
+    }
+
+    private static MapRecord<String, Object, Object> walRecord(String walId, Long messageId) {
+        Map<Object, Object> entry = new HashMap<>();
+        entry.put("id", messageId.toString());
+        entry.put("chatRoomId", "10");
+        entry.put("senderId", "100");
+        entry.put("content", "안녕하세요");
+        entry.put("messageType", MessageType.CHAT.name());
+        entry.put("createdAt", LocalDateTime.of(2025, 1, 1, 12, 0).toString());
+        return MapRecord.create(WAL_STREAM_KEY, entry).withId(RecordId.of(walId));
+    }
+}
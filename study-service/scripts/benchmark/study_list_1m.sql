@@ -0,0 +1,79 @@
+-- =====================================================
+-- 스터디 목록 조회 벤치마크 (100만 건)
+-- 별도 벤치마크 DB 에서 실행한다 (studies/study_schedule_days 는 애플리케이션 기동으로 먼저 생성)
+--   psql -f scripts/benchmark/study_list_1m.sql (운영 jar 에 포함되지 않도록 리소스 밖에 둔다)
+-- 기존 방식(컬렉션 fetch join + 메모리 LIMIT)과 프로젝션 + 요일 비트마스크 서브쿼리 방식을 비교한다.
+-- =====================================================
+
+-- 1. 데이터 생성 (약 1~2분)
+INSERT INTO studies (title, thumbnail_url, category, level, visibility, leader_id,
+                     start_date, end_date, start_time, end_time, recruit_end_date,
+                     min_participants, max_participants, current_participants, deposit_amount,
+                     introduction, status, created_at, updated_at)
+SELECT 'study-' || g,
+       NULL,
+       (ARRAY ['DEVELOPMENT','LANGUAGE','CERTIFICATE','HOBBY','ETC'])[1 + g % 5],
+       (ARRAY ['BEGINNER','BASIC','INTERMEDIATE','ADVANCED'])[1 + g % 4],
+       'PUBLIC',
+       1 + g % 50000,
+       DATE '2025-01-01' + (g % 365),
+       DATE '2025-01-01' + (g % 365) + 56,
+       TIME '19:00',
+       TIME '21:00',
+       DATE '2025-01-01' + (g % 365) - 7,
+       2,
+       10,
+       g % 10,
+       (g % 10) * 1000,
+       'benchmark',
+       (ARRAY ['RECRUITING','IN_PROGRESS','COMPLETED'])[1 + g % 3],
+       TIMESTAMP '2024-01-01' + (g || ' seconds')::INTERVAL * 30,
+       now()
+FROM generate_series(1, 1000000) AS g;
+
+-- 스터디당 진행 요일 2~3개
+INSERT INTO study_schedule_days (study_id, day_of_week)
+SELECT s.id, d.day
+FROM studies s
+CROSS JOIN LATERAL (
+    SELECT (ARRAY ['MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY'])[1 + (s.id + k * 2) % 7] AS day
+    FROM generate_series(0, 1 + (s.id % 2)::INT) AS k
+) d
+ON CONFLICT DO NOTHING;
+
+ANALYZE studies;
+ANALYZE study_schedule_days;
+
+-- 2. 기존 방식 - fetch join 결과 전체를 정렬/전송한 뒤 애플리케이션에서 LIMIT
+--    (Hibernate: HHH90003004 firstResult/maxResults specified with collection fetch; applying in memory)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.*, d.day_of_week
+FROM studies s
+LEFT JOIN study_schedule_days d ON d.study_id = s.id
+WHERE s.category = 'DEVELOPMENT'
+ORDER BY s.created_at DESC, s.id DESC;
+
+-- 3. 프로젝션 + 요일 비트마스크 - LIMIT 이 SQL 에 적용되고 서브쿼리는 반환 행 수만큼만 실행
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.id, s.title, s.thumbnail_url, s.category, s.level,
+       s.start_date, s.end_date, s.start_time, s.end_time, s.recruit_end_date,
+       s.max_participants, s.current_participants, s.deposit_amount, s.created_at,
+       (SELECT SUM(CASE d.day_of_week WHEN 'MONDAY' THEN 1 WHEN 'TUESDAY' THEN 2 WHEN 'WEDNESDAY' THEN 4
+                   WHEN 'THURSDAY' THEN 8 WHEN 'FRIDAY' THEN 16 WHEN 'SATURDAY' THEN 32 WHEN 'SUNDAY' THEN 64 ELSE 0 END)
+        FROM study_schedule_days d WHERE d.study_id = s.id) AS days_mask
+FROM studies s
+WHERE s.category = 'DEVELOPMENT'
+  AND (s.created_at < TIMESTAMP '2024-06-01' OR (s.created_at = TIMESTAMP '2024-06-01' AND s.id < 500000))
+ORDER BY s.created_at DESC, s.id DESC
+LIMIT 9;
+
+-- 4. 마감임박순 다음 페이지
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.id, s.start_date,
+       (SELECT SUM(CASE d.day_of_week WHEN 'MONDAY' THEN 1 WHEN 'TUESDAY' THEN 2 WHEN 'WEDNESDAY' THEN 4
+                   WHEN 'THURSDAY' THEN 8 WHEN 'FRIDAY' THEN 16 WHEN 'SATURDAY' THEN 32 WHEN 'SUNDAY' THEN 64 ELSE 0 END)
+        FROM study_schedule_days d WHERE d.study_id = s.id) AS days_mask
+FROM studies s
+WHERE (s.start_date > DATE '2025-06-01' OR (s.start_date = DATE '2025-06-01' AND s.id > 500000))
+ORDER BY s.start_date ASC, s.id ASC
+LIMIT 9;
@@ -0,0 +1,71 @@
+package com.grow.study.adapter.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 스터디 ID 목록 값 코덱 비교 (similarStudies / memberInterestStudies v1 값 형식, binary 코덱 대상)
+ * 조회까지 끝낸 추천 목록(v2)은 RecommendationCacheCodecBenchmark 참고
+ *
+ * 인코딩/디코딩 시간은 JMH 결과로, 값 크기(byte)는 설정 단계에서 콘솔에 출력한다.
+ * 실행: ./gradlew :study-service:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheValueCodecBenchmark {
+
+    @Param({"jdk", "json", "binary"})
+    private String codecName;
+
+    // topK 기본값(4), 추천 상한 근처(10), 큰 목록(50)
+    @Param({"4", "10", "50"})
+    private int size;
+
+    private CacheValueCodec codec;
+    private List<Long> ids;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JavaType idList = objectMapper.getTypeFactory().constructCollectionType(List.class, Long.class);
+        codec = switch (codecName) {
+            case "json" -> new JsonCacheValueCodec(objectMapper, idList);
+            case "binary" -> new BinaryIdListCacheValueCodec();
+            default -> new JdkCacheValueCodec();
+        };
+
+        // 유사도 순서의 ID 목록 - 정렬되지 않은 10만 단위 ID
+        ids = LongStream.range(0, size)
+                .map(i -> ThreadLocalRandom.current().nextLong(1, 200_000))
+                .boxed()
+                .toList();
+        encoded = codec.encode(ids);
+
+        System.out.printf("%n[codec=%s, size=%d] encoded bytes=%d%n", codecName, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(ids);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(encoded);
+    }
+}
@@ -0,0 +1,86 @@
+package com.grow.study.adapter.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.grow.study.application.dto.StudyRecommendation;
+import com.grow.study.domain.study.StudyCategory;
+import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudyStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * similarStudies / memberInterestStudies 캐시 값(조회까지 끝낸 추천 목록) 코덱 비교 - jdk vs json
+ *
+ * 인코딩/디코딩 시간은 JMH 결과로, 값 크기(byte)는 설정 단계에서 콘솔에 출력한다.
+ * 실행: ./gradlew :study-service:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationCacheCodecBenchmark {
+
+    @Param({"jdk", "json"})
+    private String codecName;
+
+    @Param({"4", "10"})
+    private int size;
+
+    private CacheValueCodec codec;
+    private List<StudyRecommendation> recommendations;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, StudyRecommendation.class);
+        codec = "json".equals(codecName) ? new JsonCacheValueCodec(objectMapper, type) : new JdkCacheValueCodec();
+
+        LocalDate startDate = LocalDate.now().plusDays(14);
+        recommendations = IntStream.range(0, size)
+                .mapToObj(i -> new StudyRecommendation(
+                        1000L + i,
+                        0.9 - i * 0.01,
+                        "스프링 부트 실전 스터디 " + i,
+                        "https://cdn.example.com/thumbnails/" + i + ".png",
+                        StudyCategory.values()[i % StudyCategory.values().length],
+                        StudyLevel.values()[i % StudyLevel.values().length],
+                        StudyStatus.RECRUITING,
+                        3,
+                        8,
+                        4,
+                        10000,
+                        startDate,
+                        startDate.plusWeeks(8),
+                        "매주 정해진 범위를 읽고 발표와 코드 리뷰를 진행합니다. ".repeat(4)))
+                .toList();
+        encoded = codec.encode(recommendations);
+
+        System.out.printf("%n[codec=%s, size=%d] encoded bytes=%d%n", codecName, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(recommendations);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(encoded);
+    }
+}
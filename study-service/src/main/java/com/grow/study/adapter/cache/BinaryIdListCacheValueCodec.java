@@ -0,0 +1,92 @@
+package com.grow.study.adapter.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ID 목록({@code List<Long>}) 전용 바이너리 코덱 - 추천/유사 스터디 캐시용
+ *
+ * [MAGIC 1byte][스키마 버전 1byte][개수 varint][ID...]
+ * ID 는 직전 ID 와의 차이를 zigzag varint 로 기록한다 (유사도 순서라 정렬되어 있지 않아 음수 차이도 나온다).
+ * 필드 구성을 바꾸면 스키마 버전을 올린다.
+ */
+public class BinaryIdListCacheValueCodec implements CacheValueCodec {
+
+    static final byte MAGIC = (byte) 0xB5;
+    private static final byte ID_LIST_V1 = 1;
+
+    @Override
+    public String name() {
+        return "bin";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        if (!(value instanceof List<?> ids)) {
+            throw new IllegalArgumentException("binary 코덱은 ID 목록만 저장할 수 있습니다: " + value.getClass().getName());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(3 + ids.size() * 3);
+        out.write(MAGIC);
+        out.write(ID_LIST_V1);
+        writeVarLong(out, ids.size());
+
+        long previous = 0;
+        for (Object id : ids) {
+            if (!(id instanceof Long current)) {
+                throw new IllegalArgumentException("binary 코덱은 Long ID 만 저장할 수 있습니다.");
+            }
+            long delta = current - previous;
+            writeVarLong(out, (delta << 1) ^ (delta >> 63));
+            previous = current;
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes.length < 3 || bytes[0] != MAGIC) {
+            throw new IllegalArgumentException("binary 캐시 값 형식이 아닙니다.");
+        }
+        if (bytes[1] != ID_LIST_V1) {
+            throw new IllegalArgumentException("지원하지 않는 스키마 버전입니다: " + bytes[1]);
+        }
+
+        int[] position = {2};
+        int size = (int) readVarLong(bytes, position);
+        List<Long> ids = new ArrayList<>(size);
+
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long zigzag = readVarLong(bytes, position);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            ids.add(previous);
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("binary 캐시 값이 잘렸습니다.");
+            }
+            byte b = bytes[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("varint 형식이 올바르지 않습니다.");
+    }
+}
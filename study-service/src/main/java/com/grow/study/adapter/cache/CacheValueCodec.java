@@ -0,0 +1,17 @@
+package com.grow.study.adapter.cache;
+
+/**
+ * Redis 캐시 값 인코딩
+ * 캐시별로 study.cache.codec.* 값으로 선택 (json | binary | jdk)
+ */
+public interface CacheValueCodec {
+
+    /**
+     * 캐시 키 접두사에 들어가는 코덱 이름 - 코덱을 바꾸면 키가 달라져 이전 형식 값을 읽지 않는다
+     */
+    String name();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+}
@@ -0,0 +1,41 @@
+package com.grow.study.adapter.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * CacheValueCodec 을 RedisCacheConfiguration 값 직렬화기로 연결
+ *
+ * 읽을 수 없는 값(배포 중 형식 불일치 등)은 예외 대신 null 을 돌려 캐시 미스로 처리한다.
+ * 원본에서 다시 읽은 값이 같은 키에 덮어써진다.
+ */
+@Slf4j
+public class CodecRedisSerializer implements RedisSerializer<Object> {
+
+    private final String cacheName;
+    private final CacheValueCodec codec;
+
+    public CodecRedisSerializer(String cacheName, CacheValueCodec codec) {
+        this.cacheName = cacheName;
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        return value == null ? new byte[0] : codec.encode(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return codec.decode(bytes);
+        } catch (RuntimeException e) {
+            log.warn("캐시 값을 읽을 수 없어 미스로 처리합니다: cache={}, codec={}, bytes={}",
+                    cacheName, codec.name(), bytes.length, e);
+            return null;
+        }
+    }
+}
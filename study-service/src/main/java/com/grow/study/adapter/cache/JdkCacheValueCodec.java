@@ -0,0 +1,26 @@
+package com.grow.study.adapter.cache;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+/**
+ * JDK 직렬화 코덱 - 이전 방식, 다른 코덱을 쓰기 어려운 값의 대체용
+ */
+public class JdkCacheValueCodec implements CacheValueCodec {
+
+    private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+    @Override
+    public String name() {
+        return "jdk";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return serializer.serialize(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return serializer.deserialize(bytes);
+    }
+}
@@ -0,0 +1,50 @@
+package com.grow.study.adapter.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * JSON 코덱 - 캐시마다 값 타입(JavaType)을 지정해 읽는다
+ *
+ * 클래스 이름을 페이로드에 싣지 않으므로 패키지 이동/이름 변경에 영향을 받지 않는다.
+ * 알 수 없는 필드는 무시해 필드 추가 배포 중에도 이전 값을 읽을 수 있다 (필드 삭제·의미 변경 시 키 버전을 올린다).
+ */
+public class JsonCacheValueCodec implements CacheValueCodec {
+
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+
+    public JsonCacheValueCodec(ObjectMapper objectMapper, JavaType valueType) {
+        this.objectMapper = objectMapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.valueType = valueType;
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writerFor(valueType).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시 값 JSON 직렬화 실패: " + valueType, e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, valueType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 값 JSON 역직렬화 실패: " + valueType, e);
+        }
+    }
+}
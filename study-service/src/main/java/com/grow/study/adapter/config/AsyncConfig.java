@@ -1,5 +1,6 @@
 package com.grow.study.adapter.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -44,4 +45,22 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 벡터 백필 임베딩/저장용 - 동시 임베딩 호출 수를 parallelism 으로 제한
+     * 큐가 차면 제출한 백필 스레드가 직접 실행해 자연스럽게 속도를 늦춘다
+     */
+    @Bean(name = "vectorBackfillExecutor")
+    public Executor vectorBackfillExecutor(@Value("${study.vector.backfill.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setThreadNamePrefix("vector-backfill-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,42 @@
+package com.grow.study.adapter.config;
+
+import com.grow.study.adapter.intergration.CachingBatchingEmbeddingModel;
+import com.grow.study.adapter.intergration.EmbeddingBatcher;
+import com.grow.study.adapter.intergration.EmbeddingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 임베딩 모델 설정 - 캐시 + 마이크로 배치 데코레이터를 기본(@Primary) EmbeddingModel 로 등록
+ * 실제 임베딩은 Spring AI OpenAI 임베딩 모델에 위임한다.
+ */
+@Configuration
+public class EmbeddingConfig {
+
+    @Bean
+    @Primary
+    public CachingBatchingEmbeddingModel cachingEmbeddingModel(
+            OpenAiEmbeddingModel openAiEmbeddingModel,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.openai.embedding.options.model:text-embedding-3-small}") String model,
+            @Value("${study.embedding.cache.local-max-size:5000}") long localMaxSize,
+            @Value("${study.embedding.cache.ttl-days:30}") long ttlDays,
+            @Value("${study.embedding.batch.window-ms:10}") long windowMillis,
+            @Value("${study.embedding.batch.max-size:64}") int maxBatchSize,
+            @Value("${study.embedding.batch.threads:2}") int threads) {
+
+        EmbeddingCache cache = new EmbeddingCache(stringRedisTemplate, meterRegistry,
+                model, localMaxSize, Duration.ofDays(ttlDays));
+        EmbeddingBatcher batcher = new EmbeddingBatcher(openAiEmbeddingModel, meterRegistry,
+                windowMillis, maxBatchSize, threads);
+        return new CachingBatchingEmbeddingModel(openAiEmbeddingModel, cache, batcher, model);
+    }
+}
@@ -1,17 +1,38 @@
 package com.grow.study.adapter.config;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.grow.study.adapter.cache.BinaryIdListCacheValueCodec;
+import com.grow.study.adapter.cache.CacheValueCodec;
+import com.grow.study.adapter.cache.CodecRedisSerializer;
+import com.grow.study.adapter.cache.JdkCacheValueCodec;
+import com.grow.study.adapter.cache.JsonCacheValueCodec;
+import com.grow.study.adapter.persistence.dto.CursorResult;
+import com.grow.study.adapter.persistence.dto.StudyListResponse;
+import com.grow.study.application.dto.StudyRecommendation;
+import com.grow.study.application.required.dto.StudyWithMemberCountResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -20,9 +41,75 @@ public class RedisConfig {
 
     public static final String SIMILAR_STUDIES_CACHE = "similarStudies";
     public static final String MEMBER_INTEREST_CACHE = "memberInterestStudies";
+    public static final String STUDY_DETAIL_CACHE = "studyDetail";
+    public static final String STUDY_LIST_FIRST_PAGE_CACHE = "studyListFirstPage";
 
+    @Value("${study.cache.detail.local-max-size:10000}")
+    private long detailLocalMaxSize;
+
+    @Value("${study.cache.detail.local-ttl-seconds:60}")
+    private long detailLocalTtlSeconds;
+
+    @Value("${study.cache.detail.ttl-seconds:600}")
+    private long detailTtlSeconds;
+
+    @Value("${study.cache.list.local-max-size:1000}")
+    private long listLocalMaxSize;
+
+    @Value("${study.cache.list.local-ttl-seconds:30}")
+    private long listLocalTtlSeconds;
+
+    @Value("${study.cache.list.ttl-seconds:300}")
+    private long listTtlSeconds;
+
+    @Value("${study.cache.codec.similar-studies:json}")
+    private String similarStudiesCodec;
+
+    @Value("${study.cache.codec.member-interest-studies:json}")
+    private String memberInterestCodec;
+
+    @Value("${study.cache.codec.study-detail:json}")
+    private String studyDetailCodec;
+
+    @Value("${study.cache.codec.study-list-first-page:json}")
+    private String studyListCodec;
+
+    /**
+     * 스터디 상세/목록 첫 페이지는 L1(Caffeine) + L2(Redis) 2단 캐시, 그 외는 Redis 캐시
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory, objectMapper);
+
+        Map<String, TwoLevelCacheManager.LocalSpec> localSpecs = Map.of(
+                STUDY_DETAIL_CACHE, new TwoLevelCacheManager.LocalSpec(
+                        detailLocalMaxSize, Duration.ofSeconds(detailLocalTtlSeconds)),
+                STUDY_LIST_FIRST_PAGE_CACHE, new TwoLevelCacheManager.LocalSpec(
+                        listLocalMaxSize, Duration.ofSeconds(listLocalTtlSeconds))
+        );
+        return new TwoLevelCacheManager(redisCacheManager, localSpecs, stringRedisTemplate, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager,
+                    new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        }
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        TypeFactory types = objectMapper.getTypeFactory();
+        // 추천 캐시: 벡터 검색 결과를 조회까지 끝낸 추천 목록 (v1: ID 목록)
+        JavaType recommendations = types.constructCollectionType(List.class, StudyRecommendation.class);
+
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new JdkSerializationRedisSerializer()))
@@ -31,14 +118,60 @@ public class RedisConfig {
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // 유사 스터디 캐시: 1시간 TTL
-        cacheConfigurations.put(SIMILAR_STUDIES_CACHE, defaultConfig.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put(SIMILAR_STUDIES_CACHE, withCodec(defaultConfig, SIMILAR_STUDIES_CACHE, 2,
+                codec(similarStudiesCodec, objectMapper, recommendations))
+                .entryTtl(Duration.ofHours(1)));
 
         // 멤버 관심사 기반 추천 캐시: 30분 TTL (입력이 다양하므로 짧게)
-        cacheConfigurations.put(MEMBER_INTEREST_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put(MEMBER_INTEREST_CACHE, withCodec(defaultConfig, MEMBER_INTEREST_CACHE, 2,
+                codec(memberInterestCodec, objectMapper, recommendations))
+                .entryTtl(Duration.ofMinutes(30)));
+
+        // 스터디 상세/목록 첫 페이지: 변경 이벤트로 무효화, TTL 은 무효화 누락 대비 상한
+        cacheConfigurations.put(STUDY_DETAIL_CACHE, withCodec(defaultConfig, STUDY_DETAIL_CACHE, 1,
+                codec(studyDetailCodec, objectMapper, types.constructType(StudyWithMemberCountResponse.class)))
+                .entryTtl(Duration.ofSeconds(detailTtlSeconds)));
+        cacheConfigurations.put(STUDY_LIST_FIRST_PAGE_CACHE, withCodec(defaultConfig, STUDY_LIST_FIRST_PAGE_CACHE, 1,
+                codec(studyListCodec, objectMapper,
+                        types.constructParametricType(CursorResult.class, StudyListResponse.class)))
+                .entryTtl(Duration.ofSeconds(listTtlSeconds)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 목록 캐시 전체 무효화(clear) 시 KEYS 대신 SCAN 으로 키를 찾는다
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig.entryTtl(Duration.ofMinutes(30)))
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /**
+     * 값 코덱과 버전 키 접두사 적용 - "캐시명:코덱:v버전::키"
+     * 값 형식(필드 삭제·의미 변경 등)을 바꿀 때는 버전을 올려 롤링 배포 중 구/신 인스턴스가 서로의 값을 읽지 않게 한다.
+     */
+    private RedisCacheConfiguration withCodec(RedisCacheConfiguration config, String cacheName, int version,
+                                              CacheValueCodec codec) {
+        String prefix = cacheName + ":" + codec.name() + ":v" + version + "::";
+        return config
+                .computePrefixWith(name -> prefix)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CodecRedisSerializer(cacheName, codec)));
+    }
+
+    private CacheValueCodec codec(String codec, ObjectMapper objectMapper, JavaType valueType) {
+        return switch (codec.toLowerCase()) {
+            case "json" -> new JsonCacheValueCodec(objectMapper, valueType);
+            case "binary" -> {
+                if (!valueType.isCollectionLikeType() || !valueType.getContentType().hasRawClass(Long.class)) {
+                    throw new IllegalArgumentException("binary 코덱은 ID 목록 캐시에만 사용할 수 있습니다: " + valueType);
+                }
+                yield new BinaryIdListCacheValueCodec();
+            }
+            case "jdk" -> new JdkCacheValueCodec();
+            default -> throw new IllegalArgumentException("지원하지 않는 캐시 코덱입니다: " + codec);
+        };
     }
 }
@@ -0,0 +1,215 @@
+package com.grow.study.adapter.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 2단 캐시
+ *
+ * 조회: L1 -> L2 -> 원본(valueLoader) 순서로 찾고, 아래 단계에서 찾은 값은 위 단계에 채운다.
+ * 같은 키의 동시 미스는 인스턴스 안에서 한 번만 원본을 호출하고 나머지는 그 결과를 기다린다 (요청 병합).
+ * 로드 중 무효화가 일어나면(세대 값 변경) 읽어 온 값을 캐시에 쓰지 않는다 - 무효화 직전 값이 되살아나지 않도록.
+ * evict/clear 는 L2 를 지우고 invalidationPublisher 로 다른 인스턴스의 L1 도 비운다.
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    static final String ALL_KEYS = "*";
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> local,
+                         org.springframework.cache.Cache remote,
+                         BiConsumer<String, String> invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.l1Hits = meterRegistry.counter("study.cache.requests", "cache", name, "result", "l1-hit");
+        this.l2Hits = meterRegistry.counter("study.cache.requests", "cache", name, "result", "l2-hit");
+        this.misses = meterRegistry.counter("study.cache.requests", "cache", name, "result", "miss");
+        this.coalesced = meterRegistry.counter("study.cache.coalesced", "cache", name);
+        meterRegistry.gauge("study.cache.local.size", Tags.of("cache", name), local, Cache::estimatedSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            l2Hits.increment();
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hits.increment();
+            return (T) cached;
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            coalesced.increment();
+            return (T) await(key, running);
+        }
+
+        try {
+            Object value = load(key, localKey, valueLoader);
+            mine.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        // 앞선 로드가 방금 끝났을 수 있으므로 한 번 더 확인
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hits.increment();
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            l2Hits.increment();
+            if (generation.get() == startGeneration) {
+                local.put(localKey, wrapper.get());
+            }
+            return wrapper.get();
+        }
+
+        misses.increment();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value != null && generation.get() == startGeneration) {
+            remote.put(key, value);
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    private Object await(Object key, CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, null, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String localKey = toLocalKey(key);
+        remote.put(key, value);
+        local.put(localKey, value);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        remote.evict(key);
+        invalidateLocal(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        invalidateLocal(ALL_KEYS);
+        invalidationPublisher.accept(name, ALL_KEYS);
+    }
+
+    /**
+     * L1 만 비운다 - 다른 인스턴스의 무효화 메시지 수신 시 사용
+     */
+    void invalidateLocal(String localKey) {
+        generation.incrementAndGet();
+        if (ALL_KEYS.equals(localKey)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,105 @@
+package com.grow.study.adapter.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단 캐시 매니저 - localSpecs 에 등록된 캐시만 L1(Caffeine) + L2(Redis), 나머지는 Redis 캐시 그대로 반환
+ *
+ * L1 무효화는 Redis 채널(INVALIDATION_CHANNEL)로 전 인스턴스에 알린다. 메시지: "인스턴스ID|캐시명|키" (키 '*' 는 전체)
+ * 자기 인스턴스가 보낸 메시지는 이미 반영했으므로 무시한다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "study:cache:invalidate";
+
+    private static final String DELIMITER = "|";
+
+    public record LocalSpec(long maximumSize, Duration ttl) {
+    }
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalSpec> localSpecs;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Map<String, LocalSpec> localSpecs,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        LocalSpec spec = localSpecs.get(name);
+        if (spec == null) {
+            return remoteCacheManager.getCache(name);
+        }
+        return twoLevelCaches.computeIfAbsent(name, key -> createTwoLevelCache(key, spec));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(localSpecs.keySet());
+        return names;
+    }
+
+    private TwoLevelCache createTwoLevelCache(String name, LocalSpec spec) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("L2 캐시를 찾을 수 없습니다: " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .build();
+        return new TwoLevelCache(name, local, remote, this::publishInvalidation, meterRegistry);
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스 L1 은 TTL 만료까지 이전 값을 줄 수 있다
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2]);
+        }
+    }
+}
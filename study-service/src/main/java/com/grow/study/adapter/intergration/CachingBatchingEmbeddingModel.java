@@ -0,0 +1,141 @@
+package com.grow.study.adapter.intergration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 임베딩 모델 데코레이터 - 캐시(EmbeddingCache) 확인 후 미스를 API 로 보낸다
+ *
+ * - 미스가 한 건이면 마이크로 배치(EmbeddingBatcher)로 보내 동시에 들어온 단건 요청(검색어, 단건 저장)과 합친다
+ * - 미스가 여러 건이면 이미 배치이므로 호출 스레드에서 한 번에 위임한다
+ *   (벡터 백필처럼 다건 저장을 병렬로 하는 호출이 배처 스레드 수에 묶이지 않고, 한 요청의 실패가 다른 요청으로 번지지 않는다)
+ *
+ * VectorStore(문서 저장, 텍스트 검색)와 StudyVectorService 가 이 빈을 통해 임베딩한다.
+ * 요청 옵션으로 다른 모델/차원을 지정한 호출은 캐시·배치 없이 그대로 위임한다.
+ */
+@Slf4j
+public class CachingBatchingEmbeddingModel implements EmbeddingModel, DisposableBean {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCache cache;
+    private final EmbeddingBatcher batcher;
+    private final String model;
+
+    public CachingBatchingEmbeddingModel(EmbeddingModel delegate, EmbeddingCache cache,
+                                         EmbeddingBatcher batcher, String model) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.batcher = batcher;
+        this.model = model;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        if (!usesDefaultModel(request.getOptions())) {
+            return delegate.call(request);
+        }
+
+        List<String> texts = request.getInstructions();
+        List<String> keys = texts.stream().map(cache::keyOf).toList();
+        float[][] embeddings = cache.getAll(keys);
+
+        // 미스 - 요청 안의 중복 텍스트는 한 번만 보낸다
+        Map<String, String> missTexts = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            if (embeddings[i] == null) {
+                missTexts.putIfAbsent(keys.get(i), texts.get(i));
+            }
+        }
+
+        if (!missTexts.isEmpty()) {
+            Map<String, float[]> loaded = missTexts.size() == 1
+                    ? loadBatched(missTexts)
+                    : loadDirectly(missTexts, request.getOptions());
+            for (int i = 0; i < texts.size(); i++) {
+                if (embeddings[i] == null) {
+                    embeddings[i] = loaded.get(keys.get(i));
+                }
+            }
+            cache.putAll(loaded);
+        }
+
+        List<Embedding> results = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            results.add(new Embedding(embeddings[i], i));
+        }
+        return new EmbeddingResponse(results);
+    }
+
+    private Map<String, float[]> loadBatched(Map<String, String> missTexts) {
+        Map<String, float[]> loaded = new HashMap<>();
+        missTexts.forEach((key, text) -> loaded.put(key, await(batcher.submit(text))));
+        return loaded;
+    }
+
+    private Map<String, float[]> loadDirectly(Map<String, String> missTexts, EmbeddingOptions options) {
+        List<String> keys = new ArrayList<>(missTexts.keySet());
+        EmbeddingResponse response = delegate.call(new EmbeddingRequest(new ArrayList<>(missTexts.values()), options));
+        List<Embedding> results = response.getResults();
+        if (results == null || results.size() != keys.size()) {
+            throw new IllegalStateException("임베딩 응답 수가 요청 수와 다릅니다.");
+        }
+
+        Map<String, float[]> loaded = new HashMap<>();
+        for (Embedding embedding : results) {
+            loaded.put(keys.get(embedding.getIndex()), embedding.getOutput());
+        }
+        return loaded;
+    }
+
+    /**
+     * Document 임베딩도 캐시·배치를 거친다 (VectorStore 다건 저장과 같은 EMBED 메타데이터 형식의 본문)
+     */
+    @Override
+    public float[] embed(Document document) {
+        return embed(document.getFormattedContent(MetadataMode.EMBED));
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    private boolean usesDefaultModel(EmbeddingOptions options) {
+        if (options == null) {
+            return true;
+        }
+        return (options.getModel() == null || options.getModel().equals(model))
+                && options.getDimensions() == null;
+    }
+
+    private static float[] await(CompletableFuture<float[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("임베딩 생성 실패", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        batcher.shutdown();
+    }
+}
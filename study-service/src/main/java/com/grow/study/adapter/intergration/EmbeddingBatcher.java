@@ -0,0 +1,144 @@
+package com.grow.study.adapter.intergration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 임베딩 마이크로 배치 - 짧은 시간(window) 동안 들어온 요청을 모아 한 번의 다건 API 호출로 보낸다
+ *
+ * 첫 요청이 들어오면 window 뒤에 보내고, 그 전에 max-batch-size 가 차면 바로 보낸다.
+ * 같은 배치 안의 같은 텍스트는 한 번만 보낸다. API 호출은 전용 스레드에서 실행되며
+ * 호출자는 CompletableFuture 로 결과를 기다린다.
+ */
+@Slf4j
+public class EmbeddingBatcher {
+
+    private record Pending(String text, CompletableFuture<float[]> future) {
+    }
+
+    private final EmbeddingModel delegate;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+
+    private final Timer latency;
+    private final DistributionSummary batchSize;
+
+    public EmbeddingBatcher(EmbeddingModel delegate, MeterRegistry meterRegistry,
+                            long windowMillis, int maxBatchSize, int threads) {
+        if (windowMillis < 0 || maxBatchSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("study.embedding.batch 설정이 올바르지 않습니다.");
+        }
+        this.delegate = delegate;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "embedding-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.latency = Timer.builder("study.embedding.latency")
+                .description("임베딩 API 호출 시간 (배치 단위)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("study.embedding.batch.size")
+                .description("임베딩 API 호출당 입력 수")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<float[]> submit(String text) {
+        CompletableFuture<float[]> future = new CompletableFuture<>();
+        List<Pending> full = null;
+
+        synchronized (lock) {
+            pending.add(new Pending(text, future));
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                schedule(this::flush, windowMillis);
+            }
+        }
+
+        if (full != null) {
+            List<Pending> batch = full;
+            schedule(() -> send(batch), 0);
+        }
+        return future;
+    }
+
+    private void schedule(Runnable task, long delayMillis) {
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 호출 스레드에서 바로 처리
+            task.run();
+        }
+    }
+
+    private void flush() {
+        List<Pending> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        send(batch);
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<CompletableFuture<float[]>>> byText = new LinkedHashMap<>();
+        for (Pending request : batch) {
+            byText.computeIfAbsent(request.text(), key -> new ArrayList<>()).add(request.future());
+        }
+        List<String> texts = new ArrayList<>(byText.keySet());
+
+        try {
+            List<float[]> embeddings = latency.recordCallable(() -> delegate.embed(texts));
+            batchSize.record(texts.size());
+            if (embeddings == null || embeddings.size() != texts.size()) {
+                throw new IllegalStateException("임베딩 응답 수가 요청 수와 다릅니다.");
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                float[] embedding = embeddings.get(i);
+                byText.get(texts.get(i)).forEach(future -> future.complete(embedding));
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 배치 호출 실패: {}건", texts.size(), e);
+            byText.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+        }
+    }
+
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,145 @@
+package com.grow.study.adapter.intergration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 임베딩 캐시 - 로컬 Caffeine(L1) + Redis(L2), 키는 모델명 + 본문 SHA-256
+ *
+ * 같은 모델에 같은 텍스트면 임베딩이 같으므로 TTL 을 길게 둔다. 모델을 바꾸면 키가 달라진다.
+ * Redis 값은 float 배열을 little-endian 4byte 로 그대로 저장 (1536 차원 = 6KB).
+ * Redis 장애 시 미스로 처리하고 임베딩 API 로 진행한다.
+ */
+@Slf4j
+public class EmbeddingCache {
+
+    private static final String KEY_PREFIX = "study:embedding:v1:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String model;
+    private final Cache<String, float[]> local;
+    private final Expiration ttl;
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+
+    public EmbeddingCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                          String model, long localMaxSize, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.model = model;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .build();
+        this.ttl = Expiration.from(ttl);
+
+        this.l1Hits = meterRegistry.counter("study.embedding.cache.requests", "result", "l1-hit");
+        this.l2Hits = meterRegistry.counter("study.embedding.cache.requests", "result", "l2-hit");
+        this.misses = meterRegistry.counter("study.embedding.cache.requests", "result", "miss");
+    }
+
+    public String keyOf(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + model + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 키 목록 조회 - 찾지 못한 위치는 null
+     */
+    public float[][] getAll(List<String> keys) {
+        float[][] found = new float[keys.size()][];
+        int remaining = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            found[i] = local.getIfPresent(keys.get(i));
+            if (found[i] != null) {
+                l1Hits.increment();
+            } else {
+                remaining++;
+            }
+        }
+        if (remaining == 0) {
+            return found;
+        }
+
+        byte[][] rawKeys = new byte[remaining][];
+        int[] positions = new int[remaining];
+        for (int i = 0, j = 0; i < keys.size(); i++) {
+            if (found[i] == null) {
+                rawKeys[j] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+                positions[j++] = i;
+            }
+        }
+
+        List<byte[]> values = readRemote(rawKeys);
+        for (int j = 0; j < remaining; j++) {
+            byte[] value = values != null ? values.get(j) : null;
+            if (value != null) {
+                float[] embedding = decode(value);
+                found[positions[j]] = embedding;
+                local.put(keys.get(positions[j]), embedding);
+                l2Hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+        return found;
+    }
+
+    public void putAll(Map<String, float[]> embeddings) {
+        local.putAll(embeddings);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                embeddings.forEach((key, embedding) -> connection.stringCommands().set(
+                        key.getBytes(StandardCharsets.UTF_8), encode(embedding),
+                        ttl, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("임베딩 캐시 저장 실패: {}건", embeddings.size(), e);
+        }
+    }
+
+    private List<byte[]> readRemote(byte[][] rawKeys) {
+        try {
+            return redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(rawKeys));
+        } catch (Exception e) {
+            log.warn("임베딩 캐시 조회 실패 - 미스로 처리: {}건", rawKeys.length, e);
+            return null;
+        }
+    }
+
+    private static byte[] encode(float[] embedding) {
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+        return buffer.array();
+    }
+
+    private static float[] decode(byte[] bytes) {
+        float[] embedding = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(embedding);
+        return embedding;
+    }
+}
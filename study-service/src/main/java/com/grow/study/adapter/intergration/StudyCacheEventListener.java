@@ -0,0 +1,65 @@
+package com.grow.study.adapter.intergration;
+
+import com.grow.study.adapter.config.RedisConfig;
+import com.grow.study.domain.event.StudyCreatedEvent;
+import com.grow.study.domain.event.StudyStatusChangedEvent;
+import com.grow.study.domain.event.StudyUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 조회 캐시 무효화 리스너
+ * 커밋 후 상세 캐시는 해당 스터디만, 목록 첫 페이지 캐시는 필터 조합과 무관하게 전체를 비운다.
+ * (참가 인원·상태가 바뀌면 어느 필터 조합의 첫 페이지가 달라질지 알 수 없다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyCacheEventListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyStatusChanged(StudyStatusChangedEvent event) {
+        evictStudy(event.studyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyUpdated(StudyUpdatedEvent event) {
+        evictStudy(event.studyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyCreated(StudyCreatedEvent event) {
+        clearFirstPages();
+    }
+
+    private void evictStudy(Long studyId) {
+        try {
+            Cache detailCache = cacheManager.getCache(RedisConfig.STUDY_DETAIL_CACHE);
+            if (detailCache != null) {
+                detailCache.evict(studyId);
+            }
+        } catch (Exception e) {
+            // 무효화 실패 시 캐시 TTL 까지 이전 값이 노출될 수 있다
+            log.warn("스터디 상세 캐시 무효화 실패 - studyId: {}", studyId, e);
+        }
+        clearFirstPages();
+    }
+
+    private void clearFirstPages() {
+        try {
+            Cache listCache = cacheManager.getCache(RedisConfig.STUDY_LIST_FIRST_PAGE_CACHE);
+            if (listCache != null) {
+                listCache.clear();
+            }
+        } catch (Exception e) {
+            log.warn("스터디 목록 캐시 무효화 실패", e);
+        }
+    }
+}
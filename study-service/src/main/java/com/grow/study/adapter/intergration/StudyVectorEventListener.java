@@ -2,6 +2,7 @@ package com.grow.study.adapter.intergration;
 
 import com.grow.study.application.StudyVectorService;
 import com.grow.study.domain.event.StudyCreatedEvent;
+import com.grow.study.domain.event.StudyStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -11,7 +12,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 스터디 벡터 이벤트 리스너
- * 스터디 생성 시 pgvector Document 자동 생성
+ * 스터디 생성 시 pgvector Document 자동 생성, 상태 변경 시 status 메타데이터 갱신/Document 삭제
  */
 @Slf4j
 @Component
@@ -41,4 +42,19 @@ public class StudyVectorEventListener {
 
         }
     }
+
+    /**
+     * 스터디 상태 변경 반영 - 검색 필터(status == 'RECRUITING')가 실제 상태를 따르도록
+     * 실패해도 정합성 맞추기 스케줄러(StudyVectorReconcileScheduler)가 다음 주기에 맞춘다
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStudyStatusChangedEvent(StudyStatusChangedEvent event) {
+        try {
+            studyVectorService.syncStudyStatus(event.studyId(), event.newStatus());
+        } catch (Exception e) {
+            log.warn("Failed to sync vector document status for study: {}, status: {}",
+                    event.studyId(), event.newStatus(), e);
+        }
+    }
 }
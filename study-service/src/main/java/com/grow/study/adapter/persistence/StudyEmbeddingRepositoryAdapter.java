@@ -0,0 +1,168 @@
+package com.grow.study.adapter.persistence;
+
+import com.grow.study.application.dto.ScoredStudyId;
+import com.grow.study.application.required.StudyEmbeddingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Spring AI pgvector 테이블(vector_store)을 JDBC 로 직접 조회
+ *
+ * VectorStore.similaritySearch 는 검색어 텍스트만 받아 매번 임베딩 API 를 호출한다.
+ * 기준 스터디의 임베딩은 이미 저장되어 있으므로 DB 안에서 꺼내 그대로 최근접 검색에 쓴다.
+ * - 기준 임베딩: metadata.studyId 로 한 번 읽는다 (MATERIALIZED CTE, db/migration/vector_store_study_id_index.sql 인덱스)
+ *   스칼라 서브쿼리로 참조하면 InitPlan 상수로 취급되어 ORDER BY embedding <=> (...) LIMIT k 가 HNSW 인덱스를 탄다.
+ *   (조인으로 넘기면 행마다 비교되어 인덱스를 쓰지 못한다)
+ * - 결과가 비었을 때만 기준 임베딩 존재 여부를 따로 확인한다.
+ * 거리 함수는 spring.ai.vectorstore.pgvector.distance-type: COSINE_DISTANCE 기준, 점수 = 1 - 거리.
+ * indexedAt 메타데이터(epoch millis)가 없는 Document 는 그 이전 버전에서 저장된 것으로 본다.
+ * 정합성 맞추기(reconcile) 쿼리는 같은 DB 의 studies 테이블과 studyId 텍스트로 조인한다.
+ */
+@Component
+public class StudyEmbeddingRepositoryAdapter implements StudyEmbeddingRepository {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String existsSql;
+    private final String nearestSql;
+    private final String deleteIndexedBeforeSql;
+    private final String updateStatusSql;
+    private final String deleteByStudyIdSql;
+    private final String deleteWithoutLiveStudySql;
+    private final String deleteDuplicatesSql;
+    private final String syncStatusSql;
+    private final String missingStudyIdsSql;
+
+    public StudyEmbeddingRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                           @Value("${spring.ai.vectorstore.pgvector.schema-name:public}") String schemaName,
+                                           @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName) {
+        if (!IDENTIFIER.matcher(schemaName).matches() || !IDENTIFIER.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("pgvector 테이블 이름이 올바르지 않습니다: " + schemaName + "." + tableName);
+        }
+        String table = schemaName + "." + tableName;
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.existsSql = """
+                SELECT EXISTS (SELECT 1 FROM %s WHERE metadata ->> 'studyId' = ? AND embedding IS NOT NULL)
+                """.formatted(table);
+        this.nearestSql = """
+                WITH base AS MATERIALIZED (
+                    SELECT embedding FROM %1$s WHERE metadata ->> 'studyId' = ? LIMIT 1
+                )
+                SELECT metadata ->> 'studyId' AS study_id,
+                       1 - (embedding <=> (SELECT embedding FROM base)) AS score
+                FROM %1$s
+                WHERE metadata ->> 'studyId' <> ?
+                  AND metadata ->> 'status' = ?
+                  AND embedding <=> (SELECT embedding FROM base) < ?
+                ORDER BY embedding <=> (SELECT embedding FROM base)
+                LIMIT ?
+                """.formatted(table);
+        this.deleteIndexedBeforeSql = """
+                DELETE FROM %s
+                WHERE metadata ->> 'status' = ?
+                  AND COALESCE((metadata ->> 'indexedAt')::bigint, 0) < ?
+                """.formatted(table);
+        this.updateStatusSql = """
+                UPDATE %s SET metadata = jsonb_set(metadata::jsonb, '{status}', to_jsonb(?::text))
+                WHERE metadata ->> 'studyId' = ?
+                """.formatted(table);
+        this.deleteByStudyIdSql = """
+                DELETE FROM %s WHERE metadata ->> 'studyId' = ?
+                """.formatted(table);
+        this.deleteWithoutLiveStudySql = """
+                DELETE FROM %s v
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM studies s
+                    WHERE s.id::text = v.metadata ->> 'studyId' AND s.status NOT IN (%%s)
+                )
+                """.formatted(table);
+        this.deleteDuplicatesSql = """
+                DELETE FROM %1$s WHERE id IN (
+                    SELECT id FROM (
+                        SELECT id, ROW_NUMBER() OVER (
+                            PARTITION BY metadata ->> 'studyId'
+                            ORDER BY COALESCE((metadata ->> 'indexedAt')::bigint, 0) DESC, id
+                        ) AS rn
+                        FROM %1$s
+                    ) ranked
+                    WHERE rn > 1
+                )
+                """.formatted(table);
+        this.syncStatusSql = """
+                UPDATE %s v SET metadata = jsonb_set(v.metadata::jsonb, '{status}', to_jsonb(s.status::text))
+                FROM studies s
+                WHERE s.id::text = v.metadata ->> 'studyId'
+                  AND v.metadata ->> 'status' IS DISTINCT FROM s.status::text
+                """.formatted(table);
+        this.missingStudyIdsSql = """
+                SELECT s.id FROM studies s
+                WHERE s.status = ?
+                  AND NOT EXISTS (SELECT 1 FROM %s v WHERE v.metadata ->> 'studyId' = s.id::text)
+                ORDER BY s.id
+                LIMIT ?
+                """.formatted(table);
+    }
+
+    @Override
+    public Optional<List<ScoredStudyId>> findNearestByStudyEmbedding(Long studyId, String status, int topK,
+                                                                    double similarityThreshold) {
+        String id = String.valueOf(studyId);
+        List<ScoredStudyId> nearest = jdbcTemplate.query(nearestSql,
+                (rs, rowNum) -> new ScoredStudyId(Long.parseLong(rs.getString("study_id")), rs.getDouble("score")),
+                id, id, status, 1 - similarityThreshold, topK);
+
+        if (nearest.isEmpty() && !Boolean.TRUE.equals(jdbcTemplate.queryForObject(existsSql, Boolean.class, id))) {
+            return Optional.empty();
+        }
+        return Optional.of(nearest);
+    }
+
+    @Override
+    public int deleteIndexedBefore(String status, Instant indexedBefore) {
+        return jdbcTemplate.update(deleteIndexedBeforeSql, status, indexedBefore.toEpochMilli());
+    }
+
+    @Override
+    public int updateStatus(Long studyId, String status) {
+        return jdbcTemplate.update(updateStatusSql, status, String.valueOf(studyId));
+    }
+
+    @Override
+    public int deleteByStudyId(Long studyId) {
+        return jdbcTemplate.update(deleteByStudyIdSql, String.valueOf(studyId));
+    }
+
+    @Override
+    public int deleteWithoutLiveStudy(Collection<String> removedStatuses) {
+        if (removedStatuses.isEmpty()) {
+            throw new IllegalArgumentException("삭제 대상 상태가 비어 있습니다.");
+        }
+        String placeholders = String.join(", ", Collections.nCopies(removedStatuses.size(), "?"));
+        return jdbcTemplate.update(deleteWithoutLiveStudySql.formatted(placeholders), removedStatuses.toArray());
+    }
+
+    @Override
+    public int deleteDuplicates() {
+        return jdbcTemplate.update(deleteDuplicatesSql);
+    }
+
+    @Override
+    public int syncStatusWithStudies() {
+        return jdbcTemplate.update(syncStatusSql);
+    }
+
+    @Override
+    public List<Long> findStudyIdsWithoutDocument(String status, int limit) {
+        return jdbcTemplate.queryForList(missingStudyIdsSql, Long.class, status, limit);
+    }
+}
@@ -111,4 +111,6 @@ public interface StudyJpaRepository extends JpaRepository<Study, Long>, StudyRep
     WHERE s.status = :status
     """)
     List<Study> findByStatus(@Param("status") StudyStatus status);
+
+    long countByStatusAndIdGreaterThan(StudyStatus status, Long id);
 }
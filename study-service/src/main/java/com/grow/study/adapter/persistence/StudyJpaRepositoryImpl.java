@@ -1,14 +1,28 @@
 package com.grow.study.adapter.persistence;
 
 import com.grow.study.adapter.persistence.dto.CursorResult;
+import com.grow.study.adapter.persistence.dto.StudyCursor;
+import com.grow.study.adapter.persistence.dto.StudyDocumentSourceRow;
 import com.grow.study.adapter.persistence.dto.StudyListResponse;
+import com.grow.study.adapter.persistence.dto.StudyListRow;
+import com.grow.study.adapter.persistence.dto.StudyRecommendationRow;
 import com.grow.study.adapter.persistence.dto.StudySearchCondition;
 import com.grow.study.adapter.persistence.dto.StudySearchCondition.StudySortType;
-import com.grow.study.domain.study.Study;
+import com.grow.study.domain.study.DayOfWeek;
+import com.grow.study.domain.study.QStudy;
 import com.grow.study.domain.study.StudyCategory;
 import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudyStatus;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -18,34 +32,49 @@ import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.grow.study.domain.study.QStudy.study;
+import static com.grow.study.domain.study.QStudyPopularity.studyPopularity;
 
+/**
+ * 스터디 목록 조회 - 목록 컬럼만 프로젝션(StudyListRow)으로 조회한다.
+ *
+ * 진행 요일은 컬렉션 fetch join 대신 행마다 상관 서브쿼리로 비트마스크를 합친다.
+ * (fetch join 은 행이 요일 수만큼 늘어 LIMIT 이 SQL 에 적용되지 않고 메모리에서 잘린다)
+ * 서브쿼리는 study_schedule_days PK 로 조회되므로 LIMIT 이 걸린 행 수만큼만 실행된다.
+ *
+ * 인기순은 study_popularity 읽기 모델과 조인해 (score DESC, study_id DESC) 인덱스 순서로 읽는다.
+ * (점수는 주기적으로 갱신되므로 갱신 직후 넘긴 페이지에서는 순서가 일부 바뀔 수 있다)
+ */
 @RequiredArgsConstructor
 public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
 
+    private static final QStudy scheduleOwner = new QStudy("scheduleOwner");
+    private static final EnumPath<DayOfWeek> scheduleDay = Expressions.enumPath(DayOfWeek.class, "scheduleDay");
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public Page<StudyListResponse> searchStudyList(StudySearchCondition condition, Pageable pageable) {
 
-        List<Study> content = queryFactory
-                .selectFrom(study)
-                .leftJoin(study.schedule.daysOfWeek).fetchJoin()
+        StudySortType sortType = condition.getSortType() != null ? condition.getSortType() : StudySortType.LATEST;
+
+        List<StudyListRow> content = joinPopularity(queryFactory.select(studyListRow()).from(study), sortType)
                 .where(
                         levelEq(condition.getLevel()),
                         categoryEq(condition.getCategory()),
                         depositAmountBetween(condition.getMinDepositAmount(), condition.getMaxDepositAmount())
                 )
-                .orderBy(getOrderSpecifier(condition.getSortType()))
+                .orderBy(getOrderSpecifiers(sortType))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(study.count())
-                .from(study)
+        JPAQuery<Long> countQuery = joinPopularity(queryFactory.select(study.count()).from(study), sortType)
                 .where(
                         levelEq(condition.getLevel()),
                         categoryEq(condition.getCategory()),
@@ -59,6 +88,47 @@ public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
         return PageableExecutionUtils.getPage(responses, pageable, countQuery::fetchOne);
     }
 
+    private <T> JPAQuery<T> joinPopularity(JPAQuery<T> query, StudySortType sortType) {
+        return sortType == StudySortType.POPULARITY
+                ? query.join(studyPopularity).on(studyPopularity.studyId.eq(study.id))
+                : query;
+    }
+
+    private Expression<StudyListRow> studyListRow() {
+        return Projections.constructor(StudyListRow.class,
+                study.id,
+                study.title,
+                study.thumbnailUrl,
+                study.category,
+                study.level,
+                study.schedule.startDate,
+                study.schedule.endDate,
+                study.schedule.startTime,
+                study.schedule.endTime,
+                study.schedule.recruitEndDate,
+                study.maxParticipants,
+                study.currentParticipants,
+                study.depositAmount,
+                study.createdAt,
+                daysOfWeekMask());
+    }
+
+    // (SELECT SUM(CASE day WHEN 'MONDAY' THEN 1 WHEN 'TUESDAY' THEN 2 ... END) FROM study_schedule_days WHERE study_id = ?)
+    private Expression<Long> daysOfWeekMask() {
+        DayOfWeek[] days = DayOfWeek.values();
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = new CaseBuilder()
+                .when(scheduleDay.eq(days[0])).then(1L);
+        for (int i = 1; i < days.length; i++) {
+            cases = cases.when(scheduleDay.eq(days[i])).then(1L << i);
+        }
+
+        return JPAExpressions
+                .select(cases.otherwise(0L).sum())
+                .from(scheduleOwner)
+                .join(scheduleOwner.schedule.daysOfWeek, scheduleDay)
+                .where(scheduleOwner.id.eq(study.id));
+    }
+
     private BooleanExpression levelEq(StudyLevel level) {
         return level != null ? study.level.eq(level) : null;
     }
@@ -78,13 +148,6 @@ public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
         return null;
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(StudySortType sortType) {
-        if (sortType == null || sortType == StudySortType.LATEST) {
-            return study.createdAt.desc();
-        }
-        return study.schedule.startDate.asc();
-    }
-
     @Override
     public CursorResult<StudyListResponse> searchStudyListByCursor(
             StudySearchCondition condition,
@@ -93,9 +156,27 @@ public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
     ) {
         StudySortType sortType = condition.getSortType() != null ? condition.getSortType() : StudySortType.LATEST;
 
-        List<Study> content = queryFactory
-                .selectFrom(study)
-                .leftJoin(study.schedule.daysOfWeek).fetchJoin()
+        // 인기순 커서 키(점수)는 study_popularity 에 있으므로 행과 함께 조회한다
+        if (sortType == StudySortType.POPULARITY) {
+            Expression<StudyListRow> row = studyListRow();
+            List<Tuple> content = joinPopularity(queryFactory.select(row, studyPopularity.score).from(study), sortType)
+                    .where(
+                            cursorCondition(cursor, sortType),
+                            levelEq(condition.getLevel()),
+                            categoryEq(condition.getCategory()),
+                            depositAmountBetween(condition.getMinDepositAmount(), condition.getMaxDepositAmount())
+                    )
+                    .orderBy(getOrderSpecifiers(sortType))
+                    .limit(size + 1)
+                    .fetch();
+
+            return toCursorResult(content, size, tuple -> tuple.get(row), tuple -> new StudyCursor(sortType,
+                    String.valueOf(tuple.get(studyPopularity.score)), tuple.get(row).id()).encode());
+        }
+
+        List<StudyListRow> content = queryFactory
+                .select(studyListRow())
+                .from(study)
                 .where(
                         cursorCondition(cursor, sortType),
                         levelEq(condition.getLevel()),
@@ -106,17 +187,89 @@ public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
                 .limit(size + 1)
                 .fetch();
 
+        return toCursorResult(content, size, Function.identity(), row -> generateCursor(row, sortType));
+    }
+
+    @Override
+    public List<StudyRecommendationRow> findRecommendationRows(Collection<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(Projections.constructor(StudyRecommendationRow.class,
+                        study.id,
+                        study.title,
+                        study.thumbnailUrl,
+                        study.category,
+                        study.level,
+                        study.status,
+                        study.minParticipants,
+                        study.maxParticipants,
+                        study.currentParticipants,
+                        study.depositAmount,
+                        study.schedule.startDate,
+                        study.schedule.endDate,
+                        study.introduction))
+                .from(study)
+                .where(study.id.in(studyIds))
+                .fetch();
+    }
+
+    @Override
+    public List<StudyDocumentSourceRow> findDocumentSources(StudyStatus status, Long afterId, int size) {
+        return queryFactory
+                .select(documentSourceRow())
+                .from(study)
+                .where(study.status.eq(status), study.id.gt(afterId))
+                .orderBy(study.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<StudyDocumentSourceRow> findDocumentSourcesByIds(Collection<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(documentSourceRow())
+                .from(study)
+                .where(study.id.in(studyIds))
+                .orderBy(study.id.asc())
+                .fetch();
+    }
+
+    private Expression<StudyDocumentSourceRow> documentSourceRow() {
+        return Projections.constructor(StudyDocumentSourceRow.class,
+                study.id,
+                study.title,
+                study.introduction,
+                study.curriculum,
+                study.leaderMessage,
+                study.category,
+                study.level,
+                study.status,
+                study.minParticipants,
+                study.maxParticipants,
+                study.schedule.startDate,
+                study.schedule.endDate);
+    }
+
+    private <T> CursorResult<StudyListResponse> toCursorResult(List<T> content, int size,
+                                                              Function<T, StudyListRow> rowOf,
+                                                              Function<T, String> cursorOf) {
         boolean hasNext = content.size() > size;
         if (hasNext) {
             content = content.subList(0, size);
         }
 
         List<StudyListResponse> responses = content.stream()
+                .map(rowOf)
                 .map(StudyListResponse::from)
                 .toList();
 
         String nextCursor = hasNext && !content.isEmpty()
-                ? generateCursor(content.get(content.size() - 1), sortType)
+                ? cursorOf.apply(content.get(content.size() - 1))
                 : null;
 
         return CursorResult.of(responses, nextCursor, hasNext);
@@ -127,25 +280,25 @@ public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
             return null;
         }
 
-        String[] parts = cursor.split("_");
-        if (parts.length != 2) {
-            return null;
-        }
+        StudyCursor decoded = StudyCursor.decode(cursor, sortType);
+        Long id = decoded.id();
 
-        Long id = Long.parseLong(parts[1]);
-
-        if (sortType == StudySortType.LATEST) {
-            LocalDateTime createdAt = LocalDateTime.parse(parts[0]);
-            return study.createdAt.lt(createdAt)
-                    .or(study.createdAt.eq(createdAt).and(study.id.lt(id)));
-        }else if(sortType == StudySortType.POPULARITY){
-            LocalDate startDate = LocalDate.parse(parts[0]);
-            return study.schedule.startDate.gt(startDate)
-                    .or(study.schedule.startDate.eq(startDate).and(study.id.gt(id)));
-        } else {
-            LocalDate startDate = LocalDate.parse(parts[0]);
+        try {
+            if (sortType == StudySortType.LATEST) {
+                LocalDateTime createdAt = LocalDateTime.parse(decoded.key());
+                return study.createdAt.lt(createdAt)
+                        .or(study.createdAt.eq(createdAt).and(study.id.lt(id)));
+            }
+            if (sortType == StudySortType.POPULARITY) {
+                double score = Double.parseDouble(decoded.key());
+                return studyPopularity.score.lt(score)
+                        .or(studyPopularity.score.eq(score).and(studyPopularity.studyId.lt(id)));
+            }
+            LocalDate startDate = LocalDate.parse(decoded.key());
             return study.schedule.startDate.gt(startDate)
                     .or(study.schedule.startDate.eq(startDate).and(study.id.gt(id)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
         }
     }
 
@@ -156,16 +309,22 @@ public class StudyJpaRepositoryImpl implements StudyRepositoryCustom {
                     study.id.desc()
             };
         }
+        if (sortType == StudySortType.POPULARITY) {
+            return new OrderSpecifier<?>[] {
+                    studyPopularity.score.desc(),
+                    studyPopularity.studyId.desc()
+            };
+        }
         return new OrderSpecifier<?>[] {
                 study.schedule.startDate.asc(),
                 study.id.asc()
         };
     }
 
-    private String generateCursor(Study lastStudy, StudySortType sortType) {
-        if (sortType == StudySortType.LATEST) {
-            return lastStudy.getCreatedAt().toString() + "_" + lastStudy.getId();
-        }
-        return lastStudy.getSchedule().getStartDate().toString() + "_" + lastStudy.getId();
+    private String generateCursor(StudyListRow lastRow, StudySortType sortType) {
+        String key = sortType == StudySortType.LATEST
+                ? lastRow.createdAt().toString()
+                : lastRow.startDate().toString();
+        return new StudyCursor(sortType, key, lastRow.id()).encode();
     }
 }
@@ -0,0 +1,73 @@
+package com.grow.study.adapter.persistence;
+
+import com.grow.study.application.required.StudyPopularityRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 점수 원천 - 같은 DB 를 쓰는 서비스들의 집계 테이블
+ * - hot_studies (hot-study-service)       : score
+ * - study_view_count, favorite_count (favorite-service) : count
+ * - studies.current_participants          : 참가 인원
+ *
+ * 원천 테이블이 없는 환경(서비스 미배포, DB 분리)에서는 해당 항목을 0 으로 계산한다.
+ * 한 번의 INSERT ... SELECT ... ON CONFLICT 로 갱신하며 점수가 바뀐 행만 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyPopularityRepositoryAdapter implements StudyPopularityRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int refreshScores(double hotWeight, double viewWeight, double favoriteWeight, double enrollmentWeight) {
+        boolean hotStudies = tableExists("hot_studies");
+        boolean viewCounts = tableExists("study_view_count");
+        boolean favoriteCounts = tableExists("favorite_count");
+
+        String hotScore = hotStudies ? "COALESCE(h.score, 0)" : "0";
+        String viewCount = viewCounts ? "COALESCE(v.count, 0)" : "0";
+        String favoriteCount = favoriteCounts ? "COALESCE(f.count, 0)" : "0";
+
+        String sql = """
+                INSERT INTO study_popularity (study_id, score, hot_score, view_count, favorite_count, enrollment_count, refreshed_at)
+                SELECT s.id,
+                       :hotWeight * %1$s + :viewWeight * ln(1 + %2$s) + :favoriteWeight * %3$s + :enrollmentWeight * s.current_participants,
+                       %1$s, %2$s, %3$s, s.current_participants, now()
+                FROM studies s
+                %4$s
+                ON CONFLICT (study_id) DO UPDATE SET
+                    score = EXCLUDED.score,
+                    hot_score = EXCLUDED.hot_score,
+                    view_count = EXCLUDED.view_count,
+                    favorite_count = EXCLUDED.favorite_count,
+                    enrollment_count = EXCLUDED.enrollment_count,
+                    refreshed_at = EXCLUDED.refreshed_at
+                WHERE study_popularity.score IS DISTINCT FROM EXCLUDED.score
+                """.formatted(hotScore, viewCount, favoriteCount,
+                (hotStudies ? "LEFT JOIN hot_studies h ON h.study_id = s.id\n" : "")
+                        + (viewCounts ? "LEFT JOIN study_view_count v ON v.study_id = s.id\n" : "")
+                        + (favoriteCounts ? "LEFT JOIN favorite_count f ON f.study_id = s.id\n" : ""));
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("hotWeight", hotWeight)
+                .setParameter("viewWeight", viewWeight)
+                .setParameter("favoriteWeight", favoriteWeight)
+                .setParameter("enrollmentWeight", enrollmentWeight);
+        return query.executeUpdate();
+    }
+
+    private boolean tableExists(String table) {
+        Object regclass = entityManager.createNativeQuery("SELECT CAST(to_regclass(:table) AS text)")
+                .setParameter("table", table)
+                .getSingleResult();
+        if (regclass == null) {
+            log.debug("인기 점수 원천 테이블 없음: {}", table);
+        }
+        return regclass != null;
+    }
+}
@@ -1,7 +1,9 @@
 package com.grow.study.adapter.persistence;
 
 import com.grow.study.adapter.persistence.dto.CursorResult;
+import com.grow.study.adapter.persistence.dto.StudyDocumentSourceRow;
 import com.grow.study.adapter.persistence.dto.StudyListResponse;
+import com.grow.study.adapter.persistence.dto.StudyRecommendationRow;
 import com.grow.study.adapter.persistence.dto.StudySearchCondition;
 import com.grow.study.application.required.StudyRepository;
 import com.grow.study.application.required.dto.StudyWithMemberCountDto;
@@ -13,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +61,26 @@ public class StudyRepositoryAdapter implements StudyRepository {
         return studyJpaRepository.searchStudyListByCursor(condition, cursor, size);
     }
 
+    @Override
+    public List<StudyRecommendationRow> findRecommendationRows(Collection<Long> studyIds) {
+        return studyJpaRepository.findRecommendationRows(studyIds);
+    }
+
+    @Override
+    public List<StudyDocumentSourceRow> findDocumentSources(StudyStatus status, Long afterId, int size) {
+        return studyJpaRepository.findDocumentSources(status, afterId, size);
+    }
+
+    @Override
+    public List<StudyDocumentSourceRow> findDocumentSourcesByIds(Collection<Long> studyIds) {
+        return studyJpaRepository.findDocumentSourcesByIds(studyIds);
+    }
+
+    @Override
+    public long countByStatusAndIdGreaterThan(StudyStatus status, Long afterId) {
+        return studyJpaRepository.countByStatusAndIdGreaterThan(status, afterId);
+    }
+
     @Override
     public Study save(Study study) {
         return studyJpaRepository.save(study);
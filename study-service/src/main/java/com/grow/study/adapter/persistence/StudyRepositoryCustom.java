@@ -1,14 +1,26 @@
 package com.grow.study.adapter.persistence;
 
 import com.grow.study.adapter.persistence.dto.CursorResult;
+import com.grow.study.adapter.persistence.dto.StudyDocumentSourceRow;
 import com.grow.study.adapter.persistence.dto.StudyListResponse;
+import com.grow.study.adapter.persistence.dto.StudyRecommendationRow;
 import com.grow.study.adapter.persistence.dto.StudySearchCondition;
+import com.grow.study.domain.study.StudyStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface StudyRepositoryCustom {
 
     Page<StudyListResponse> searchStudyList(StudySearchCondition condition, Pageable pageable);
 
     CursorResult<StudyListResponse> searchStudyListByCursor(StudySearchCondition condition, String cursor, int size);
+
+    List<StudyRecommendationRow> findRecommendationRows(Collection<Long> studyIds);
+
+    List<StudyDocumentSourceRow> findDocumentSources(StudyStatus status, Long afterId, int size);
+
+    List<StudyDocumentSourceRow> findDocumentSourcesByIds(Collection<Long> studyIds);
 }
@@ -0,0 +1,17 @@
+package com.grow.study.adapter.persistence;
+
+import com.grow.study.domain.study.StudyVectorBackfill;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StudyVectorBackfillJpaRepository extends JpaRepository<StudyVectorBackfill, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StudyVectorBackfill b WHERE b.name = :name")
+    Optional<StudyVectorBackfill> findByNameForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,30 @@
+package com.grow.study.adapter.persistence;
+
+import com.grow.study.application.required.StudyVectorBackfillRepository;
+import com.grow.study.domain.study.StudyVectorBackfill;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class StudyVectorBackfillRepositoryAdapter implements StudyVectorBackfillRepository {
+
+    private final StudyVectorBackfillJpaRepository jpaRepository;
+
+    @Override
+    public Optional<StudyVectorBackfill> findByName(String name) {
+        return jpaRepository.findById(name);
+    }
+
+    @Override
+    public Optional<StudyVectorBackfill> findByNameForUpdate(String name) {
+        return jpaRepository.findByNameForUpdate(name);
+    }
+
+    @Override
+    public StudyVectorBackfill save(StudyVectorBackfill backfill) {
+        return jpaRepository.save(backfill);
+    }
+}
@@ -1,18 +1,25 @@
 package com.grow.study.adapter.persistence.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
-public class CursorResult<T> {
+public class CursorResult<T> implements Serializable {
 
     private final List<T> content;
     private final String nextCursor;
     private final boolean hasNext;
 
-    private CursorResult(List<T> content, String nextCursor, boolean hasNext) {
-        this.content = content;
+    @JsonCreator
+    private CursorResult(@JsonProperty("content") List<T> content,
+                         @JsonProperty("nextCursor") String nextCursor,
+                         @JsonProperty("hasNext") boolean hasNext) {
+        // subList 등 직렬화되지 않는 뷰가 넘어올 수 있어 복사한다 (캐시 저장용)
+        this.content = List.copyOf(content);
         this.nextCursor = nextCursor;
         this.hasNext = hasNext;
     }
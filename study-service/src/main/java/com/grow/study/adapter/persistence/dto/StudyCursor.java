@@ -0,0 +1,37 @@
+package com.grow.study.adapter.persistence.dto;
+
+import com.grow.study.adapter.persistence.dto.StudySearchCondition.StudySortType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 스터디 목록 키셋 커서 - (정렬 키, id) 를 "v1|정렬타입|키|id" 로 묶어 URL-safe Base64 로 인코딩한다.
+ * 클라이언트는 값을 해석하지 않고 nextCursor 를 그대로 돌려준다.
+ * 정렬 타입이 다른 커서나 해석할 수 없는 값은 IllegalArgumentException.
+ */
+public record StudyCursor(StudySortType sortType, String key, Long id) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, sortType.name(), key, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StudyCursor decode(String cursor, StudySortType sortType) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+
+        if (parts.length != 4 || !VERSION.equals(parts[0]) || !sortType.name().equals(parts[1])
+                || !parts[3].chars().allMatch(Character::isDigit) || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return new StudyCursor(sortType, parts[2], Long.parseLong(parts[3]));
+    }
+}
@@ -0,0 +1,26 @@
+package com.grow.study.adapter.persistence.dto;
+
+import com.grow.study.domain.study.StudyCategory;
+import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudyStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 벡터 Document 원천 프로젝션 - 백필 시 Document 본문/메타데이터에 필요한 컬럼만 ID 순으로 조회한다.
+ */
+public record StudyDocumentSourceRow(
+        Long id,
+        String title,
+        String introduction,
+        String curriculum,
+        String leaderMessage,
+        StudyCategory category,
+        StudyLevel level,
+        StudyStatus status,
+        Integer minParticipants,
+        Integer maxParticipants,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+}
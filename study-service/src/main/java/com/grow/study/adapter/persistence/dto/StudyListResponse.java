@@ -4,16 +4,21 @@ import com.grow.study.domain.study.DayOfWeek;
 import com.grow.study.domain.study.Study;
 import com.grow.study.domain.study.StudyCategory;
 import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudySchedule;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.EnumSet;
 import java.util.Set;
 
 @Getter
 @Builder
-public class StudyListResponse {
+@Jacksonized
+public class StudyListResponse implements Serializable {
 
     private Long id;
     private String title;
@@ -28,7 +33,8 @@ public class StudyListResponse {
 
     @Getter
     @Builder
-    public static class ScheduleInfo {
+    @Jacksonized
+    public static class ScheduleInfo implements Serializable {
         private LocalDate startDate;
         private LocalDate endDate;
         private LocalTime startTime;
@@ -58,4 +64,45 @@ public class StudyListResponse {
                 .totalWeeks(study.getSchedule().getTotalWeeks())
                 .build();
     }
+
+    public static StudyListResponse from(StudyListRow row) {
+        return StudyListResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .thumbnailUrl(row.thumbnailUrl())
+                .category(row.category())
+                .level(row.level())
+                .schedule(ScheduleInfo.builder()
+                        .startDate(row.startDate())
+                        .endDate(row.endDate())
+                        .startTime(row.startTime())
+                        .endTime(row.endTime())
+                        .recruitEndDate(row.recruitEndDate())
+                        .daysOfWeek(daysOfWeek(row.daysOfWeekMask()))
+                        .build())
+                .maxParticipants(row.maxParticipants())
+                .currentParticipants(row.currentParticipants())
+                .depositAmount(row.depositAmount())
+                .totalWeeks(toSchedule(row).getTotalWeeks())
+                .build();
+    }
+
+    // 주차 계산은 엔티티와 같은 StudySchedule 규칙을 쓴다 (요일은 주차 계산에 쓰이지 않아 비워둔다)
+    private static StudySchedule toSchedule(StudyListRow row) {
+        return new StudySchedule(row.startDate(), row.endDate(), row.startTime(), row.endTime(),
+                row.recruitEndDate(), EnumSet.noneOf(DayOfWeek.class));
+    }
+
+    private static Set<DayOfWeek> daysOfWeek(Long mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (mask == null) {
+            return days;
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1L << day.ordinal())) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
 }
@@ -0,0 +1,31 @@
+package com.grow.study.adapter.persistence.dto;
+
+import com.grow.study.domain.study.StudyCategory;
+import com.grow.study.domain.study.StudyLevel;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 스터디 목록 조회 프로젝션 - 목록에 필요한 컬럼만 조회한다.
+ * 진행 요일은 SQL 에서 비트마스크(월=1, 화=2, ... 일=64)로 합쳐 한 행으로 받는다.
+ */
+public record StudyListRow(
+        Long id,
+        String title,
+        String thumbnailUrl,
+        StudyCategory category,
+        StudyLevel level,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        LocalDate recruitEndDate,
+        Integer maxParticipants,
+        Integer currentParticipants,
+        Integer depositAmount,
+        LocalDateTime createdAt,
+        Long daysOfWeekMask
+) {
+}
@@ -0,0 +1,27 @@
+package com.grow.study.adapter.persistence.dto;
+
+import com.grow.study.domain.study.StudyCategory;
+import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudyStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 추천 결과 조회 프로젝션 - 추천 응답에 필요한 컬럼만 ID 목록(IN)으로 한 번에 조회한다.
+ */
+public record StudyRecommendationRow(
+        Long id,
+        String title,
+        String thumbnailUrl,
+        StudyCategory category,
+        StudyLevel level,
+        StudyStatus status,
+        Integer minParticipants,
+        Integer maxParticipants,
+        Integer currentParticipants,
+        Integer depositAmount,
+        LocalDate startDate,
+        LocalDate endDate,
+        String introduction
+) {
+}
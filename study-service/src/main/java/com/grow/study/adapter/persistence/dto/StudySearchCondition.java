@@ -18,6 +18,6 @@ public class StudySearchCondition {
     public enum StudySortType {
         LATEST,          // 최신순 (createdAt DESC)
         DEADLINE_SOON,    // 마감임박순 (schedule.startDate ASC)
-        POPULARITY       // 인기순 (currentParticipants DESC)
+        POPULARITY       // 인기순 (study_popularity.score DESC)
     }
 }
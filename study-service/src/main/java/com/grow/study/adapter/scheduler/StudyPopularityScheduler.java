@@ -0,0 +1,29 @@
+package com.grow.study.adapter.scheduler;
+
+import com.grow.study.application.StudyPopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 인기 점수 갱신 스케줄러
+ * - 기동 직후 1회, 이후 study.popularity.refresh-interval-ms 간격 (기본 5분)
+ * - 새로 개설된 스터디는 다음 갱신부터 인기순 목록에 나타난다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyPopularityScheduler {
+
+    private final StudyPopularityService studyPopularityService;
+
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${study.popularity.refresh-interval-ms:300000}")
+    public void refreshPopularity() {
+        try {
+            studyPopularityService.refresh();
+        } catch (Exception e) {
+            log.error("스터디 인기 점수 갱신 실패", e);
+        }
+    }
+}
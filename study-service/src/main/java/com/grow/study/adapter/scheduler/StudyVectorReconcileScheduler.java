@@ -0,0 +1,30 @@
+package com.grow.study.adapter.scheduler;
+
+import com.grow.study.application.StudyVectorReconcileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 벡터 Document 정합성 맞추기 스케줄러
+ * - 기동 1분 후 1회, 이후 study.vector.reconcile.interval-ms 간격 (기본 30분)
+ * - 상태 변경 이벤트 처리가 실패해도 다음 주기에 검색 필터가 실제 상태를 따라간다
+ * - 모든 인스턴스에서 실행되지만 lease 를 잡은 한 인스턴스만 실제로 처리한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyVectorReconcileScheduler {
+
+    private final StudyVectorReconcileService studyVectorReconcileService;
+
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${study.vector.reconcile.interval-ms:1800000}")
+    public void reconcile() {
+        try {
+            studyVectorReconcileService.tryReconcile();
+        } catch (Exception e) {
+            log.error("벡터 Document 정합성 맞추기 실패", e);
+        }
+    }
+}
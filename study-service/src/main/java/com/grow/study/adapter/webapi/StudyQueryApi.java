@@ -77,7 +77,7 @@ public class StudyQueryApi {
             @RequestParam(required = false) StudyCategory category,
             @RequestParam(required = false) Integer minDepositAmount,
             @RequestParam(required = false) Integer maxDepositAmount,
-            @Parameter(description = "정렬 타입 (LATEST: 최신순, DEADLINE_SOON: 마감임박순)")
+            @Parameter(description = "정렬 타입 (LATEST: 최신순, DEADLINE_SOON: 마감임박순, POPULARITY: 인기순)")
             @RequestParam(required = false) String sortType,
             @PageableDefault(size = 10) Pageable pageable
     ) {
@@ -99,7 +99,7 @@ public class StudyQueryApi {
             @RequestParam(required = false) StudyCategory category,
             @RequestParam(required = false) Integer minDepositAmount,
             @RequestParam(required = false) Integer maxDepositAmount,
-            @Parameter(description = "정렬 타입 (LATEST: 최신순, DEADLINE_SOON: 마감임박순)")
+            @Parameter(description = "정렬 타입 (LATEST: 최신순, DEADLINE_SOON: 마감임박순, POPULARITY: 인기순)")
             @RequestParam(required = false) String sortType,
             @RequestParam(required = false) String cursor
     ) {
@@ -3,7 +3,7 @@ package com.grow.study.adapter.webapi;
 import com.grow.study.adapter.webapi.dto.MemberInterestRequest;
 import com.grow.study.adapter.webapi.dto.StudyRecommendationResponse;
 import com.grow.study.application.StudyRecommendationService;
-import com.grow.study.domain.study.Study;
+import com.grow.study.application.dto.StudyRecommendation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -46,7 +46,7 @@ public class StudyRecommendationApi {
             @RequestParam(defaultValue = "3") @Positive @Parameter(description = "추천 개수") int limit
     ) {
 
-        List<Study> similarStudies = studyRecommendationService.recommendSimilarStudies(studyId, limit);
+        List<StudyRecommendation> similarStudies = studyRecommendationService.recommendSimilarStudies(studyId, limit);
 
         List<StudyRecommendationResponse> response = similarStudies.stream()
                 .map(StudyRecommendationResponse::from)
@@ -68,7 +68,7 @@ public class StudyRecommendationApi {
             @Valid @RequestBody MemberInterestRequest request
     ) {
 
-        List<Study> recommendedStudies = studyRecommendationService.recommendStudiesByMemberInterest(
+        List<StudyRecommendation> recommendedStudies = studyRecommendationService.recommendStudiesByMemberInterest(
                 userId,
                 request.getMemberIntroduction(),
                 request.getLimit()
@@ -95,7 +95,7 @@ public class StudyRecommendationApi {
             @RequestParam(defaultValue = "10") @Positive @Parameter(description = "추천 개수") int limit
     ) {
 
-        List<Study> recommendedStudies = studyRecommendationService.recommendStudiesByCategory(
+        List<StudyRecommendation> recommendedStudies = studyRecommendationService.recommendStudiesByCategory(
                 query,
                 category,
                 limit
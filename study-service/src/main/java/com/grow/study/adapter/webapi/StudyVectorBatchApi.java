@@ -1,17 +1,19 @@
 package com.grow.study.adapter.webapi;
 
 import com.grow.study.application.StudyVectorBatchService;
+import com.grow.study.application.StudyVectorReconcileService;
+import com.grow.study.application.dto.StudyVectorBackfillProgress;
+import com.grow.study.application.dto.StudyVectorReconcileResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
-
 /**
  * 스터디 벡터 배치 API
  * 관리자용 - 기존 스터디들의 Document 일괄 생성
@@ -24,26 +26,23 @@ import java.util.Map;
 public class StudyVectorBatchApi {
 
     private final StudyVectorBatchService studyVectorBatchService;
+    private final StudyVectorReconcileService studyVectorReconcileService;
 
     /**
      * 모집 중인 모든 스터디의 Document 생성
-     * 초기 마이그레이션 또는 수동 실행용
+     * 초기 마이그레이션 또는 수동 실행용 - 백그라운드로 실행하고 시작 시점 진행 상황을 반환
      */
     @PostMapping("/batch/create-recruiting")
     @Operation(
             summary = "모집 중인 스터디 Document 일괄 생성",
-            description = "모집 중인 모든 스터디의 pgvector Document를 일괄 생성합니다. " +
-                    "초기 마이그레이션 또는 데이터 동기화 시 사용하세요."
+            description = "모집 중인 모든 스터디의 pgvector Document를 백그라운드로 일괄 생성합니다. " +
+                    "중단된 작업이 있으면 체크포인트부터 이어갑니다. 진행 상황은 /batch/progress 로 확인하세요."
     )
-    public ResponseEntity<Map<String, String>> createRecruitingDocuments() {
+    public ResponseEntity<StudyVectorBackfillProgress> createRecruitingDocuments() {
         log.info("POST /api/v1/admin/studies/vector/batch/create-recruiting - Batch creation started");
 
-        studyVectorBatchService.createDocumentsForAllRecruitingStudies();
-
-        return ResponseEntity.ok(Map.of(
-                "message", "배치 작업이 완료되었습니다.",
-                "status", "success"
-        ));
+        return ResponseEntity.accepted()
+                .body(studyVectorBatchService.createDocumentsForAllRecruitingStudies());
     }
 
     /**
@@ -52,17 +51,40 @@ public class StudyVectorBatchApi {
     @PostMapping("/batch/recreate-all")
     @Operation(
             summary = "전체 스터디 Document 재생성",
-            description = "모든 스터디의 pgvector Document를 재생성합니다. " +
-                    "주의: 시간이 오래 걸릴 수 있습니다."
+            description = "체크포인트를 무시하고 모든 모집 중인 스터디의 pgvector Document를 처음부터 재생성합니다. " +
+                    "완료 후 이전에 저장된 Document 를 정리합니다. 주의: 시간이 오래 걸릴 수 있습니다."
     )
-    public ResponseEntity<Map<String, String>> recreateAllDocuments() {
+    public ResponseEntity<StudyVectorBackfillProgress> recreateAllDocuments() {
         log.warn("POST /api/v1/admin/studies/vector/batch/recreate-all - Recreation started");
 
-        studyVectorBatchService.recreateAllDocuments();
+        return ResponseEntity.accepted()
+                .body(studyVectorBatchService.recreateAllDocuments());
+    }
+
+    /**
+     * 백필 진행 상황 (처리량, ETA)
+     */
+    @GetMapping("/batch/progress")
+    @Operation(
+            summary = "Document 일괄 생성 진행 상황",
+            description = "처리/실패/남은 수, 초당 처리량(이번 실행 기준), 예상 남은 시간(초)을 조회합니다."
+    )
+    public ResponseEntity<StudyVectorBackfillProgress> getProgress() {
+        return ResponseEntity.ok(studyVectorBatchService.getProgress());
+    }
+
+    /**
+     * pgvector Document 와 studies 정합성 맞추기 (스케줄러와 같은 작업을 즉시 실행)
+     */
+    @PostMapping("/batch/reconcile")
+    @Operation(
+            summary = "Document 정합성 맞추기",
+            description = "종료되었거나 없는 스터디의 Document 삭제, 중복 정리, status 메타데이터 갱신, " +
+                    "Document 가 없는 모집 중 스터디 저장을 즉시 실행합니다."
+    )
+    public ResponseEntity<StudyVectorReconcileResult> reconcile() {
+        log.info("POST /api/v1/admin/studies/vector/batch/reconcile - Reconcile started");
 
-        return ResponseEntity.ok(Map.of(
-                "message", "재생성 작업이 완료되었습니다.",
-                "status", "success"
-        ));
+        return ResponseEntity.ok(studyVectorReconcileService.reconcile());
     }
 }
@@ -1,6 +1,6 @@
 package com.grow.study.adapter.webapi.dto;
 
-import com.grow.study.domain.study.Study;
+import com.grow.study.application.dto.StudyRecommendation;
 import com.grow.study.domain.study.StudyCategory;
 import com.grow.study.domain.study.StudyLevel;
 import com.grow.study.domain.study.StudyStatus;
@@ -14,6 +14,8 @@ import java.time.LocalDate;
 @Builder
 public record StudyRecommendationResponse(
         Long studyId,
+        // 유사도 점수 (0~1, 높을수록 유사)
+        Double score,
         String title,
         String thumbnailUrl,
         StudyCategory category,
@@ -27,21 +29,22 @@ public record StudyRecommendationResponse(
         LocalDate endDate,
         String introduction
 ) {
-    public static StudyRecommendationResponse from(Study study) {
+    public static StudyRecommendationResponse from(StudyRecommendation recommendation) {
         return StudyRecommendationResponse.builder()
-                .studyId(study.getId())
-                .title(study.getTitle())
-                .thumbnailUrl(study.getThumbnailUrl())
-                .category(study.getCategory())
-                .level(study.getLevel())
-                .status(study.getStatus())
-                .minParticipants(study.getMinParticipants())
-                .maxParticipants(study.getMaxParticipants())
-                .currentParticipants(study.getCurrentParticipants())
-                .depositAmount(study.getDepositAmount())
-                .startDate(study.getSchedule().getStartDate())
-                .endDate(study.getSchedule().getEndDate())
-                .introduction(study.getIntroduction())
+                .studyId(recommendation.studyId())
+                .score(recommendation.score())
+                .title(recommendation.title())
+                .thumbnailUrl(recommendation.thumbnailUrl())
+                .category(recommendation.category())
+                .level(recommendation.level())
+                .status(recommendation.status())
+                .minParticipants(recommendation.minParticipants())
+                .maxParticipants(recommendation.maxParticipants())
+                .currentParticipants(recommendation.currentParticipants())
+                .depositAmount(recommendation.depositAmount())
+                .startDate(recommendation.startDate())
+                .endDate(recommendation.endDate())
+                .introduction(recommendation.introduction())
                 .build();
     }
 }
@@ -0,0 +1,53 @@
+package com.grow.study.application;
+
+import com.grow.study.adapter.config.RedisConfig;
+import com.grow.study.application.required.StudyPopularityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스터디 인기 점수 갱신
+ *
+ * score = hot * hotScore + view * ln(1 + 조회수) + favorite * 찜 수 + enrollment * 참가 인원
+ * 조회수는 다른 항목보다 수치가 커서 로그로 눌러 반영한다. 가중치는 study.popularity.weight.* 설정.
+ */
+@Slf4j
+@Service
+public class StudyPopularityService {
+
+    private final StudyPopularityRepository studyPopularityRepository;
+    private final double hotWeight;
+    private final double viewWeight;
+    private final double favoriteWeight;
+    private final double enrollmentWeight;
+    private final Timer refreshTimer;
+
+    public StudyPopularityService(StudyPopularityRepository studyPopularityRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${study.popularity.weight.hot:1.0}") double hotWeight,
+                                  @Value("${study.popularity.weight.view:1.0}") double viewWeight,
+                                  @Value("${study.popularity.weight.favorite:3.0}") double favoriteWeight,
+                                  @Value("${study.popularity.weight.enrollment:5.0}") double enrollmentWeight) {
+        this.studyPopularityRepository = studyPopularityRepository;
+        this.hotWeight = hotWeight;
+        this.viewWeight = viewWeight;
+        this.favoriteWeight = favoriteWeight;
+        this.enrollmentWeight = enrollmentWeight;
+        this.refreshTimer = meterRegistry.timer("study.popularity.refresh.latency");
+    }
+
+    // 인기순 첫 페이지가 바뀌므로 목록 첫 페이지 캐시를 비운다
+    @CacheEvict(cacheNames = RedisConfig.STUDY_LIST_FIRST_PAGE_CACHE, allEntries = true)
+    @Transactional
+    public int refresh() {
+        int updated = refreshTimer.record(() ->
+                studyPopularityRepository.refreshScores(hotWeight, viewWeight, favoriteWeight, enrollmentWeight));
+        log.info("스터디 인기 점수 갱신 완료: {}건", updated);
+        return updated;
+    }
+}
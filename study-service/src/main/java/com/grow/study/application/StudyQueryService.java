@@ -1,5 +1,6 @@
 package com.grow.study.application;
 
+import com.grow.study.adapter.config.RedisConfig;
 import com.grow.study.adapter.persistence.StudyJpaRepository;
 import com.grow.study.adapter.persistence.StudyMemberJpaRepository;
 import com.grow.study.adapter.persistence.dto.CursorResult;
@@ -19,6 +20,7 @@ import com.grow.study.application.required.dto.StudyWithMemberCountDto;
 import com.grow.study.application.required.dto.StudyWithMemberCountResponse;
 import com.grow.study.domain.study.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,11 @@ public class StudyQueryService implements StudyFinder {
     private final StudyMemberJpaRepository studyMemberJpaRepository;
     private final MemberRestClient memberRestClient;
 
+    /**
+     * 스터디 상세 - L1/L2 캐시, 동시 미스는 한 번만 조회 (sync)
+     * 변경 시 StudyCacheEventListener 가 무효화
+     */
+    @Cacheable(cacheNames = RedisConfig.STUDY_DETAIL_CACHE, key = "#studyId", sync = true)
     @Transactional(readOnly = true)
     @Override
     public StudyWithMemberCountResponse getStudyEnrollmentDetail(Long studyId) {
@@ -82,6 +89,13 @@ public class StudyQueryService implements StudyFinder {
         return studyRepository.searchStudyList(condition, pageable);
     }
 
+    /**
+     * 커서 기반 스터디 목록 - 첫 페이지(cursor 없음)만 필터 조합별로 캐시
+     */
+    @Cacheable(cacheNames = RedisConfig.STUDY_LIST_FIRST_PAGE_CACHE,
+            key = "#level + ':' + #category + ':' + #minDepositAmount + ':' + #maxDepositAmount + ':' + #sortType",
+            condition = "#cursor == null || #cursor.isBlank()",
+            sync = true)
     @Override
     public CursorResult<StudyListResponse> getStudyListByCursor(String level,
                                                         StudyCategory category,
@@ -0,0 +1,55 @@
+package com.grow.study.application;
+
+import com.grow.study.adapter.persistence.dto.StudyRecommendationRow;
+import com.grow.study.application.dto.ScoredStudyId;
+import com.grow.study.application.dto.StudyRecommendation;
+import com.grow.study.application.required.StudyRepository;
+import com.grow.study.domain.study.StudyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 결과 조회 단계 - 벡터 검색 결과(ID + 점수)를 추천 응답으로 채운다
+ *
+ * ID 목록을 한 번의 IN 프로젝션 쿼리로 조회하고 벡터 검색 순서(유사도 순)대로 다시 정렬한다.
+ * 벡터 메타데이터의 상태는 늦게 반영될 수 있으므로 DB 기준 모집 중인 스터디만 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRecommendationHydrator {
+
+    private final StudyRepository studyRepository;
+
+    @Transactional(readOnly = true)
+    public List<StudyRecommendation> hydrate(List<ScoredStudyId> scoredIds) {
+        if (scoredIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 스터디의 문서가 여러 개면 먼저 나온(점수가 높은) 것만 사용
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (ScoredStudyId scoredId : scoredIds) {
+            scores.putIfAbsent(scoredId.studyId(), scoredId.score());
+        }
+
+        Map<Long, StudyRecommendationRow> rows = studyRepository.findRecommendationRows(scores.keySet()).stream()
+                .collect(Collectors.toMap(StudyRecommendationRow::id, Function.identity()));
+
+        List<StudyRecommendation> recommendations = new ArrayList<>(scores.size());
+        scores.forEach((studyId, score) -> {
+            StudyRecommendationRow row = rows.get(studyId);
+            if (row != null && row.status() == StudyStatus.RECRUITING) {
+                recommendations.add(StudyRecommendation.of(row, score));
+            }
+        });
+        return recommendations;
+    }
+}
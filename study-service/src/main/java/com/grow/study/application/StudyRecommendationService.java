@@ -1,50 +1,51 @@
 package com.grow.study.application;
 
-import com.grow.study.application.required.StudyRepository;
-import com.grow.study.domain.study.Study;
+import com.grow.study.adapter.config.RedisConfig;
+import com.grow.study.application.dto.ScoredStudyId;
+import com.grow.study.application.dto.StudyRecommendation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 스터디 추천 서비스
  * pgvector 기반 유사 스터디 추천
+ *
+ * 벡터 검색(ID + 점수) -> StudyRecommendationHydrator 로 한 번에 조회해 응답을 만든다.
+ * 캐시에는 조회까지 끝난 결과를 저장하므로 캐시 히트 시 벡터 검색, DB 조회 모두 하지 않는다.
+ * (DB 연결은 조회 단계에서만 사용 - 임베딩 API 호출 동안 트랜잭션을 잡지 않는다)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class StudyRecommendationService {
 
     private final StudyVectorService studyVectorService;
-    private final StudyRepository studyRepository;
+    private final StudyRecommendationHydrator studyRecommendationHydrator;
 
     /**
      * 유사 스터디 추천
      * @param studyId 기준 스터디 ID
      * @param limit 추천할 스터디 개수
-     * @return 추천 스터디 리스트
+     * @return 추천 스터디 리스트 (유사도 순)
      */
-    public List<Study> recommendSimilarStudies(Long studyId, int limit) {
+    @Cacheable(value = RedisConfig.SIMILAR_STUDIES_CACHE, key = "#studyId + ':' + #limit")
+    public List<StudyRecommendation> recommendSimilarStudies(Long studyId, int limit) {
         log.info("Recommending similar studies for studyId: {}, limit: {}", studyId, limit);
 
         // 1. 벡터 검색으로 유사 스터디 ID 조회
-        List<Long> similarStudyIds = studyVectorService.findSimilarStudies(studyId, limit);
+        List<ScoredStudyId> similarStudyIds = studyVectorService.findSimilarStudies(studyId, limit);
 
         if (similarStudyIds.isEmpty()) {
             log.info("No similar studies found for studyId: {}", studyId);
             return List.of();
         }
 
-        // 2. Study 엔티티 조회
-        return similarStudyIds.stream()
-                .map(id -> studyRepository.findById(id).orElse(null))
-                .filter(study -> study != null)
-                .collect(Collectors.toList());
+        // 2. 스터디 정보 조회
+        return studyRecommendationHydrator.hydrate(similarStudyIds);
     }
 
     /**
@@ -52,12 +53,14 @@ public class StudyRecommendationService {
      * @param userId 유저 ID (캐시 키로 사용)
      * @param memberIntroduction 멤버 소개 (관심사)
      * @param limit 추천할 스터디 개수
-     * @return 추천 스터디 리스트
+     * @return 추천 스터디 리스트 (유사도 순)
+     * todo 유저 자기소개 수정 시 캐시 무효화 로직 필요
      */
-    public List<Study> recommendStudiesByMemberInterest(Long userId, String memberIntroduction, int limit) {
+    @Cacheable(value = RedisConfig.MEMBER_INTEREST_CACHE, key = "#userId + ':' + #limit")
+    public List<StudyRecommendation> recommendStudiesByMemberInterest(Long userId, String memberIntroduction, int limit) {
 
         // 1. 벡터 검색으로 추천 스터디 ID 조회
-        List<Long> recommendedStudyIds = studyVectorService.recommendStudiesByMemberInterest(
+        List<ScoredStudyId> recommendedStudyIds = studyVectorService.recommendStudiesByMemberInterest(
                 userId,
                 memberIntroduction,
                 limit
@@ -68,11 +71,8 @@ public class StudyRecommendationService {
             return List.of();
         }
 
-        // 2. Study 엔티티 조회
-        return recommendedStudyIds.stream()
-                .map(id -> studyRepository.findById(id).orElse(null))
-                .filter(study -> study != null)
-                .collect(Collectors.toList());
+        // 2. 스터디 정보 조회
+        return studyRecommendationHydrator.hydrate(recommendedStudyIds);
     }
 
     /**
@@ -80,13 +80,13 @@ public class StudyRecommendationService {
      * @param studyContent 검색 기준 텍스트
      * @param category 카테고리
      * @param limit 추천할 스터디 개수
-     * @return 추천 스터디 리스트
+     * @return 추천 스터디 리스트 (유사도 순)
      */
-    public List<Study> recommendStudiesByCategory(String studyContent, String category, int limit) {
+    public List<StudyRecommendation> recommendStudiesByCategory(String studyContent, String category, int limit) {
         log.info("Recommending studies by category: {}, limit: {}", category, limit);
 
         // 1. 벡터 검색으로 유사 스터디 ID 조회
-        List<Long> similarStudyIds = studyVectorService.findSimilarStudiesByCategory(
+        List<ScoredStudyId> similarStudyIds = studyVectorService.findSimilarStudiesByCategory(
                 studyContent,
                 category,
                 limit
@@ -97,10 +97,7 @@ public class StudyRecommendationService {
             return List.of();
         }
 
-        // 2. Study 엔티티 조회
-        return similarStudyIds.stream()
-                .map(id -> studyRepository.findById(id).orElse(null))
-                .filter(study -> study != null)
-                .collect(Collectors.toList());
+        // 2. 스터디 정보 조회
+        return studyRecommendationHydrator.hydrate(similarStudyIds);
     }
 }
@@ -0,0 +1,97 @@
+package com.grow.study.application;
+
+import com.grow.study.application.dto.StudyVectorBackfillProgress;
+import com.grow.study.application.required.StudyRepository;
+import com.grow.study.application.required.StudyVectorBackfillRepository;
+import com.grow.study.domain.study.StudyStatus;
+import com.grow.study.domain.study.StudyVectorBackfill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 벡터 백필 체크포인트 기록
+ * 청크마다 짧은 트랜잭션(REQUIRES_NEW)으로 커밋해 프로세스가 죽어도 마지막 청크까지의 진행이 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyVectorBackfillCheckpointService {
+
+    private final StudyVectorBackfillRepository backfillRepository;
+    private final StudyRepository studyRepository;
+
+    /**
+     * 실행 시작 - 체크포인트 행을 잠그고 lease 를 잡는다. 다른 인스턴스가 실행 중이면 IllegalStateException
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StudyVectorBackfillProgress begin(String name, String owner, boolean restart,
+                                             StudyStatus status, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        StudyVectorBackfill backfill = backfillRepository.findByNameForUpdate(name)
+                .orElseGet(() -> backfillRepository.save(StudyVectorBackfill.create(name)));
+
+        backfill.start(owner, restart, now, now.plus(lease));
+        backfill.estimateTotal(studyRepository.countByStatusAndIdGreaterThan(status, backfill.getLastStudyId()));
+
+        log.info("벡터 백필 시작 - name: {}, lastStudyId: {}, total: {}, done: {}",
+                name, backfill.getLastStudyId(), backfill.getTotalCount(), backfill.doneCount());
+        return StudyVectorBackfillProgress.of(backfill);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StudyVectorBackfillProgress advance(String name, String owner, Long lastStudyId,
+                                               int succeeded, int failed, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        StudyVectorBackfill backfill = getForUpdate(name);
+        backfill.advance(owner, lastStudyId, succeeded, failed, now, now.plus(lease));
+        return StudyVectorBackfillProgress.of(backfill);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StudyVectorBackfillProgress complete(String name, String owner) {
+        StudyVectorBackfill backfill = getForUpdate(name);
+        backfill.complete(owner, LocalDateTime.now());
+        return StudyVectorBackfillProgress.of(backfill);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(String name, String owner, String error) {
+        getForUpdate(name).fail(owner, error, LocalDateTime.now());
+    }
+
+    /**
+     * 실행 lease 만 잡는다 (체크포인트 없이 인스턴스 간 단독 실행만 필요한 작업용)
+     *
+     * @return 다른 인스턴스가 lease 를 잡고 있으면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        StudyVectorBackfill backfill = backfillRepository.findByNameForUpdate(name)
+                .orElseGet(() -> backfillRepository.save(StudyVectorBackfill.create(name)));
+
+        if (backfill.isRunning(now)) {
+            return false;
+        }
+        backfill.start(owner, true, now, now.plus(lease));
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public StudyVectorBackfillProgress getProgress(String name) {
+        return backfillRepository.findByName(name)
+                .map(StudyVectorBackfillProgress::of)
+                .orElseGet(() -> StudyVectorBackfillProgress.notStarted(name));
+    }
+
+    private StudyVectorBackfill getForUpdate(String name) {
+        return backfillRepository.findByNameForUpdate(name)
+                .orElseThrow(() -> new IllegalStateException("벡터 백필 체크포인트가 없습니다: " + name));
+    }
+}
@@ -1,90 +1,212 @@
 package com.grow.study.application;
 
+import com.grow.study.adapter.persistence.dto.StudyDocumentSourceRow;
+import com.grow.study.application.dto.StudyVectorBackfillProgress;
+import com.grow.study.application.required.StudyEmbeddingRepository;
 import com.grow.study.application.required.StudyRepository;
-import com.grow.study.domain.event.StudyCreatedEvent;
-import com.grow.study.domain.study.Study;
 import com.grow.study.domain.study.StudyStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 스터디 벡터 배치 서비스
- * 기존 스터디들의 Document 일괄 생성
+ * 기존 스터디들의 Document 일괄 생성 (백필)
+ *
+ * - 모집 중인 스터디를 ID 키셋 청크(chunk-size)로 읽는다 - 전체를 한 번에 올리거나 트랜잭션을 오래 잡지 않는다
+ * - 청크를 batch-size 단위로 나눠 vectorBackfillExecutor 에서 병렬로 임베딩/저장한다 (동시 호출 수 = parallelism)
+ *   배치는 다건 임베딩이라 CachingBatchingEmbeddingModel 이 마이크로 배처를 거치지 않고 캐시 미스만 바로 보낸다
+ * - Document ID 는 studyId 로 정해지므로(StudyVectorService.documentIdOf) 다시 실행해도 덮어쓰기만 된다
+ * - 청크마다 체크포인트(StudyVectorBackfill)를 커밋하며, 중단되면 다음 실행이 마지막 청크 다음부터 이어간다
+ * - 실패 없이 끝나면 백필 시작 전에 저장된 RECRUITING Document(모집 종료, 이전 랜덤 ID 중복)를 정리한다
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StudyVectorBatchService {
 
+    static final String RECRUITING_BACKFILL = "recruiting";
+
     private final StudyRepository studyRepository;
     private final StudyVectorService studyVectorService;
+    private final StudyEmbeddingRepository studyEmbeddingRepository;
+    private final StudyVectorBackfillCheckpointService checkpointService;
+    private final Executor taskExecutor;
+    private final Executor backfillExecutor;
+
+    private final int chunkSize;
+    private final int batchSize;
+    private final Duration lease;
+
+    private final Counter succeededDocuments;
+    private final Counter failedDocuments;
+
+    private volatile boolean stopping;
+
+    public StudyVectorBatchService(StudyRepository studyRepository,
+                                   StudyVectorService studyVectorService,
+                                   StudyEmbeddingRepository studyEmbeddingRepository,
+                                   StudyVectorBackfillCheckpointService checkpointService,
+                                   @Qualifier("taskExecutor") Executor taskExecutor,
+                                   @Qualifier("vectorBackfillExecutor") Executor backfillExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${study.vector.backfill.chunk-size:500}") int chunkSize,
+                                   @Value("${study.vector.backfill.batch-size:50}") int batchSize,
+                                   @Value("${study.vector.backfill.lease-seconds:300}") long leaseSeconds) {
+        if (chunkSize < 1 || batchSize < 1 || leaseSeconds < 1) {
+            throw new IllegalArgumentException("study.vector.backfill 설정이 올바르지 않습니다.");
+        }
+        this.studyRepository = studyRepository;
+        this.studyVectorService = studyVectorService;
+        this.studyEmbeddingRepository = studyEmbeddingRepository;
+        this.checkpointService = checkpointService;
+        this.taskExecutor = taskExecutor;
+        this.backfillExecutor = backfillExecutor;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+
+        this.succeededDocuments = meterRegistry.counter("study.vector.backfill.documents", "result", "success");
+        this.failedDocuments = meterRegistry.counter("study.vector.backfill.documents", "result", "failure");
+    }
 
     /**
      * 모든 모집 중인 스터디의 Document 생성
-     * 초기 마이그레이션 또는 수동 실행용
+     * 초기 마이그레이션 또는 수동 실행용 - 중단된 백필이 있으면 체크포인트부터 이어간다 (완료된 백필은 처음부터)
+     *
+     * @return 시작 시점 진행 상황 (작업은 백그라운드에서 계속된다)
      */
-    @Transactional(readOnly = true)
-    public void createDocumentsForAllRecruitingStudies() {
-        log.info("Starting batch creation of vector documents for recruiting studies");
+    public StudyVectorBackfillProgress createDocumentsForAllRecruitingStudies() {
+        return start(false);
+    }
 
-        List<Study> recruitingStudies = studyRepository.findByStatusAndStartDate(
-                StudyStatus.RECRUITING,
-                LocalDate.now().plusYears(1) // 1년 이내 시작 예정인 스터디
-        );
+    /**
+     * 모든 모집 중인 스터디의 Document 재생성
+     * 체크포인트를 무시하고 처음부터 다시 저장한 뒤, 이번 실행 전에 저장된 Document 를 정리한다
+     */
+    public StudyVectorBackfillProgress recreateAllDocuments() {
+        log.warn("Starting recreation of ALL vector documents");
+        return start(true);
+    }
 
-        log.info("Found {} recruiting studies to process", recruitingStudies.size());
+    public StudyVectorBackfillProgress getProgress() {
+        return checkpointService.getProgress(RECRUITING_BACKFILL);
+    }
 
-        int successCount = 0;
-        int failCount = 0;
+    private StudyVectorBackfillProgress start(boolean restart) {
+        String owner = UUID.randomUUID().toString();
+        StudyVectorBackfillProgress progress = checkpointService.begin(
+                RECRUITING_BACKFILL, owner, restart, StudyStatus.RECRUITING, lease);
 
-        for (Study study : recruitingStudies) {
+        taskExecutor.execute(() -> run(owner, progress));
+        return progress;
+    }
+
+    private void run(String owner, StudyVectorBackfillProgress started) {
+        long afterId = started.lastStudyId();
+        long failures = started.failedCount();
+        try {
+            while (!stopping) {
+                List<StudyDocumentSourceRow> chunk = studyRepository.findDocumentSources(
+                        StudyStatus.RECRUITING, afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                int failed = upsertChunk(chunk);
+                afterId = chunk.get(chunk.size() - 1).id();
+
+                StudyVectorBackfillProgress progress = checkpointService.advance(
+                        RECRUITING_BACKFILL, owner, afterId, chunk.size() - failed, failed, lease);
+                log.info("벡터 백필 진행 - {}/{} ({}%), 실패: {}, {}/s, ETA: {}s",
+                        progress.processedCount() + progress.failedCount(), progress.totalCount(),
+                        String.format("%.1f", progress.progressPercent()), progress.failedCount(),
+                        String.format("%.1f", progress.throughputPerSecond()), progress.etaSeconds());
+                failures = progress.failedCount();
+            }
+
+            if (stopping) {
+                checkpointService.fail(RECRUITING_BACKFILL, owner, "애플리케이션 종료로 중단 - 다시 실행하면 체크포인트부터 이어갑니다.");
+                log.warn("벡터 백필 중단 - lastStudyId: {}", afterId);
+                return;
+            }
+
+            // 실패한 스터디의 기존 Document 는 남겨둔다
+            int deleted = 0;
+            if (failures == 0) {
+                Instant indexedBefore = started.startedAt().atZone(ZoneId.systemDefault()).toInstant();
+                deleted = studyEmbeddingRepository.deleteIndexedBefore(StudyStatus.RECRUITING.name(), indexedBefore);
+            }
+
+            StudyVectorBackfillProgress completed = checkpointService.complete(RECRUITING_BACKFILL, owner);
+            log.info("Batch creation completed. Success: {}, Failed: {}, Stale deleted: {}",
+                    completed.processedCount(), completed.failedCount(), deleted);
+        } catch (Exception e) {
+            log.error("벡터 백필 실패 - lastStudyId: {}", afterId, e);
             try {
-                StudyCreatedEvent event = new StudyCreatedEvent(
-                        study.getId(),
-                        study.getTitle(),
-                        study.getIntroduction(),
-                        study.getCurriculum(),
-                        study.getLeaderMessage(),
-                        study.getCategory(),
-                        study.getLevel(),
-                        study.getStatus(),
-                        study.getMinParticipants(),
-                        study.getMaxParticipants(),
-                        study.getSchedule().getStartDate(),
-                        study.getSchedule().getEndDate()
-                );
-
-                studyVectorService.createStudyDocument(study.getId(), event);
-                successCount++;
-                log.debug("Created document for study: {}", study.getId());
-            } catch (Exception e) {
-                failCount++;
-                log.error("Failed to create document for study: {}", study.getId(), e);
+                checkpointService.fail(RECRUITING_BACKFILL, owner, e.getMessage());
+            } catch (Exception failure) {
+                log.warn("벡터 백필 실패 기록 실패 - {}", failure.getMessage());
             }
         }
-
-        log.info("Batch creation completed. Success: {}, Failed: {}", successCount, failCount);
     }
 
     /**
-     * 모든 스터디의 Document 재생성
-     * 주의: 기존 Document 모두 삭제 후 재생성
+     * 청크를 batch-size 로 나눠 병렬 저장
+     *
+     * @return 실패 수
      */
-    @Transactional(readOnly = true)
-    public void recreateAllDocuments() {
-        log.warn("Starting recreation of ALL vector documents");
+    private int upsertChunk(List<StudyDocumentSourceRow> chunk) {
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += batchSize) {
+            List<StudyDocumentSourceRow> batch = List.copyOf(chunk.subList(from, Math.min(from + batchSize, chunk.size())));
+            batches.add(CompletableFuture.supplyAsync(() -> upsertBatch(batch), backfillExecutor));
+        }
+        return batches.stream().mapToInt(CompletableFuture::join).sum();
+    }
 
-        // 향후 구현: 모든 Document 삭제 후 재생성
-        // 현재는 Spring AI VectorStore가 ID 기반으로 덮어쓰기를 지원하므로
-        // createDocumentsForAllRecruitingStudies()를 호출하면 됨
+    /**
+     * 배치 저장 - 실패하면 한 건씩 다시 저장해 실패한 스터디만 골라낸다
+     *
+     * @return 실패 수
+     */
+    private int upsertBatch(List<StudyDocumentSourceRow> batch) {
+        try {
+            studyVectorService.upsertStudyDocuments(batch);
+            succeededDocuments.increment(batch.size());
+            return 0;
+        } catch (Exception e) {
+            log.warn("벡터 백필 배치 저장 실패 - 건별 재시도: {}건, {}", batch.size(), e.getMessage());
+        }
 
-        createDocumentsForAllRecruitingStudies();
+        int failed = 0;
+        for (StudyDocumentSourceRow row : batch) {
+            try {
+                studyVectorService.upsertStudyDocuments(List.of(row));
+                succeededDocuments.increment();
+            } catch (Exception e) {
+                failed++;
+                failedDocuments.increment();
+                log.error("Failed to create document for study: {}", row.id(), e);
+            }
+        }
+        return failed;
+    }
 
-        log.info("Recreation completed");
+    @PreDestroy
+    void stop() {
+        stopping = true;
     }
 }
@@ -0,0 +1,132 @@
+package com.grow.study.application;
+
+import com.grow.study.application.dto.StudyVectorReconcileResult;
+import com.grow.study.application.required.StudyEmbeddingRepository;
+import com.grow.study.domain.study.StudyStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * pgvector Document 와 studies 테이블 정합성 맞추기
+ *
+ * 이벤트 처리 실패/순서 역전, 이전 랜덤 ID Document 로 생긴 차이를 주기적으로 바로잡는다.
+ * 1. 없는 스터디, 종료된 스터디(완료/취소/정산)의 Document 삭제
+ * 2. 한 스터디에 Document 가 여러 개면 최근 것만 남김
+ * 3. status 메타데이터를 studies.status 로 갱신
+ * 4. Document 가 없는 모집 중 스터디 저장 (회당 missing-limit 건 - 임베딩 API 호출)
+ * 1~3 은 DB 안에서 한 문장씩 처리하고, 임베딩 호출 동안 트랜잭션을 잡지 않는다.
+ *
+ * 1, 2 는 vector_store 전체를 읽으므로 한 번에 한 인스턴스만 실행한다.
+ * 백필 체크포인트 테이블(study_vector_backfill)의 "reconcile" 행 lease 를 잡은 인스턴스만 실행하고,
+ * 프로세스가 죽으면 lease-seconds 후 다른 인스턴스가 이어받는다.
+ */
+@Slf4j
+@Service
+public class StudyVectorReconcileService {
+
+    static final String RECONCILE_LEASE = "reconcile";
+
+    private static final List<String> REMOVED_STATUSES = Arrays.stream(StudyStatus.values())
+            .filter(StudyStatus::isFinished)
+            .map(StudyStatus::name)
+            .toList();
+
+    private final StudyEmbeddingRepository studyEmbeddingRepository;
+    private final StudyVectorService studyVectorService;
+    private final StudyVectorBackfillCheckpointService checkpointService;
+    private final MeterRegistry meterRegistry;
+    private final int missingLimit;
+    private final Duration lease;
+
+    public StudyVectorReconcileService(StudyEmbeddingRepository studyEmbeddingRepository,
+                                       StudyVectorService studyVectorService,
+                                       StudyVectorBackfillCheckpointService checkpointService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${study.vector.reconcile.missing-limit:200}") int missingLimit,
+                                       @Value("${study.vector.reconcile.lease-seconds:600}") long leaseSeconds) {
+        if (missingLimit < 0) {
+            throw new IllegalArgumentException("study.vector.reconcile.missing-limit 은 0 이상이어야 합니다.");
+        }
+        if (leaseSeconds < 1) {
+            throw new IllegalArgumentException("study.vector.reconcile.lease-seconds 는 1 이상이어야 합니다.");
+        }
+        this.studyEmbeddingRepository = studyEmbeddingRepository;
+        this.studyVectorService = studyVectorService;
+        this.checkpointService = checkpointService;
+        this.meterRegistry = meterRegistry;
+        this.missingLimit = missingLimit;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 즉시 실행 (관리자 API) - 다른 인스턴스가 실행 중이면 IllegalStateException
+     */
+    public StudyVectorReconcileResult reconcile() {
+        return tryReconcile()
+                .orElseThrow(() -> new IllegalStateException("벡터 Document 정합성 맞추기가 이미 실행 중입니다."));
+    }
+
+    /**
+     * lease 를 잡으면 실행 (스케줄러) - 다른 인스턴스가 실행 중이면 건너뛴다
+     */
+    public Optional<StudyVectorReconcileResult> tryReconcile() {
+        String owner = UUID.randomUUID().toString();
+        if (!checkpointService.tryAcquire(RECONCILE_LEASE, owner, lease)) {
+            log.debug("벡터 Document 정합성 맞추기 건너뜀 - 다른 인스턴스가 실행 중");
+            return Optional.empty();
+        }
+
+        try {
+            StudyVectorReconcileResult result = run();
+            checkpointService.complete(RECONCILE_LEASE, owner);
+            return Optional.of(result);
+        } catch (RuntimeException e) {
+            try {
+                checkpointService.fail(RECONCILE_LEASE, owner, e.getMessage());
+            } catch (Exception failure) {
+                log.warn("벡터 Document 정합성 맞추기 실패 기록 실패 - {}", failure.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    private StudyVectorReconcileResult run() {
+        int deleted = studyEmbeddingRepository.deleteWithoutLiveStudy(REMOVED_STATUSES);
+        int deduplicated = studyEmbeddingRepository.deleteDuplicates();
+        int statusUpdated = studyEmbeddingRepository.syncStatusWithStudies();
+
+        int indexed = 0;
+        if (missingLimit > 0) {
+            List<Long> missing = studyEmbeddingRepository.findStudyIdsWithoutDocument(
+                    StudyStatus.RECRUITING.name(), missingLimit);
+            if (!missing.isEmpty()) {
+                indexed = studyVectorService.indexStudies(missing);
+            }
+        }
+
+        record("deleted", deleted);
+        record("deduplicated", deduplicated);
+        record("status-updated", statusUpdated);
+        record("indexed", indexed);
+
+        StudyVectorReconcileResult result = new StudyVectorReconcileResult(deleted, deduplicated, statusUpdated, indexed);
+        if (deleted + deduplicated + statusUpdated + indexed > 0) {
+            log.info("벡터 Document 정합성 맞추기 완료 - {}", result);
+        } else {
+            log.debug("벡터 Document 정합성 맞추기 - 변경 없음");
+        }
+        return result;
+    }
+
+    private void record(String action, int count) {
+        meterRegistry.counter("study.vector.reconcile.documents", "action", action).increment(count);
+    }
+}
@@ -1,22 +1,27 @@
 package com.grow.study.application;
 
-import com.grow.study.adapter.config.RedisConfig;
+import com.grow.study.adapter.persistence.dto.StudyDocumentSourceRow;
+import com.grow.study.application.dto.ScoredStudyId;
+import com.grow.study.application.required.StudyEmbeddingRepository;
 import com.grow.study.application.required.StudyRepository;
 import com.grow.study.domain.event.StudyCreatedEvent;
 import com.grow.study.domain.study.Study;
 import com.grow.study.domain.study.StudyStatus;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -28,8 +33,20 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StudyVectorService {
 
+    private static final double SIMILAR_STUDY_THRESHOLD = 0.6;
+
     private final VectorStore vectorStore;
     private final StudyRepository studyRepository;
+    private final StudyEmbeddingRepository studyEmbeddingRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 스터디의 Document ID - studyId 로 정해지는 UUID(v3)
+     * 같은 스터디는 항상 같은 ID 이므로 저장은 덮어쓰기(upsert)가 되고 재시도/백필이 중복을 만들지 않는다.
+     */
+    public static String documentIdOf(Long studyId) {
+        return UUID.nameUUIDFromBytes(("study:" + studyId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
 
     /**
      * 스터디 생성 시 Document 생성 및 저장
@@ -39,33 +56,84 @@ public class StudyVectorService {
     public void createStudyDocument(Long studyId, StudyCreatedEvent event) {
         log.info("Creating vector document for study: {}", studyId);
 
-        // 스터디 정보를 하나의 텍스트로 결합 (임베딩 대상)
-        String content = buildStudyContent(event);
+        vectorStore.add(List.of(toDocument(event)));
 
-        // 메타데이터 설정
-        // 1.0+ Builder 패턴 사용
-        Document document = Document.builder()
-                .id(UUID.randomUUID().toString())
-                .text(content)
-                .metadata(buildMetadata(studyId, event))
-                .build();
+        log.info("Vector document created successfully for study: {}", studyId);
+    }
 
-        vectorStore.add(List.of(document));
+    /**
+     * 여러 스터디의 Document 일괄 저장 (백필/정합성 맞추기용) - 임베딩은 한 번의 다건 요청으로 만든다
+     */
+    public void upsertStudyDocuments(List<StudyDocumentSourceRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        vectorStore.add(rows.stream().map(row -> toDocument(toCreatedEvent(row))).toList());
+    }
 
-        log.info("Vector document created successfully for study: {}", studyId);
+    /**
+     * 스터디 ID 목록의 Document 를 현재 DB 상태로 저장
+     *
+     * @return 저장한 Document 수
+     */
+    public int indexStudies(Collection<Long> studyIds) {
+        List<StudyDocumentSourceRow> rows = studyRepository.findDocumentSourcesByIds(studyIds);
+        upsertStudyDocuments(rows);
+        return rows.size();
+    }
+
+    /**
+     * 스터디 상태 변경 반영
+     * - 종료된 스터디(완료/취소/정산): Document 삭제 - 검색 후보에서 빠진다
+     * - 그 외: status 메타데이터만 제자리 갱신 - 임베딩은 유사 스터디 검색의 기준 벡터로 계속 쓴다
+     * - 모집 시작인데 Document 가 아직 없으면(생성 이벤트 처리 전/실패) 현재 상태로 새로 저장
+     */
+    public void syncStudyStatus(Long studyId, StudyStatus status) {
+        if (status.isFinished()) {
+            deleteStudyDocument(studyId);
+            return;
+        }
+
+        int updated = studyEmbeddingRepository.updateStatus(studyId, status.name());
+        if (updated == 0 && status == StudyStatus.RECRUITING) {
+            log.info("Vector document not found, indexing study: {}", studyId);
+            indexStudies(List.of(studyId));
+        }
+        log.debug("Vector document status synced - study: {}, status: {}, documents: {}", studyId, status, updated);
+    }
+
+    private Document toDocument(StudyCreatedEvent event) {
+        // 스터디 정보를 하나의 텍스트로 결합 (임베딩 대상)
+        // 1.0+ Builder 패턴 사용
+        return Document.builder()
+                .id(documentIdOf(event.studyId()))
+                .text(buildStudyContent(event))
+                .metadata(buildMetadata(event.studyId(), event))
+                .build();
     }
 
     /**
      * 유사 스터디 검색
      * @param studyId 기준 스터디 ID
      * @param topK 반환할 유사 스터디 개수 (기본값은 4)
-     * @return 유사 스터디 ID 리스트
-     * todo
+     * @return 유사 스터디 ID, 점수 리스트 (유사도 순)
+     *
+     * 기준 스터디의 저장된 임베딩으로 최근접 검색한다 (임베딩 API 호출 없음).
+     * 아직 Document 가 없는 스터디(생성 직후, 생성 실패)만 텍스트를 다시 임베딩해 검색한다.
      */
-    @Cacheable(value = RedisConfig.SIMILAR_STUDIES_CACHE, key = "#studyId + ':' + #topK")
-    public List<Long> findSimilarStudies(Long studyId, int topK) {
+    public List<ScoredStudyId> findSimilarStudies(Long studyId, int topK) {
         log.info("Finding similar studies for study: {}, topK: {}", studyId, topK);
 
+        Optional<List<ScoredStudyId>> byStoredEmbedding = studyEmbeddingRepository.findNearestByStudyEmbedding(
+                studyId, StudyStatus.RECRUITING.name(), topK, SIMILAR_STUDY_THRESHOLD);
+        if (byStoredEmbedding.isPresent()) {
+            meterRegistry.counter("study.vector.similar.search", "source", "stored-embedding").increment();
+            return byStoredEmbedding.get();
+        }
+
+        log.info("Stored embedding not found, falling back to text query for study: {}", studyId);
+        meterRegistry.counter("study.vector.similar.search", "source", "text-query").increment();
+
         // 1. DB에서 기준 스터디 조회
         Study baseStudy = studyRepository.findById(studyId)
                 .orElseThrow(() -> new IllegalArgumentException("Study not found: " + studyId));
@@ -78,19 +146,15 @@ public class StudyVectorService {
                 .builder()
                 .query(searchQuery) //유사도 검색에 사용될 텍스트
                 .topK(topK)
-                .similarityThreshold(0.6) // 유사도
+                .similarityThreshold(SIMILAR_STUDY_THRESHOLD) // 유사도
                 .filterExpression("studyId != '" + studyId + "' && status == 'RECRUITING'")
                 .build();
 
 
         List<Document> similarDocuments = vectorStore.similaritySearch(similarityRequest);
 
-        // 3. 자기 자신 제외 및 Study ID 추출 (메타데이터에서 studyId 조회)
-        return similarDocuments.stream()
-                .map(doc -> Long.parseLong((String) doc.getMetadata().get("studyId")))
-               // .filter(id -> !id.equals(studyId))
-              //  .limit(topK)
-                .toList();
+        // 3. Study ID 추출 (메타데이터에서 studyId 조회)
+        return toScoredIds(similarDocuments);
     }
 
     /**
@@ -98,12 +162,9 @@ public class StudyVectorService {
      * @param userId 유저 ID (캐시 키로 사용)
      * @param memberIntroduction 멤버 소개 (관심사)
      * @param topK 추천할 스터디 개수
-     * @return 추천 스터디 ID 리스트
-     * todo 유저 자기소개 수정 시 캐시 무효화 로직 필요
+     * @return 추천 스터디 ID, 점수 리스트 (유사도 순)
      */
-
-    @Cacheable(value = RedisConfig.MEMBER_INTEREST_CACHE, key = "#userId + ':' + #topK")
-    public List<Long> recommendStudiesByMemberInterest(Long userId, String memberIntroduction, int topK) {
+    public List<ScoredStudyId> recommendStudiesByMemberInterest(Long userId, String memberIntroduction, int topK) {
 
         // 멤버 관심사로 유사 스터디 검색 (모집 중인 스터디만)
         SearchRequest searchRequest = SearchRequest
@@ -116,9 +177,7 @@ public class StudyVectorService {
 
         List<Document> documents = vectorStore.similaritySearch(searchRequest);
 
-        return documents.stream()
-                .map(doc -> Long.parseLong((String) doc.getMetadata().get("studyId")))
-                .toList();
+        return toScoredIds(documents);
     }
 
     /**
@@ -126,9 +185,9 @@ public class StudyVectorService {
      * @param studyContent 검색 기준 텍스트
      * @param category 카테고리 필터
      * @param topK 반환할 개수
-     * @return 유사 스터디 ID 리스트
+     * @return 유사 스터디 ID, 점수 리스트 (유사도 순)
      */
-    public List<Long> findSimilarStudiesByCategory(String studyContent, String category, int topK) {
+    public List<ScoredStudyId> findSimilarStudiesByCategory(String studyContent, String category, int topK) {
         log.info("Finding similar studies by category: {}, topK: {}", category, topK);
 
         SearchRequest searchRequest = SearchRequest.builder()
@@ -140,8 +199,14 @@ public class StudyVectorService {
 
         List<Document> documents = vectorStore.similaritySearch(searchRequest);
 
+        return toScoredIds(documents);
+    }
+
+    private List<ScoredStudyId> toScoredIds(List<Document> documents) {
         return documents.stream()
-                .map(doc -> Long.parseLong((String) doc.getMetadata().get("studyId")))
+                .map(doc -> new ScoredStudyId(
+                        Long.parseLong((String) doc.getMetadata().get("studyId")),
+                        doc.getScore()))
                 .toList();
     }
 
@@ -151,7 +216,26 @@ public class StudyVectorService {
     @Transactional
     public void deleteStudyDocument(Long studyId) {
         log.info("Deleting vector document for study: {}", studyId);
-        vectorStore.delete(List.of(String.valueOf(studyId)));
+        // metadata.studyId 기준 - 이전 랜덤 ID 로 저장된 Document 까지 지운다
+        int deleted = studyEmbeddingRepository.deleteByStudyId(studyId);
+        log.info("Deleted {} vector documents for study: {}", deleted, studyId);
+    }
+
+    private static StudyCreatedEvent toCreatedEvent(StudyDocumentSourceRow row) {
+        return new StudyCreatedEvent(
+                row.id(),
+                row.title(),
+                row.introduction(),
+                row.curriculum(),
+                row.leaderMessage(),
+                row.category(),
+                row.level(),
+                row.status(),
+                row.minParticipants(),
+                row.maxParticipants(),
+                row.startDate(),
+                row.endDate()
+        );
     }
 
     /**
@@ -207,7 +291,8 @@ public class StudyVectorService {
                 "minParticipants", String.valueOf(event.minParticipants()),
                 "maxParticipants", String.valueOf(event.maxParticipants()),
                 "startDate", event.startDate().toString(),
-                "endDate", event.endDate().toString()
+                "endDate", event.endDate().toString(),
+                "indexedAt", String.valueOf(Instant.now().toEpochMilli())
         );
     }
 }
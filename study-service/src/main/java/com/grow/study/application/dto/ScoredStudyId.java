@@ -0,0 +1,10 @@
+package com.grow.study.application.dto;
+
+/**
+ * 벡터 검색 결과 - 스터디 ID 와 유사도 점수 (검색 결과 순서 = 유사도 순서)
+ */
+public record ScoredStudyId(
+        Long studyId,
+        Double score
+) {
+}
@@ -0,0 +1,50 @@
+package com.grow.study.application.dto;
+
+import com.grow.study.adapter.persistence.dto.StudyRecommendationRow;
+import com.grow.study.domain.study.StudyCategory;
+import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudyStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 추천 스터디 - 조회한 스터디 정보 + 유사도 점수
+ * 추천 캐시(similarStudies, memberInterestStudies)에 그대로 저장된다.
+ */
+public record StudyRecommendation(
+        Long studyId,
+        Double score,
+        String title,
+        String thumbnailUrl,
+        StudyCategory category,
+        StudyLevel level,
+        StudyStatus status,
+        Integer minParticipants,
+        Integer maxParticipants,
+        Integer currentParticipants,
+        Integer depositAmount,
+        LocalDate startDate,
+        LocalDate endDate,
+        String introduction
+) implements Serializable {
+
+    public static StudyRecommendation of(StudyRecommendationRow row, Double score) {
+        return new StudyRecommendation(
+                row.id(),
+                score,
+                row.title(),
+                row.thumbnailUrl(),
+                row.category(),
+                row.level(),
+                row.status(),
+                row.minParticipants(),
+                row.maxParticipants(),
+                row.currentParticipants(),
+                row.depositAmount(),
+                row.startDate(),
+                row.endDate(),
+                row.introduction()
+        );
+    }
+}
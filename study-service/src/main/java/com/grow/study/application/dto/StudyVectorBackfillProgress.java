@@ -0,0 +1,62 @@
+package com.grow.study.application.dto;
+
+import com.grow.study.domain.study.StudyVectorBackfill;
+import com.grow.study.domain.study.StudyVectorBackfillStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벡터 백필 진행 상황 - 처리량은 이번 실행 기준, ETA 는 남은 수 / 처리량
+ */
+public record StudyVectorBackfillProgress(
+        String name,
+        StudyVectorBackfillStatus status,
+        Long lastStudyId,
+        Long totalCount,
+        Long processedCount,
+        Long failedCount,
+        Long remainingCount,
+        Double progressPercent,
+        Double throughputPerSecond,
+        Long etaSeconds,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime completedAt,
+        String lastError
+) {
+
+    public static StudyVectorBackfillProgress of(StudyVectorBackfill backfill) {
+        long done = backfill.doneCount();
+        long remaining = Math.max(backfill.getTotalCount() - done, 0);
+        double throughput = backfill.throughputPerSecond();
+
+        Long eta = null;
+        if (backfill.getStatus() == StudyVectorBackfillStatus.COMPLETED) {
+            eta = 0L;
+        } else if (throughput > 0) {
+            eta = (long) Math.ceil(remaining / throughput);
+        }
+
+        return new StudyVectorBackfillProgress(
+                backfill.getName(),
+                backfill.getStatus(),
+                backfill.getLastStudyId(),
+                backfill.getTotalCount(),
+                backfill.getProcessedCount(),
+                backfill.getFailedCount(),
+                remaining,
+                backfill.getTotalCount() > 0 ? Math.min(100.0, done * 100.0 / backfill.getTotalCount()) : 0.0,
+                throughput,
+                eta,
+                backfill.getStartedAt(),
+                backfill.getUpdatedAt(),
+                backfill.getCompletedAt(),
+                backfill.getLastError()
+        );
+    }
+
+    public static StudyVectorBackfillProgress notStarted(String name) {
+        return new StudyVectorBackfillProgress(name, StudyVectorBackfillStatus.READY,
+                0L, 0L, 0L, 0L, 0L, 0.0, 0.0, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.grow.study.application.dto;
+
+/**
+ * 벡터 Document 정합성 맞추기 결과 (각 항목 건수)
+ */
+public record StudyVectorReconcileResult(
+        int deleted,
+        int deduplicated,
+        int statusUpdated,
+        int indexed
+) {
+}
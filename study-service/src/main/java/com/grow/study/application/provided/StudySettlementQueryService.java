@@ -82,9 +82,10 @@ public class StudySettlementQueryService {
             );
         }
 
-        // Study 엔티티에 markAsSettled 메서드가 필요합니다
         study.markAsSettled();
-        
+        // 도메인 이벤트(SETTLED)는 repository.save 시점에 발행된다 (AbstractAggregateRoot)
+        studyRepository.save(study);
+
         log.info("스터디 {} 정산 완료 처리됨", studyId);
     }
 }
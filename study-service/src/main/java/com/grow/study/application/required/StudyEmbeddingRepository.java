@@ -0,0 +1,60 @@
+package com.grow.study.application.required;
+
+import com.grow.study.application.dto.ScoredStudyId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장된 스터디 임베딩(pgvector) 직접 조회 - 임베딩 API 호출 없이 최근접 검색, 메타데이터 갱신/정리
+ * Document 는 metadata.studyId 로 찾는다 (이전 랜덤 ID 로 저장된 Document 포함)
+ */
+public interface StudyEmbeddingRepository {
+
+    /**
+     * 기준 스터디의 저장된 임베딩으로 최근접 스터디 검색 (기준 스터디 제외, 유사도 순)
+     *
+     * @param status 후보 스터디 상태 (벡터 메타데이터 기준)
+     * @return 기준 스터디 임베딩이 없으면 Optional.empty()
+     */
+    Optional<List<ScoredStudyId>> findNearestByStudyEmbedding(Long studyId, String status, int topK,
+                                                             double similarityThreshold);
+
+    /**
+     * 해당 상태로 저장된 Document 중 indexedBefore 이전에 저장된 것 삭제 (재생성 후 남은 Document 정리)
+     *
+     * @return 삭제한 Document 수
+     */
+    int deleteIndexedBefore(String status, Instant indexedBefore);
+
+    /**
+     * 스터디 Document 의 status 메타데이터를 제자리 갱신 (임베딩은 그대로)
+     *
+     * @return 갱신한 Document 수 (0 이면 Document 없음)
+     */
+    int updateStatus(Long studyId, String status);
+
+    int deleteByStudyId(Long studyId);
+
+    /**
+     * studies 에 없는 스터디, removedStatuses 상태인 스터디의 Document 삭제
+     */
+    int deleteWithoutLiveStudy(Collection<String> removedStatuses);
+
+    /**
+     * 한 스터디에 Document 가 여러 개면 가장 최근 저장된 것만 남긴다
+     */
+    int deleteDuplicates();
+
+    /**
+     * status 메타데이터가 studies.status 와 다른 Document 갱신
+     */
+    int syncStatusWithStudies();
+
+    /**
+     * 해당 상태인데 Document 가 없는 스터디 ID (ID 순)
+     */
+    List<Long> findStudyIdsWithoutDocument(String status, int limit);
+}
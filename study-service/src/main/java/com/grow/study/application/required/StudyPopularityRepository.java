@@ -0,0 +1,11 @@
+package com.grow.study.application.required;
+
+public interface StudyPopularityRepository {
+
+    /**
+     * 전체 스터디 인기 점수 재계산 (점수가 바뀐 행만 갱신)
+     *
+     * @return 추가/갱신된 행 수
+     */
+    int refreshScores(double hotWeight, double viewWeight, double favoriteWeight, double enrollmentWeight);
+}
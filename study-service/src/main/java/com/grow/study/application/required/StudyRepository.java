@@ -1,7 +1,9 @@
 package com.grow.study.application.required;
 
 import com.grow.study.adapter.persistence.dto.CursorResult;
+import com.grow.study.adapter.persistence.dto.StudyDocumentSourceRow;
 import com.grow.study.adapter.persistence.dto.StudyListResponse;
+import com.grow.study.adapter.persistence.dto.StudyRecommendationRow;
 import com.grow.study.adapter.persistence.dto.StudySearchCondition;
 import com.grow.study.application.required.dto.StudyWithMemberCountDto;
 import com.grow.study.domain.study.Study;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,20 @@ public interface StudyRepository {
 
     CursorResult<StudyListResponse> searchStudyListByCursor(StudySearchCondition condition, String cursor, int size);
 
+    /**
+     * ID 목록의 추천 응답 컬럼을 한 번에 조회 (IN) - 결과 순서는 보장하지 않는다
+     */
+    List<StudyRecommendationRow> findRecommendationRows(Collection<Long> studyIds);
+
+    /**
+     * 벡터 Document 원천 키셋 조회 - afterId 초과, ID 오름차순 size 건
+     */
+    List<StudyDocumentSourceRow> findDocumentSources(StudyStatus status, Long afterId, int size);
+
+    List<StudyDocumentSourceRow> findDocumentSourcesByIds(Collection<Long> studyIds);
+
+    long countByStatusAndIdGreaterThan(StudyStatus status, Long afterId);
+
     Study save(Study study);
 
 
@@ -0,0 +1,17 @@
+package com.grow.study.application.required;
+
+import com.grow.study.domain.study.StudyVectorBackfill;
+
+import java.util.Optional;
+
+public interface StudyVectorBackfillRepository {
+
+    Optional<StudyVectorBackfill> findByName(String name);
+
+    /**
+     * 체크포인트 행 잠금 조회 (실행 시작/청크 기록 시 인스턴스 간 경합 방지)
+     */
+    Optional<StudyVectorBackfill> findByNameForUpdate(String name);
+
+    StudyVectorBackfill save(StudyVectorBackfill backfill);
+}
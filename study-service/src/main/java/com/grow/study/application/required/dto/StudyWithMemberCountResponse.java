@@ -1,6 +1,7 @@
 package com.grow.study.application.required.dto;
 
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Set;
@@ -40,7 +41,7 @@ public record StudyWithMemberCountResponse(
         Long duringMinutes,
         //모집 마감일
         LocalDate recruitEndDate
-) {
+) implements Serializable {
     public static StudyWithMemberCountResponse of(StudyWithMemberCountDto dto, MemberSummaryResponse memberSummaryResponse, Set<String> dayOfWeeks ){
         return new StudyWithMemberCountResponse(
                 dto.study.getId(),
@@ -0,0 +1,10 @@
+package com.grow.study.domain.event;
+
+/**
+ * 스터디 변경 이벤트
+ * 참가 인원, 정보 수정 등 StudyStatusChangedEvent 로 알리지 않는 변경 - 조회 캐시 무효화용
+ */
+public record StudyUpdatedEvent(
+        Long studyId
+) {
+}
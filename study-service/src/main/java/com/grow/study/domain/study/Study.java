@@ -3,6 +3,7 @@ package com.grow.study.domain.study;
 import com.grow.study.application.NonRetryableException;
 import com.grow.study.domain.AbstractEntity;
 import com.grow.study.domain.event.StudyStatusChangedEvent;
+import com.grow.study.domain.event.StudyUpdatedEvent;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
@@ -215,6 +216,8 @@ public class Study extends AbstractEntity {
         this.curriculum = curriculum;
         this.leaderMessage = leaderMessage;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new StudyUpdatedEvent(this.getId()));
     }
 
     /**
@@ -230,6 +233,8 @@ public class Study extends AbstractEntity {
 
         this.currentParticipants++;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new StudyUpdatedEvent(this.getId()));
     }
 
     /**
@@ -242,6 +247,8 @@ public class Study extends AbstractEntity {
 
         this.currentParticipants--;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new StudyUpdatedEvent(this.getId()));
     }
 
     /**
@@ -280,6 +287,14 @@ public class Study extends AbstractEntity {
         this.status = StudyStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(StudyStatusChangedEvent.of(
+                this.getId(),
+                StudyStatus.COMPLETED,
+                this.schedule.getRecruitEndDate(),
+                this.schedule.getStartDate(),
+                this.schedule.getEndDate()
+        ));
     }
 
     /**
@@ -292,6 +307,14 @@ public class Study extends AbstractEntity {
 
         this.status = StudyStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(StudyStatusChangedEvent.of(
+                this.getId(),
+                StudyStatus.CANCELLED,
+                this.schedule.getRecruitEndDate(),
+                this.schedule.getStartDate(),
+                this.schedule.getEndDate()
+        ));
     }
 
     /**
@@ -328,6 +351,8 @@ public class Study extends AbstractEntity {
         //this.status = StudyStatus.EARLY_TERMINATED;
         this.completedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new StudyUpdatedEvent(this.getId()));
     }
 
     /**
@@ -463,5 +488,13 @@ public class Study extends AbstractEntity {
         }
         this.status = StudyStatus.SETTLED;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(StudyStatusChangedEvent.of(
+                this.getId(),
+                StudyStatus.SETTLED,
+                this.schedule.getRecruitEndDate(),
+                this.schedule.getStartDate(),
+                this.schedule.getEndDate()
+        ));
     }
 }
@@ -0,0 +1,56 @@
+package com.grow.study.domain.study;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디 인기 점수 읽기 모델 - 인기순 목록 정렬/커서에 사용
+ *
+ * hot-study-service 점수, favorite-service 조회수/찜 수, 참가 인원을 가중 합산해 주기적으로 갱신한다.
+ * (StudyPopularityService) 목록 조회는 (score DESC, study_id DESC) 인덱스를 따라 읽는다.
+ */
+@Entity
+@Table(name = "study_popularity", indexes = {
+        @Index(name = "idx_study_popularity_score_id", columnList = "score DESC, study_id DESC")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyPopularity {
+
+    @Id
+    @Column(name = "study_id")
+    private Long studyId;
+
+    @Column(nullable = false)
+    @Comment("인기 점수 (가중 합산)")
+    private Double score;
+
+    @Column(nullable = false)
+    @Comment("hot-study-service 점수")
+    private Double hotScore;
+
+    @Column(nullable = false)
+    @Comment("조회수")
+    private Long viewCount;
+
+    @Column(nullable = false)
+    @Comment("찜 수")
+    private Long favoriteCount;
+
+    @Column(nullable = false)
+    @Comment("참가 인원")
+    private Integer enrollmentCount;
+
+    @Column(nullable = false)
+    @Comment("갱신일시")
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,191 @@
+package com.grow.study.domain.study;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 벡터 Document 백필 체크포인트 - 작업 이름당 한 행
+ *
+ * 청크(스터디 ID 오름차순)를 끝낼 때마다 마지막 스터디 ID 와 처리 건수를 기록한다.
+ * 실행 중인 인스턴스는 lease 를 갱신하며, 프로세스가 죽어 lease 가 만료되면 다음 실행이 체크포인트부터 이어간다.
+ * 정합성 맞추기(reconcile)처럼 체크포인트 없이 단독 실행만 필요한 작업도 lease 용으로 한 행을 쓴다.
+ */
+@Entity
+@Table(name = "study_vector_backfill")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyVectorBackfill {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StudyVectorBackfillStatus status;
+
+    @Column(nullable = false)
+    @Comment("처리 완료한 마지막 스터디 ID (다음 청크는 이 ID 초과부터)")
+    private Long lastStudyId;
+
+    @Column(nullable = false)
+    @Comment("전체 대상 수 (실행 시작 시점 추정)")
+    private Long totalCount;
+
+    @Column(nullable = false)
+    @Comment("Document 저장 성공 수")
+    private Long processedCount;
+
+    @Column(nullable = false)
+    @Comment("Document 저장 실패 수")
+    private Long failedCount;
+
+    @Comment("이번 실행 시작 시점의 처리 수 (처리량 계산 기준)")
+    private Long runBaseCount;
+
+    @Comment("이번 실행 시작일시")
+    private LocalDateTime runStartedAt;
+
+    @Comment("작업 시작일시 (처음부터 시작한 시점)")
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    @Column(length = 64)
+    @Comment("실행 중인 인스턴스 토큰")
+    private String owner;
+
+    @Comment("실행 lease 만료일시")
+    private LocalDateTime leaseUntil;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Version
+    private long version;
+
+    public static StudyVectorBackfill create(String name) {
+        StudyVectorBackfill backfill = new StudyVectorBackfill();
+        backfill.name = name;
+        backfill.status = StudyVectorBackfillStatus.READY;
+        backfill.reset();
+        return backfill;
+    }
+
+    /**
+     * 실행 시작 - 완료된 작업이거나 restart 면 처음부터, 아니면 체크포인트부터 이어간다
+     */
+    public void start(String owner, boolean restart, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (isRunning(now)) {
+            throw new IllegalStateException("벡터 백필이 이미 실행 중입니다: " + name);
+        }
+        if (restart || status == StudyVectorBackfillStatus.COMPLETED || startedAt == null) {
+            reset();
+            this.startedAt = now;
+        }
+        this.status = StudyVectorBackfillStatus.RUNNING;
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+        this.runBaseCount = doneCount();
+        this.runStartedAt = now;
+        this.updatedAt = now;
+        this.completedAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 남은 대상 수로 전체 대상 수 갱신
+     */
+    public void estimateTotal(long remaining) {
+        this.totalCount = doneCount() + remaining;
+    }
+
+    /**
+     * 청크 완료 기록 + lease 갱신
+     */
+    public void advance(String owner, Long lastStudyId, int succeeded, int failed,
+                        LocalDateTime now, LocalDateTime leaseUntil) {
+        verifyOwner(owner);
+        this.lastStudyId = lastStudyId;
+        this.processedCount += succeeded;
+        this.failedCount += failed;
+        if (doneCount() > totalCount) {
+            // 실행 중 새로 모집 시작한 스터디
+            this.totalCount = doneCount();
+        }
+        this.updatedAt = now;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void complete(String owner, LocalDateTime now) {
+        verifyOwner(owner);
+        this.status = StudyVectorBackfillStatus.COMPLETED;
+        this.totalCount = doneCount();
+        this.updatedAt = now;
+        this.completedAt = now;
+        this.owner = null;
+        this.leaseUntil = null;
+    }
+
+    public void fail(String owner, String error, LocalDateTime now) {
+        verifyOwner(owner);
+        this.status = StudyVectorBackfillStatus.FAILED;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.updatedAt = now;
+        this.owner = null;
+        this.leaseUntil = null;
+    }
+
+    /**
+     * 다른 인스턴스가 실행 중인지 - RUNNING 이라도 lease 가 만료됐으면 중단된 것으로 본다
+     */
+    public boolean isRunning(LocalDateTime now) {
+        return status == StudyVectorBackfillStatus.RUNNING && leaseUntil != null && leaseUntil.isAfter(now);
+    }
+
+    public long doneCount() {
+        return processedCount + failedCount;
+    }
+
+    /**
+     * 이번 실행의 초당 처리 수
+     */
+    public double throughputPerSecond() {
+        if (runStartedAt == null || updatedAt == null || runBaseCount == null) {
+            return 0;
+        }
+        double seconds = Duration.between(runStartedAt, updatedAt).toMillis() / 1000.0;
+        return seconds > 0 ? (doneCount() - runBaseCount) / seconds : 0;
+    }
+
+    private void verifyOwner(String owner) {
+        if (this.owner == null || !this.owner.equals(owner)) {
+            throw new IllegalStateException("벡터 백필 실행 권한을 잃었습니다 (lease 만료): " + name);
+        }
+    }
+
+    private void reset() {
+        this.lastStudyId = 0L;
+        this.totalCount = 0L;
+        this.processedCount = 0L;
+        this.failedCount = 0L;
+        this.startedAt = null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.grow.study.domain.study;
+
+public enum StudyVectorBackfillStatus {
+    READY("대기"),
+    RUNNING("실행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    StudyVectorBackfillStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
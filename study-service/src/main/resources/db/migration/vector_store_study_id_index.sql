@@ -0,0 +1,11 @@
+-- 저장된 임베딩으로 유사 스터디 검색 (StudyEmbeddingRepositoryAdapter)
+-- 기준 스터디의 임베딩을 metadata.studyId 로 찾으므로 표현식 인덱스를 둔다.
+-- (인덱스가 없으면 캐시 미스마다 vector_store 전체를 훑는다)
+-- 상태 변경 반영(status 메타데이터 갱신, Document 삭제), 정합성 맞추기의 누락 확인도 같은 인덱스를 쓴다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vector_store_study_id_idx
+    ON vector_store ((metadata ->> 'studyId'));
+
+-- 확인: Index Scan using vector_store_study_id_idx
+EXPLAIN
+SELECT embedding::text FROM vector_store WHERE metadata ->> 'studyId' = '1' LIMIT 1;
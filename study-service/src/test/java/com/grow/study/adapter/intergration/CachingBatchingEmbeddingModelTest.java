@@ -0,0 +1,203 @@
+package com.grow.study.adapter.intergration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+
+/**
+ * CachingBatchingEmbeddingModel 단위 테스트
+ * Redis(L2)는 응답 없는 목으로 두어 항상 미스 - 캐시 적중은 로컬(L1) 기준으로 확인한다.
+ */
+class CachingBatchingEmbeddingModelTest {
+
+    private static final int DIMENSIONS = 16;
+    private static final String MODEL = "test-model";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+    private CachingBatchingEmbeddingModel model;
+
+    @AfterEach
+    void tearDown() {
+        if (model != null) {
+            model.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 텍스트를 다시 임베딩하면 캐시에서 반환하고 API 를 호출하지 않는다")
+    void returnsCachedEmbedding() {
+        // given
+        model = create(0, 64);
+        float[] first = model.embed("자바 스터디");
+
+        // when
+        float[] second = model.embed("자바 스터디");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(delegate.requests).hasSize(1);
+        assertThat(meterRegistry.counter("study.embedding.cache.requests", "result", "l1-hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 요청 안의 중복 텍스트는 한 번만 API 로 보낸다")
+    void deduplicatesTextsInRequest() {
+        // given
+        model = create(0, 64);
+
+        // when
+        EmbeddingResponse response = model.call(new EmbeddingRequest(List.of("스프링", "리액트", "스프링"), null));
+
+        // then
+        assertThat(delegate.requests).containsExactly(List.of("스프링", "리액트"));
+        assertThat(response.getResults()).hasSize(3);
+        assertThat(response.getResults().get(2).getOutput()).isEqualTo(response.getResults().get(0).getOutput());
+        assertThat(response.getResults().get(2).getIndex()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("단건 요청은 모아 보내고, max-batch-size 가 차면 window 를 기다리지 않고 바로 보낸다")
+    void flushesWhenBatchIsFull() {
+        // given - window 가 길어 크기로만 보내져야 제시간에 끝난다
+        model = create(60_000, 3);
+
+        // when - 세 요청이 동시에 대기해야 하므로 전용 스레드에서 호출
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            List<CompletableFuture<float[]>> futures = Stream.of("a", "b", "c")
+                    .map(text -> CompletableFuture.supplyAsync(() -> model.embed(text), callers))
+                    .toList();
+            assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> futures.forEach(CompletableFuture::join));
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // then
+        assertThat(delegate.requests).hasSize(1);
+        assertThat(delegate.requests.get(0)).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("미스가 여러 건인 요청은 배처를 거치지 않고 호출 스레드에서 바로 보낸다 (백필 병렬도가 배처 스레드에 묶이지 않도록)")
+    void sendsMultiTextRequestDirectly() {
+        // given - 배처를 거치면 window 때문에 제시간에 끝나지 않는다
+        model = create(60_000, 64);
+
+        // when
+        EmbeddingResponse response = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> model.call(new EmbeddingRequest(List.of("a", "b"), null)));
+
+        // then
+        assertThat(response.getResults()).hasSize(2);
+        assertThat(delegate.requests).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("다건 요청이 실패해도 배처에 모인 다른 요청은 실패하지 않는다")
+    void isolatesMultiTextFailure() {
+        // given - 단건 요청이 배처에서 window 동안 대기
+        model = create(300, 64);
+        CompletableFuture<float[]> single = CompletableFuture.supplyAsync(() -> model.embed("단건"));
+        delegate.failure = new IllegalStateException("잘못된 입력");
+
+        // when & then
+        assertThatThrownBy(() -> model.call(new EmbeddingRequest(List.of("x", "y"), null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("잘못된 입력");
+
+        delegate.failure = null;
+        assertThat(single.join()).hasSize(DIMENSIONS);
+    }
+
+    @Test
+    @DisplayName("API 호출이 실패하면 예외를 그대로 전달하고 캐시에 남기지 않는다")
+    void propagatesFailureWithoutCaching() {
+        // given
+        model = create(0, 64);
+        delegate.failure = new IllegalStateException("rate limit");
+
+        // when & then
+        assertThatThrownBy(() -> model.embed("파이썬"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("rate limit");
+
+        delegate.failure = null;
+        model.embed("파이썬");
+        assertThat(delegate.requests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Document 임베딩도 캐시를 거친다")
+    void embedsDocumentThroughCache() {
+        // given
+        model = create(0, 64);
+        Document document = new Document("알고리즘 스터디");
+
+        // when
+        float[] fromDocument = model.embed(document);
+        float[] fromText = model.embed(document.getFormattedContent(MetadataMode.EMBED));
+
+        // then
+        assertThat(fromText).isEqualTo(fromDocument);
+        assertThat(delegate.requests).hasSize(1);
+    }
+
+    private CachingBatchingEmbeddingModel create(long windowMillis, int maxBatchSize) {
+        EmbeddingCache cache = new EmbeddingCache(mock(StringRedisTemplate.class), meterRegistry,
+                MODEL, 100, Duration.ofDays(1));
+        EmbeddingBatcher batcher = new EmbeddingBatcher(delegate, meterRegistry, windowMillis, maxBatchSize, 1);
+        return new CachingBatchingEmbeddingModel(delegate, cache, batcher, MODEL);
+    }
+
+    /**
+     * API 호출(call)마다 입력 텍스트를 기록하는 모델
+     */
+    private static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        private final FakeEmbeddingModel fake = new FakeEmbeddingModel(DIMENSIONS);
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+        private volatile RuntimeException failure;
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            requests.add(List.copyOf(request.getInstructions()));
+            if (failure != null) {
+                throw failure;
+            }
+            return fake.call(request);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return fake.embed(document);
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+    }
+}
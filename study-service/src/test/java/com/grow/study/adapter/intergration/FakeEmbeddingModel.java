@@ -0,0 +1,97 @@
+package com.grow.study.adapter.intergration;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 결정적 임베딩 모델 - OpenAI 없이 임베딩 경로를 검증한다
+ *
+ * 토큰(공백 기준)과 글자 2-gram 을 해시해 차원에 더하는 feature hashing 후 정규화한다.
+ * 같은 텍스트는 항상 같은 벡터, 단어가 겹칠수록 코사인 유사도가 높아진다.
+ */
+public class FakeEmbeddingModel implements EmbeddingModel {
+
+    private final int dimensions;
+
+    public FakeEmbeddingModel(int dimensions) {
+        if (dimensions < 1) {
+            throw new IllegalArgumentException("임베딩 차원은 1 이상이어야 합니다.");
+        }
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        List<String> texts = request.getInstructions();
+        List<Embedding> embeddings = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            embeddings.add(new Embedding(embed(texts.get(i)), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        String normalized = text == null ? "" : text.toLowerCase();
+
+        for (String token : normalized.split("\\s+")) {
+            if (!token.isEmpty()) {
+                add(vector, token, 1.0f);
+            }
+        }
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            add(vector, normalized.substring(i, i + 2), 0.5f);
+        }
+        return normalize(vector);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return embed(document.getText());
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        long hash = fnv1a(feature);
+        int index = (int) Long.remainderUnsigned(hash, dimensions);
+        // 상위 비트로 부호를 정해 해시 충돌이 한쪽으로 쌓이지 않게 한다
+        vector[index] += (hash >>> 63) == 0 ? weight : -weight;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            vector[0] = 1;
+            return vector;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,68 @@
+package com.grow.study.adapter.intergration;
+
+import com.grow.study.application.StudyVectorService;
+import com.grow.study.application.required.StudyEmbeddingRepository;
+import com.grow.study.application.required.StudyRepository;
+import com.grow.study.domain.event.StudyStatusChangedEvent;
+import com.grow.study.domain.study.StudyStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudyVectorEventListener 단위 테스트 - 상태 변경 이벤트의 Document 반영
+ */
+class StudyVectorEventListenerTest {
+
+    private StudyEmbeddingRepository studyEmbeddingRepository;
+    private StudyVectorEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        studyEmbeddingRepository = mock(StudyEmbeddingRepository.class);
+        StudyVectorService studyVectorService = new StudyVectorService(mock(VectorStore.class),
+                mock(StudyRepository.class), studyEmbeddingRepository, new SimpleMeterRegistry());
+        listener = new StudyVectorEventListener(studyVectorService, mock(SlackNotifier.class));
+    }
+
+    @Test
+    @DisplayName("정산 완료(SETTLED) 이벤트를 받으면 Document 를 삭제해 검색 후보에서 뺀다")
+    void deletesDocumentWhenSettled() {
+        // when
+        listener.handleStudyStatusChangedEvent(event(1L, StudyStatus.SETTLED));
+
+        // then
+        verify(studyEmbeddingRepository).deleteByStudyId(1L);
+        verify(studyEmbeddingRepository, never()).updateStatus(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("진행 중 상태로 바뀌면 Document 는 남기고 status 메타데이터만 갱신한다")
+    void updatesStatusWhenInProgress() {
+        // given
+        when(studyEmbeddingRepository.updateStatus(1L, StudyStatus.IN_PROGRESS.name())).thenReturn(1);
+
+        // when
+        listener.handleStudyStatusChangedEvent(event(1L, StudyStatus.IN_PROGRESS));
+
+        // then
+        verify(studyEmbeddingRepository).updateStatus(1L, StudyStatus.IN_PROGRESS.name());
+        verify(studyEmbeddingRepository, never()).deleteByStudyId(anyLong());
+    }
+
+    private StudyStatusChangedEvent event(Long studyId, StudyStatus status) {
+        LocalDate today = LocalDate.of(2025, 3, 1);
+        return StudyStatusChangedEvent.of(studyId, status, today.minusDays(7), today, today.plusWeeks(8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.grow.study.adapter.persistence.dto;
+
+import com.grow.study.domain.study.DayOfWeek;
+import com.grow.study.domain.study.StudyCategory;
+import com.grow.study.domain.study.StudyLevel;
+import com.grow.study.domain.study.StudySchedule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StudyListResponse.from(StudyListRow) 단위 테스트
+ */
+class StudyListResponseTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "2025-01-06, 2025-01-06",
+            "2025-01-06, 2025-01-12",
+            "2025-01-06, 2025-01-13",
+            "2025-01-06, 2025-03-30"
+    })
+    @DisplayName("목록 프로젝션의 총 주차는 StudySchedule 과 같은 규칙으로 계산된다")
+    void totalWeeksMatchesStudySchedule(LocalDate startDate, LocalDate endDate) {
+        // given
+        StudyListRow row = row(startDate, endDate, 0L);
+        StudySchedule schedule = new StudySchedule(startDate, endDate, LocalTime.of(19, 0), LocalTime.of(21, 0),
+                startDate.minusDays(1), Set.of(DayOfWeek.MONDAY));
+
+        // when
+        StudyListResponse response = StudyListResponse.from(row);
+
+        // then
+        assertThat(response.getTotalWeeks()).isEqualTo(schedule.getTotalWeeks());
+    }
+
+    @Test
+    @DisplayName("요일 비트마스크를 진행 요일로 변환한다")
+    void convertsDaysOfWeekMask() {
+        // given - 월(1) + 수(4) + 금(16)
+        StudyListRow row = row(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 2, 28), 1L | 4L | 16L);
+
+        // when
+        StudyListResponse response = StudyListResponse.from(row);
+
+        // then
+        assertThat(response.getSchedule().getDaysOfWeek())
+                .containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+    }
+
+    @Test
+    @DisplayName("진행 요일이 없으면 빈 요일로 변환한다")
+    void convertsNullMaskToEmptyDays() {
+        // given
+        StudyListRow row = row(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 2, 28), null);
+
+        // when
+        StudyListResponse response = StudyListResponse.from(row);
+
+        // then
+        assertThat(response.getSchedule().getDaysOfWeek()).isEmpty();
+    }
+
+    private StudyListRow row(LocalDate startDate, LocalDate endDate, Long daysOfWeekMask) {
+        return new StudyListRow(1L, "스터디", null, StudyCategory.DEVELOPMENT, StudyLevel.BEGINNER,
+                startDate, endDate, LocalTime.of(19, 0), LocalTime.of(21, 0), startDate.minusDays(1),
+                10, 3, 10000, LocalDateTime.of(2025, 1, 1, 0, 0), daysOfWeekMask);
+    }
+}
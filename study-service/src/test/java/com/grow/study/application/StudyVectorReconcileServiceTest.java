@@ -0,0 +1,66 @@
+package com.grow.study.application;
+
+import com.grow.study.application.required.StudyEmbeddingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudyVectorReconcileService 단위 테스트 - 인스턴스 간 단독 실행 lease
+ */
+class StudyVectorReconcileServiceTest {
+
+    private StudyEmbeddingRepository studyEmbeddingRepository;
+    private StudyVectorBackfillCheckpointService checkpointService;
+    private StudyVectorReconcileService service;
+
+    @BeforeEach
+    void setUp() {
+        studyEmbeddingRepository = mock(StudyEmbeddingRepository.class);
+        checkpointService = mock(StudyVectorBackfillCheckpointService.class);
+        service = new StudyVectorReconcileService(studyEmbeddingRepository, mock(StudyVectorService.class),
+                checkpointService, new SimpleMeterRegistry(), 0, 600);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 lease 를 잡고 있으면 vector_store 를 읽지 않고 건너뛴다")
+    void skipsWhenLeaseIsHeld() {
+        // given
+        when(checkpointService.tryAcquire(eq(StudyVectorReconcileService.RECONCILE_LEASE), anyString(), any()))
+                .thenReturn(false);
+
+        // when & then
+        assertThat(service.tryReconcile()).isEmpty();
+        assertThatThrownBy(() -> service.reconcile()).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(studyEmbeddingRepository);
+    }
+
+    @Test
+    @DisplayName("lease 를 잡으면 실행 후 lease 를 반납한다")
+    void runsAndReleasesLease() {
+        // given
+        when(checkpointService.tryAcquire(eq(StudyVectorReconcileService.RECONCILE_LEASE), anyString(), any()))
+                .thenReturn(true);
+        when(studyEmbeddingRepository.deleteDuplicates()).thenReturn(2);
+
+        // when
+        var result = service.tryReconcile();
+
+        // then
+        assertThat(result).hasValueSatisfying(reconciled -> assertThat(reconciled.deduplicated()).isEqualTo(2));
+        verify(checkpointService).complete(eq(StudyVectorReconcileService.RECONCILE_LEASE), anyString());
+        verify(checkpointService, never()).fail(anyString(), anyString(), any());
+    }
+}
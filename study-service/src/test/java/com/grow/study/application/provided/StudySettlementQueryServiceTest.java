@@ -0,0 +1,65 @@
+package com.grow.study.application.provided;
+
+import com.grow.study.application.required.StudyRepository;
+import com.grow.study.domain.study.Study;
+import com.grow.study.domain.study.StudyStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudySettlementQueryService 단위 테스트 - 정산 완료(SETTLED) 경로
+ */
+class StudySettlementQueryServiceTest {
+
+    private StudyRepository studyRepository;
+    private StudySettlementQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        studyRepository = mock(StudyRepository.class);
+        service = new StudySettlementQueryService(studyRepository);
+    }
+
+    @Test
+    @DisplayName("정산 완료 처리 후 저장해 SETTLED 상태 변경 이벤트가 발행되게 한다")
+    void savesStudyAfterMarkingSettled() {
+        // given
+        Study study = mock(Study.class);
+        when(study.getStatus()).thenReturn(StudyStatus.COMPLETED);
+        when(studyRepository.findById(1L)).thenReturn(Optional.of(study));
+
+        // when
+        service.markAsSettled(1L);
+
+        // then - 도메인 이벤트는 save 시점에 발행되므로 상태 변경 뒤에 저장해야 한다
+        InOrder order = inOrder(study, studyRepository);
+        order.verify(study).markAsSettled();
+        order.verify(studyRepository).save(study);
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 스터디는 정산 완료 처리하지 않는다")
+    void rejectsStudyNotCompleted() {
+        // given
+        Study study = mock(Study.class);
+        when(study.getStatus()).thenReturn(StudyStatus.IN_PROGRESS);
+        when(studyRepository.findById(1L)).thenReturn(Optional.of(study));
+
+        // when & then
+        assertThatThrownBy(() -> service.markAsSettled(1L))
+                .isInstanceOf(IllegalStateException.class);
+        verify(studyRepository, never()).save(any());
+    }
+}